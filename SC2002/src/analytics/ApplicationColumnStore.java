@@ -0,0 +1,314 @@
+package analytics;
+
+import internship.ApplicationEvents;
+import internship.ApplicationStatus;
+import internship.Internship;
+import internship.InternshipApp;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Append-only columnar store of historical application status transitions.
+ * <p>
+ * Every transition published through {@link ApplicationEvents} becomes one row.
+ * Rows are held column by column in primitive arrays (status, internship,
+ * student, timestamp and company) so that report queries are simple loops
+ * over contiguous memory instead of walks over the live object graph.
+ * String columns are dictionary encoded with {@link StringDictionary}.
+ * </p>
+ * <p>
+ * On disk each column is its own binary file under {@link #DEFAULT_DIR}; each
+ * dictionary is a text file with one value per line (line number = code).
+ * {@link #flush()} only appends rows and dictionary entries added since the
+ * previous flush, so the files are never rewritten.
+ * </p>
+ */
+public class ApplicationColumnStore implements ApplicationEvents.Listener {
+    public static final String DEFAULT_DIR = "data/analytics";
+    /** Timestamp of back-filled rows, whose real transition time is unknown. */
+    public static final long UNKNOWN_TIME = Long.MIN_VALUE;
+
+    private static final ApplicationColumnStore INSTANCE = new ApplicationColumnStore();
+    public static ApplicationColumnStore get() { return INSTANCE; }
+
+    private static final int STATUS_COUNT = ApplicationStatus.values().length;
+
+    private final StringDictionary internshipDict = new StringDictionary();
+    private final StringDictionary studentDict = new StringDictionary();
+    private final StringDictionary companyDict = new StringDictionary();
+
+    private byte[] status = new byte[1024];
+    private int[] internship = new int[1024];
+    private int[] student = new int[1024];
+    private long[] ts = new long[1024];
+    private int[] company = new int[1024];
+    private int size = 0;
+
+    private Path dir = Path.of(DEFAULT_DIR);
+    private int persistedRows = 0;
+    private int persistedInternships = 0, persistedStudents = 0, persistedCompanies = 0;
+
+    private ApplicationColumnStore() {}
+
+    /* -------- Ingest -------- */
+
+    @Override
+    public void onTransition(InternshipApp app, ApplicationStatus from, ApplicationStatus to, long at) {
+        Internship i = app.getInternship();
+        append(i != null ? i.getId() : "",
+               app.getStudent() != null ? app.getStudent().getUserId() : "",
+               i != null ? i.getCompanyName() : "",
+               to, at);
+    }
+
+    /**
+     * Append a single row.
+     */
+    public synchronized void append(String internshipId, String studentId, String companyName,
+                                    ApplicationStatus s, long at) {
+        ensureCapacity(size + 1);
+        status[size] = (byte) s.ordinal();
+        internship[size] = internshipDict.encode(internshipId);
+        student[size] = studentDict.encode(studentId);
+        company[size] = companyDict.encode(companyName);
+        ts[size] = at;
+        size++;
+    }
+
+    /**
+     * Backfill the store from current application state the first time it is
+     * used, so historical reports are not empty on an existing data set.
+     * When these transitions happened is not known, so the rows are stamped
+     * {@link #UNKNOWN_TIME}: they count towards all-time totals but never
+     * fall inside a time window.
+     *
+     * @param apps applications currently known to the repository
+     */
+    public synchronized void seedIfEmpty(List<InternshipApp> apps) {
+        if (size > 0 || apps == null) return;
+        for (InternshipApp a : apps) {
+            onTransition(a, null, ApplicationStatus.PENDING, UNKNOWN_TIME);
+            if (a.getStatus() != ApplicationStatus.PENDING) onTransition(a, ApplicationStatus.PENDING, a.getStatus(), UNKNOWN_TIME);
+        }
+    }
+
+    private void ensureCapacity(int need) {
+        if (need <= status.length) return;
+        int cap = Math.max(need, status.length + (status.length >> 1));
+        status = Arrays.copyOf(status, cap);
+        internship = Arrays.copyOf(internship, cap);
+        student = Arrays.copyOf(student, cap);
+        ts = Arrays.copyOf(ts, cap);
+        company = Arrays.copyOf(company, cap);
+    }
+
+    /* -------- Scan operators -------- */
+
+    /** @return number of recorded transitions */
+    public synchronized int size() { return size; }
+
+    /**
+     * Count transitions into each status within a time window. Back-filled
+     * rows ({@link #UNKNOWN_TIME}) are never counted.
+     *
+     * @param fromMillis inclusive lower bound (epoch ms)
+     * @param toMillis   exclusive upper bound (epoch ms)
+     * @return counts indexed by {@link ApplicationStatus#ordinal()}
+     */
+    public synchronized int[] countByStatus(long fromMillis, long toMillis) {
+        int[] counts = new int[STATUS_COUNT];
+        final long[] t = ts; final byte[] st = status; final int n = size;
+        for (int r = 0; r < n; r++) {
+            long x = t[r];
+            counts[st[r]] += (x != UNKNOWN_TIME && x >= fromMillis && x < toMillis) ? 1 : 0;
+        }
+        return counts;
+    }
+
+    /** @return transition counts per status over the whole history, back-filled rows included */
+    public synchronized int[] countByStatus() {
+        int[] counts = new int[STATUS_COUNT];
+        final byte[] st = status; final int n = size;
+        for (int r = 0; r < n; r++) counts[st[r]]++;
+        return counts;
+    }
+
+    /** @return number of back-filled rows, whose transition time is unknown */
+    public synchronized int untimedCount() {
+        int c = 0;
+        final long[] t = ts; final int n = size;
+        for (int r = 0; r < n; r++) c += t[r] == UNKNOWN_TIME ? 1 : 0;
+        return c;
+    }
+
+    /**
+     * Count transitions into the given status grouped by company.
+     *
+     * @param s status to count
+     * @return counts indexed by company code (see {@link #companyName(int)})
+     */
+    public synchronized int[] countByCompany(ApplicationStatus s) {
+        int[] counts = new int[companyDict.size()];
+        final byte code = (byte) s.ordinal();
+        final byte[] st = status; final int[] co = company; final int n = size;
+        for (int r = 0; r < n; r++) {
+            counts[co[r]] += st[r] == code ? 1 : 0;
+        }
+        return counts;
+    }
+
+    /**
+     * Count transitions into the given status grouped by internship.
+     *
+     * @param s status to count
+     * @return counts indexed by internship code (see {@link #internshipId(int)})
+     */
+    public synchronized int[] countByInternship(ApplicationStatus s) {
+        int[] counts = new int[internshipDict.size()];
+        final byte code = (byte) s.ordinal();
+        final byte[] st = status; final int[] in = internship; final int n = size;
+        for (int r = 0; r < n; r++) {
+            counts[in[r]] += st[r] == code ? 1 : 0;
+        }
+        return counts;
+    }
+
+    /**
+     * @param s status to match, or {@code null} for any status
+     * @return number of distinct students with at least one matching row
+     */
+    public synchronized int distinctStudents(ApplicationStatus s) {
+        BitSet seen = new BitSet(studentDict.size());
+        final int[] sd = student; final byte[] st = status; final int n = size;
+        for (int r = 0; r < n; r++) {
+            if (s == null || st[r] == s.ordinal()) seen.set(sd[r]);
+        }
+        return seen.cardinality();
+    }
+
+    /** @return index of the largest value in {@code counts}, or -1 if all are zero */
+    public static int argMax(int[] counts) {
+        int best = -1;
+        for (int k = 0; k < counts.length; k++) {
+            if (counts[k] > 0 && (best < 0 || counts[k] > counts[best])) best = k;
+        }
+        return best;
+    }
+
+    public synchronized String companyName(int code) { return companyDict.decode(code); }
+    public synchronized String internshipId(int code) { return internshipDict.decode(code); }
+
+    /* -------- Persistence -------- */
+
+    /**
+     * Load all column files from the given directory, replacing in-memory data.
+     * Missing files yield an empty store.
+     *
+     * @param directory folder holding the column and dictionary files
+     */
+    public synchronized void load(String directory) {
+        this.dir = Path.of(directory);
+        size = 0;
+        internshipDict.clearForLoad(); studentDict.clearForLoad(); companyDict.clearForLoad();
+        try {
+            readDict("internship.dict", internshipDict);
+            readDict("student.dict", studentDict);
+            readDict("company.dict", companyDict);
+
+            byte[] st = readBytes("status.col");
+            int rows = st.length;
+            int[] in = readInts("internship.col"); rows = Math.min(rows, in.length);
+            int[] sd = readInts("student.col");    rows = Math.min(rows, sd.length);
+            int[] co = readInts("company.col");    rows = Math.min(rows, co.length);
+            long[] t = readLongs("ts.col");        rows = Math.min(rows, t.length);
+
+            ensureCapacity(rows);
+            System.arraycopy(st, 0, status, 0, rows);
+            System.arraycopy(in, 0, internship, 0, rows);
+            System.arraycopy(sd, 0, student, 0, rows);
+            System.arraycopy(co, 0, company, 0, rows);
+            System.arraycopy(t, 0, ts, 0, rows);
+            size = rows;
+        } catch (IOException e) {
+            System.out.println("Error loading analytics store: " + e.getMessage());
+            size = 0;
+        }
+        persistedRows = size;
+        persistedInternships = internshipDict.size();
+        persistedStudents = studentDict.size();
+        persistedCompanies = companyDict.size();
+    }
+
+    /**
+     * Append rows and dictionary entries recorded since the last flush.
+     */
+    public synchronized void flush() {
+        if (persistedRows == size) return;
+        try {
+            Files.createDirectories(dir);
+            persistedInternships = appendDict("internship.dict", internshipDict, persistedInternships);
+            persistedStudents = appendDict("student.dict", studentDict, persistedStudents);
+            persistedCompanies = appendDict("company.dict", companyDict, persistedCompanies);
+
+            try (DataOutputStream st = open("status.col"); DataOutputStream in = open("internship.col");
+                 DataOutputStream sd = open("student.col"); DataOutputStream co = open("company.col");
+                 DataOutputStream t = open("ts.col")) {
+                for (int r = persistedRows; r < size; r++) {
+                    st.writeByte(status[r]);
+                    in.writeInt(internship[r]);
+                    sd.writeInt(student[r]);
+                    co.writeInt(company[r]);
+                    t.writeLong(ts[r]);
+                }
+            }
+            persistedRows = size;
+        } catch (IOException e) {
+            System.out.println("Error saving analytics store: " + e.getMessage());
+        }
+    }
+
+    private DataOutputStream open(String name) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(dir.resolve(name).toFile(), true), 1 << 16));
+    }
+
+    private int appendDict(String name, StringDictionary dict, int from) throws IOException {
+        if (from == dict.size()) return from;
+        try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(dir.resolve(name).toFile(), true), StandardCharsets.UTF_8))) {
+            for (int c = from; c < dict.size(); c++) pw.println(dict.decode(c).replace('\n', ' '));
+        }
+        return dict.size();
+    }
+
+    private void readDict(String name, StringDictionary dict) throws IOException {
+        Path p = dir.resolve(name);
+        if (!Files.exists(p)) return;
+        for (String line : Files.readAllLines(p, StandardCharsets.UTF_8)) dict.append(line);
+    }
+
+    private byte[] readBytes(String name) throws IOException {
+        Path p = dir.resolve(name);
+        return Files.exists(p) ? Files.readAllBytes(p) : new byte[0];
+    }
+
+    private int[] readInts(String name) throws IOException {
+        byte[] raw = readBytes(name);
+        int[] out = new int[raw.length / Integer.BYTES];
+        java.nio.ByteBuffer.wrap(raw).asIntBuffer().get(out);
+        return out;
+    }
+
+    private long[] readLongs(String name) throws IOException {
+        byte[] raw = readBytes(name);
+        long[] out = new long[raw.length / Long.BYTES];
+        java.nio.ByteBuffer.wrap(raw).asLongBuffer().get(out);
+        return out;
+    }
+}
@@ -0,0 +1,209 @@
+package analytics;
+
+import internship.ApplicationEvents;
+import internship.ApplicationStatus;
+import internship.InternshipApp;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Time-stamped log of application status transitions used for latency metrics
+ * (time-to-decision, time-to-accept, time-to-withdraw).
+ * <p>
+ * Events are kept in a fixed-capacity ring buffer: timestamps and statuses live
+ * in primitive arrays and the oldest event is overwritten once the buffer is
+ * full, so memory stays bounded no matter how long the system runs. The buffer
+ * is persisted to {@link #DEFAULT_FILE} on save and reloaded on start.
+ * </p>
+ */
+public class LifecycleEventLog implements ApplicationEvents.Listener {
+    public static final String DEFAULT_FILE = "data/lifecycle_events.csv";
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final LifecycleEventLog INSTANCE = new LifecycleEventLog(DEFAULT_CAPACITY);
+    public static LifecycleEventLog get() { return INSTANCE; }
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    private static final byte NONE = -1;
+
+    private final int capacity;
+    private final long[] at;
+    private final byte[] from;
+    private final byte[] to;
+    private final String[] appId;
+    private final String[] company;
+    private int head = 0;   // next write position
+    private int count = 0;
+
+    public LifecycleEventLog(int capacity) {
+        this.capacity = Math.max(16, capacity);
+        this.at = new long[this.capacity];
+        this.from = new byte[this.capacity];
+        this.to = new byte[this.capacity];
+        this.appId = new String[this.capacity];
+        this.company = new String[this.capacity];
+    }
+
+    @Override
+    public void onTransition(InternshipApp app, ApplicationStatus f, ApplicationStatus t, long when) {
+        String co = app.getInternship() != null ? app.getInternship().getCompanyName() : "";
+        record(app.getId(), co, f, t, when);
+    }
+
+    /**
+     * Append one event, overwriting the oldest when the buffer is full.
+     */
+    public synchronized void record(String id, String companyName, ApplicationStatus f, ApplicationStatus t, long when) {
+        at[head] = when;
+        from[head] = f == null ? NONE : (byte) f.ordinal();
+        to[head] = (byte) t.ordinal();
+        appId[head] = id;
+        company[head] = companyName == null ? "" : companyName;
+        head = (head + 1) % capacity;
+        if (count < capacity) count++;
+    }
+
+    /** @return number of events currently retained */
+    public synchronized int size() { return count; }
+
+    /** Physical index of the k-th oldest retained event. */
+    private int slot(int k) { return (head - count + k + capacity) % capacity; }
+
+    /* -------- Latency metrics -------- */
+
+    /**
+     * Latency percentiles for one (company, transition) pair.
+     */
+    public static class LatencyStats {
+        public final String company;
+        public final ApplicationStatus from;
+        public final ApplicationStatus to;
+        public final int samples;
+        public final long p50, p95, p99;   // milliseconds
+
+        LatencyStats(String company, ApplicationStatus from, ApplicationStatus to, long[] sorted, int n) {
+            this.company = company; this.from = from; this.to = to; this.samples = n;
+            this.p50 = percentile(sorted, n, 50);
+            this.p95 = percentile(sorted, n, 95);
+            this.p99 = percentile(sorted, n, 99);
+        }
+
+        /** Nearest-rank percentile over the first {@code n} sorted values. */
+        static long percentile(long[] sorted, int n, int p) {
+            int rank = (int) Math.ceil(p / 100.0 * n);
+            return sorted[Math.max(0, Math.min(n - 1, rank - 1))];
+        }
+
+        public String transition() { return from + " -> " + to; }
+    }
+
+    /**
+     * Compute transition latency percentiles per company.
+     * <p>
+     * The latency of an event {@code X -> Y} is the time since the same
+     * application entered {@code X}. Events whose start was already evicted
+     * from the ring buffer are skipped.
+     * </p>
+     *
+     * @return stats ordered by company then transition
+     */
+    public synchronized List<LatencyStats> latencyByCompany() {
+        Map<String, Long> enteredAt = new HashMap<>();
+        // key: case-folded company + from + to, so one company's samples share a group however it is spelled
+        Map<String, Samples> groups = new TreeMap<>();
+
+        for (int k = 0; k < count; k++) {
+            int s = slot(k);
+            String id = appId[s];
+            if (from[s] != NONE) {
+                Long start = enteredAt.get(id + '#' + from[s]);
+                if (start != null) {
+                    String key = company[s].toLowerCase(Locale.ROOT) + '\u0000' + from[s] + '\u0000' + to[s];
+                    groups.computeIfAbsent(key, x -> new Samples(company[s], from[s], to[s]))
+                          .add(Math.max(0, at[s] - start));
+                }
+            }
+            enteredAt.put(id + '#' + to[s], at[s]);
+        }
+
+        List<LatencyStats> out = new ArrayList<>();
+        for (Samples g : groups.values()) {
+            Arrays.sort(g.values, 0, g.n);
+            out.add(new LatencyStats(g.company, STATUSES[g.from], STATUSES[g.to], g.values, g.n));
+        }
+        return out;
+    }
+
+    /** Latencies collected for one (company, transition) pair; the company as first spelled. */
+    private static final class Samples {
+        final String company;
+        final byte from, to;
+        long[] values = new long[8];
+        int n;
+
+        Samples(String company, byte from, byte to) { this.company = company; this.from = from; this.to = to; }
+
+        void add(long v) {
+            if (n == values.length) values = Arrays.copyOf(values, n * 2);
+            values[n++] = v;
+        }
+    }
+
+    /**
+     * Format a millisecond duration compactly (e.g. {@code 2d 4h}, {@code 35m}).
+     */
+    public static String formatDuration(long ms) {
+        long s = ms / 1000, m = s / 60, h = m / 60, d = h / 24;
+        if (d > 0) return d + "d " + (h % 24) + "h";
+        if (h > 0) return h + "h " + (m % 60) + "m";
+        if (m > 0) return m + "m " + (s % 60) + "s";
+        return s + "s";
+    }
+
+    /* -------- Persistence -------- */
+
+    /**
+     * Load retained events from CSV, replacing the buffer contents.
+     * Format: at,appId,company,from,to (from is blank for creation events).
+     */
+    public synchronized void load(String filename) {
+        head = 0; count = 0;
+        Path p = Path.of(filename);
+        if (!Files.exists(p)) return;
+        try (BufferedReader br = Files.newBufferedReader(p)) {
+            String line = br.readLine(); // header
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank()) continue;
+                String[] f = line.split(",", -1);
+                if (f.length < 5) continue;
+                try {
+                    record(f[1], f[2], f[3].isBlank() ? null : ApplicationStatus.valueOf(f[3]),
+                           ApplicationStatus.valueOf(f[4]), Long.parseLong(f[0]));
+                } catch (IllegalArgumentException e) {
+                    // skip malformed row
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading lifecycle events: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Persist the retained events (oldest first) to CSV.
+     */
+    public synchronized void save(String filename) {
+        try (PrintWriter pw = new PrintWriter(new BufferedWriter(new FileWriter(filename)))) {
+            pw.println("at,appId,company,from,to");
+            for (int k = 0; k < count; k++) {
+                int s = slot(k);
+                pw.printf("%d,%s,%s,%s,%s%n", at[s], appId[s], company[s].replace(",", ";"),
+                        from[s] == NONE ? "" : STATUSES[from[s]].name(), STATUSES[to[s]].name());
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving lifecycle events: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for string columns.
+ * <p>
+ * Each distinct value is assigned a dense integer code in insertion order so
+ * that columns can be stored as {@code int[]} and grouped by array index.
+ * Lookups are case-insensitive; the first spelling seen is kept for display.
+ * </p>
+ */
+public class StringDictionary {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * Return the code for a value, assigning a new one if it has not been seen.
+     *
+     * @param value the value to encode ({@code null} is stored as an empty string)
+     * @return the dense code for the value
+     */
+    public int encode(String value) {
+        String v = value == null ? "" : value;
+        Integer code = codes.get(v.toLowerCase());
+        if (code != null) return code;
+        int next = values.size();
+        values.add(v);
+        codes.put(v.toLowerCase(), next);
+        return next;
+    }
+
+    /**
+     * Append a value read back from storage. The value always receives the
+     * next code so that codes keep matching their on-disk positions.
+     */
+    void append(String value) {
+        String v = value == null ? "" : value;
+        codes.putIfAbsent(v.toLowerCase(), values.size());
+        values.add(v);
+    }
+
+    /** Drop all entries before reloading from storage. */
+    void clearForLoad() { codes.clear(); values.clear(); }
+
+    /** @return the code for a value, or -1 if it has never been encoded */
+    public int lookup(String value) {
+        Integer code = codes.get(value == null ? "" : value.toLowerCase());
+        return code == null ? -1 : code;
+    }
+
+    /** @return the value for a code */
+    public String decode(int code) { return values.get(code); }
+
+    /** @return number of distinct values */
+    public int size() { return values.size(); }
+}
@@ -1,10 +1,14 @@
 package app;
 
+import audit.AuditLog;
 import storage.CsvStorage;
 import storage.Storage;
+import util.Screen;
 
 public class Main {
     public static void main(String[] args) {
+        // Everything printed, including by code that still uses System.out, goes through the console screen
+        System.setOut(Screen.console().out());
         Storage storage = new CsvStorage(
             "data/sample_student_list.csv",
             "data/sample_staff_list.csv",
@@ -17,6 +21,7 @@ public class Main {
         System.out.println("Welcome to the Internship Placement Management System!\n");
         app.entryScreen();      // Login / Register Rep
         app.saveAll();
+        AuditLog.get().close();
         System.out.println("Goodbye!");
     }
 }
\ No newline at end of file
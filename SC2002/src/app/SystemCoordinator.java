@@ -1,8 +1,13 @@
 package app;
 
+import analytics.ApplicationColumnStore;
+import analytics.LifecycleEventLog;
+import audit.AuditLog;
+import commands.CommandManager;
 import auth.AuthControl;
 import auth.AuthUI;
 import internship.*;
+import java.io.PrintStream;
 import java.util.*;
 import menu.CompanyRepMenu.CompanyRepMenuControl;
 import menu.CompanyRepMenu.CompanyRepMenuUI;
@@ -10,10 +15,14 @@ import menu.StaffMenu.StaffMenuControl;
 import menu.StaffMenu.StaffMenuUI;
 import menu.StudentMenu.StudentMenuControl;
 import menu.StudentMenu.StudentMenuUI;
+import notification.NotificationCenter;
 import notification.NotificationService;
+import notification.WaitlistService;
 import repository.Repository;
+import scheduler.DeadlineScheduler;
 import storage.Storage;
 import user.*;
+import util.Screen;
 import withdrawal.WithdrawalQueue;
 
 public class SystemCoordinator {
@@ -22,7 +31,9 @@ public class SystemCoordinator {
      * repository, authentication and top-level menu UIs for different user roles.
      */
     private final Storage storage;
-    private final Scanner sc = new Scanner(System.in);
+    private final Screen screen;
+    private final Scanner sc;
+    private final PrintStream out;
     private Repository repository;
 
     private final List<Student> students = new ArrayList<>();
@@ -32,23 +43,34 @@ public class SystemCoordinator {
     private final List<InternshipApp> applications = new ArrayList<>();
     private final List<User> users = new ArrayList<>();
 
-    private final WithdrawalQueue withdrawalQueue = new WithdrawalQueue();
-    private final NotificationService notices = new NotificationService();
+    private final WithdrawalQueue withdrawalQueue = WithdrawalQueue.get();
+    private final NotificationService notices = NotificationService.get();
 
     private final AuthUI auth;
 
     public SystemCoordinator(Storage storage) {
+        this(storage, Screen.console());
+    }
+
+    /**
+     * @param storage where the system's data is loaded from and saved to
+     * @param screen the session the entry screen and menus run on
+     */
+    public SystemCoordinator(Storage storage, Screen screen) {
         if (storage == null) {
             throw new IllegalArgumentException("Storage cannot be null.");
         }
         this.storage = storage;
+        this.screen = screen;
+        this.sc = screen.scanner();
+        this.out = screen.out();
 
         // Set storage targets
         storage.setTargets(students, staff, reps, internships, applications);
 
         // Initialize authentication
         AuthControl authControl = new AuthControl(users);
-        this.auth = new AuthUI(sc, students, staff, reps, users, internships, applications, authControl);
+        this.auth = new AuthUI(screen, students, staff, reps, users, internships, applications, authControl);
     }
 
     public void loadAll() {
@@ -64,10 +86,40 @@ public class SystemCoordinator {
         rebuildUsers();
         Repository.bootstrap(users, internships, applications);
 
+        // Historical analytics: reload the columnar store and keep it fed from status transitions
+        ApplicationColumnStore history = ApplicationColumnStore.get();
+        history.load(ApplicationColumnStore.DEFAULT_DIR);
+        history.seedIfEmpty(applications);
+        ApplicationEvents.register(history);
+
+        // Lifecycle latency: ring-buffered, time-stamped transitions for percentile reports
+        LifecycleEventLog lifecycle = LifecycleEventLog.get();
+        lifecycle.load(LifecycleEventLog.DEFAULT_FILE);
+        ApplicationEvents.register(lifecycle);
+
+        // Inboxes are restored into the bootstrapped users; delivery itself is asynchronous
+        notices.load(NotificationService.DEFAULT_FILE);
+
+        // Waitlists: restore queues and promote the next student whenever a confirmed slot is freed
+        WaitlistService.load(WaitlistService.DEFAULT_FILE);
+        ApplicationEvents.register(NotificationCenter.PROMOTER);
+
+        // Withdrawal requests: the queue is authoritative; flagged apps from older data are migrated in
+        withdrawalQueue.load(WithdrawalQueue.DEFAULT_FILE, Repository.findAllApplications());
+        ApplicationEvents.register(WithdrawalQueue.CLOSER);
+
+        // Deadlines: apply date events that passed while the system was down (after waitlists and inboxes load)
+        DeadlineScheduler deadlines = DeadlineScheduler.get();
+        deadlines.load(DeadlineScheduler.DEFAULT_FILE);
+        deadlines.advance();
+
+        // Undo/redo journal resolves entities by id, so it loads after bootstrap
+        CommandManager.get().load(CommandManager.JOURNAL_FILE);
+
         long stu = users.stream().filter(u -> u instanceof Student).count();
         long stf = users.stream().filter(u -> u instanceof CareerCentreStaff).count();
         long rep = users.stream().filter(u -> u instanceof CompanyRep).count();
-        System.out.printf("[DEBUG] Loaded: %d students, %d staff, %d reps, %d internships, %d applications%n",
+        out.printf("[DEBUG] Loaded: %d students, %d staff, %d reps, %d internships, %d applications%n",
                 stu, stf, rep, internships.size(), applications.size());
     }
 
@@ -105,6 +157,12 @@ public class SystemCoordinator {
         applications.addAll(Repository.findAllApplications());
         
         storage.saveAll();
+        ApplicationColumnStore.get().flush();
+        LifecycleEventLog.get().save(LifecycleEventLog.DEFAULT_FILE);
+        WaitlistService.save(WaitlistService.DEFAULT_FILE);
+        withdrawalQueue.save(WithdrawalQueue.DEFAULT_FILE);
+        DeadlineScheduler.get().save(DeadlineScheduler.DEFAULT_FILE);
+        notices.save(NotificationService.DEFAULT_FILE);
     }
 
     private void rebuildUsers() {
@@ -116,19 +174,19 @@ public class SystemCoordinator {
 
     public void entryScreen() {
         while (true) {
-            System.out.println("1) Login");
-            System.out.println("2) Register as Company Representative");
-            System.out.println("0) Exit");
-            System.out.print("Select: ");
+            out.println("1) Login");
+            out.println("2) Register as Company Representative");
+            out.println("0) Exit");
+            out.print("Select: ");
             String c = sc.nextLine().trim();
             switch (c) {
                 case "1" -> handleLogin();
                 case "2" -> handleRegisterRep();
                 case "0" -> {
-                    System.out.println("Exiting system. Goodbye!");
+                    out.println("Exiting system. Goodbye!");
                     return;
                 }
-                default -> System.out.println("Invalid selection. Please try again.");
+                default -> out.println("Invalid selection. Please try again.");
             }
         }
     }
@@ -137,22 +195,24 @@ public class SystemCoordinator {
         User authenticated = auth.loginFlow();
         if (authenticated != null) {
             AppState.get().setCurrentUser(authenticated);
-            System.out.println("Welcome, " + authenticated.getName());
+            AuditLog.get().record("LOGIN", authenticated.getClass().getSimpleName());
+            out.println("Welcome, " + authenticated.getName());
+            notices.flush(); // make sure queued notices are in the inbox before showing it
             if (!authenticated.getInbox().isEmpty()) {
-                System.out.println("\nNotifications:");
-                authenticated.getInbox().forEach(m -> System.out.println(" - " + m));
+                out.println("\nNotifications:");
+                authenticated.getInbox().forEach(m -> out.println(" - " + m));
             }
 
             // Handle user-specific menus
             if (authenticated instanceof Student s) {
-                StudentMenuControl control = new StudentMenuControl(s, sc);
-                new StudentMenuUI(control).run();
+                StudentMenuControl control = new StudentMenuControl(s, screen);
+                new StudentMenuUI(control, screen).run();
                 // Sync applications in case student applied for internships
                 applications.clear();
                 applications.addAll(Repository.findAllApplications());
             } else if (authenticated instanceof CompanyRep r) {
-                CompanyRepMenuControl control = new CompanyRepMenuControl(r, sc);
-                new CompanyRepMenuUI(control).run();
+                CompanyRepMenuControl control = new CompanyRepMenuControl(r, screen);
+                new CompanyRepMenuUI(control, screen).run();
                 // Sync internships and fix their postedBy references to the current rep objects
                 internships.clear();
                 for (Internship i : Repository.findAllInternships()) {
@@ -167,8 +227,8 @@ public class SystemCoordinator {
                     internships.add(i);
                 }
             } else if (authenticated instanceof CareerCentreStaff ccs) {
-                StaffMenuControl control = new StaffMenuControl(ccs, sc);
-                new StaffMenuUI(control).run();
+                StaffMenuControl control = new StaffMenuControl(ccs, screen);
+                new StaffMenuUI(control, screen).run();
                 // Sync all users back from Repository in case staff approved new reps or changed user data
                 students.clear();
                 staff.clear();
@@ -195,10 +255,12 @@ public class SystemCoordinator {
                 }
             }
 
+            AuditLog.get().record("LOGOUT", authenticated.getClass().getSimpleName());
             AppState.get().clearCurrentUser();
-            System.out.println("Logged out.");
+            out.println("Logged out.");
         } else {
-            System.out.println("Login failed. Please try again.");
+            AuditLog.get().record("LOGIN_FAILED", "Auth");
+            out.println("Login failed. Please try again.");
         }
     }
 
@@ -206,9 +268,9 @@ public class SystemCoordinator {
         CompanyRep created = auth.registerRepFlow();
         if (created != null) {
             rebuildUsers();
-            System.out.println("Registration successful. Welcome, " + created.getName());
+            out.println("Registration successful. Welcome, " + created.getName());
         } else {
-            System.out.println("Registration failed. Please try again.");
+            out.println("Registration failed. Please try again.");
         }
     }
 
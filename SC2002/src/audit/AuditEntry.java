@@ -1,16 +1,19 @@
 package audit;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * Represents a single immutable entry in the system's audit log.
  * <p>
  * Each entry captures a specific event containing the timestamp of occurrence,
- * the action performed, and the system phase (context) in which it happened.
+ * the actor responsible, the action performed, and the system phase (context)
+ * in which it happened.
  * </p>
  */
 public class AuditEntry {
-    private final LocalDateTime ts; private final String action; private final String phase;
+    private final LocalDateTime ts; private final String actor; private final String action; private final String phase;
 
     /**
      * Constructs a new {@code AuditEntry} with the specified details.
@@ -19,13 +22,60 @@ public class AuditEntry {
      * @param action A {@code String} describing the action performed (e.g., "LOGIN", "SUBMIT_APP").
      * @param phase  A {@code String} indicating the system context or phase (e.g., "StudentMenu", "AdminOps").
      */
-    public AuditEntry(LocalDateTime ts, String action, String phase){ this.ts=ts; this.action=action; this.phase=phase; }
+    public AuditEntry(LocalDateTime ts, String action, String phase){ this(ts, "system", action, phase); }
+
+    /**
+     * Constructs a new {@code AuditEntry} attributed to an actor.
+     *
+     * @param ts     The {@link LocalDateTime} timestamp indicating when the event occurred.
+     * @param actor  The user id (or {@code "system"}) responsible for the event.
+     * @param action A {@code String} describing the action performed.
+     * @param phase  A {@code String} indicating the system context or phase.
+     */
+    public AuditEntry(LocalDateTime ts, String actor, String action, String phase){
+        this.ts=ts; this.actor=actor == null ? "system" : actor; this.action=action; this.phase=phase;
+    }
+
+    public LocalDateTime getTimestamp(){ return ts; }
+    public String getActor(){ return actor; }
+    public String getAction(){ return action; }
+    public String getPhase(){ return phase; }
+
+    /**
+     * Serialise to a single log line: {@code epochMillis|actor|action|phase}.
+     * Field separators inside values are replaced so the line stays parseable.
+     *
+     * @return the log line (without trailing newline)
+     */
+    String toLogLine(){
+        long ms = ts.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return ms + "|" + clean(actor) + "|" + clean(action) + "|" + clean(phase);
+    }
+
+    /**
+     * Parse a line written by {@link #toLogLine()}.
+     *
+     * @param line the log line
+     * @return the entry, or {@code null} if the line is malformed
+     */
+    static AuditEntry fromLogLine(String line){
+        String[] f = line.split("\\|", 4);
+        if (f.length < 4) return null;
+        try {
+            LocalDateTime ts = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(f[0])), ZoneId.systemDefault());
+            return new AuditEntry(ts, f[1], f[2], f[3]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String clean(String s){ return s == null ? "" : s.replace('|', '/').replace('\n', ' '); }
 
     /**
      * Returns a string representation of this audit entry.
-     * The format used is: {@code timestamp | action | phase}.
+     * The format used is: {@code timestamp | actor | action | phase}.
      *
      * @return A formatted string representing the audit log entry.
      */
-    @Override public String toString(){ return ts + " | " + action + " | " + phase; }
-}
\ No newline at end of file
+    @Override public String toString(){ return ts + " | " + actor + " | " + action + " | " + phase; }
+}
@@ -1,41 +1,211 @@
 package audit;
 
+import app.AppState;
+import util.MpscRingBuffer;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * Manages the collection of audit entries for the system.
+ * Asynchronous, persisted audit log shared by the whole system.
+ * <p>
+ * Producers (commands, approvals, withdrawals, logins) call {@link #record}
+ * which only appends to a bounded lock-free {@link MpscRingBuffer} and never
+ * blocks. A daemon writer thread drains the buffer in batches to an
+ * append-only file under {@link #DEFAULT_DIR}; when the active file exceeds
+ * {@link #MAX_FILE_BYTES} it is rotated to {@code audit.log.1},
+ * {@code audit.log.2}, ... keeping at most {@link #MAX_ROTATED_FILES} old files.
+ * A batch whose write fails is kept and written first on the next attempt.
+ * </p>
  * <p>
- * This class serves as a centralized log, maintaining a chronological list of
- * {@link AuditEntry} objects. It provides functionality to record new events
- * with automatic timestamping and to display the entire log history.
+ * {@link #query} reads the rotated files back so entries can be searched by
+ * time range and actor across runs.
  * </p>
  */
 public class AuditLog {
-    private final List<AuditEntry> entries = new ArrayList<>();
+    public static final String DEFAULT_DIR = "data/audit";
+    public static final String FILE_NAME = "audit.log";
+    public static final long MAX_FILE_BYTES = 1L << 20;
+    public static final int MAX_ROTATED_FILES = 5;
+
+    private static final int BUFFER_CAPACITY = 4096;
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private static final AuditLog INSTANCE = new AuditLog(DEFAULT_DIR);
+
+    /** @return the shared audit log */
+    public static AuditLog get() { return INSTANCE; }
+
+    private final MpscRingBuffer<AuditEntry> buffer = new MpscRingBuffer<>(BUFFER_CAPACITY);
+    private final Path dir;
+    private final LocalDateTime sessionStart = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    private final Object writeLock = new Object();
+    /** Entries taken from the buffer but not yet known to be on disk; guarded by {@code writeLock}. */
+    private final List<AuditEntry> unwritten = new ArrayList<>();
+    private long lost = 0;
+    private volatile boolean running = true;
+    private final Thread writer;
+
+    private AuditLog(String directory) {
+        this.dir = Path.of(directory);
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Records a new action attributed to the currently logged-in user
+     * (or {@code "system"} when nobody is logged in).
+     *
+     * @param action A {@code String} description of the action performed.
+     * @param phase  A {@code String} description of the system phase or context.
+     */
+    public void record(String action, String phase){
+        var u = AppState.get().getCurrentUser();
+        record(u != null ? u.getUserId() : "system", action, phase);
+    }
 
     /**
-     * Records a new action in the audit log.
-     * <p>
-     * This method creates a new {@link AuditEntry} using the current system time
-     * ({@link LocalDateTime#now()}) and adds it to the internal record list.
-     * </p>
+     * Records a new action for an explicit actor. Never blocks; if the buffer
+     * is full the entry is dropped and counted (see {@link #droppedCount()}).
      *
+     * @param actor  user id responsible for the action
      * @param action A {@code String} description of the action performed.
      * @param phase  A {@code String} description of the system phase or context.
      */
-    public void record(String action, String phase){ entries.add(new AuditEntry(LocalDateTime.now(), action, phase)); }
+    public void record(String actor, String action, String phase){
+        if (!buffer.offer(new AuditEntry(LocalDateTime.now(), actor, action, phase))) return;
+        if (buffer.size() >= BATCH_SIZE) LockSupport.unpark(writer);
+    }
+
+    /** @return number of entries dropped because the buffer was full or the disk kept failing */
+    public long droppedCount() {
+        synchronized (writeLock) { return buffer.dropped() + lost; }
+    }
+
+    /* -------- Writer -------- */
+
+    private void writeLoop() {
+        while (running) {
+            if (drainToFile() == 0) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Drain everything currently buffered to disk. Serialised on
+     * {@code writeLock} so the ring buffer keeps a single consumer.
+     * Entries stay in {@code unwritten} until the file holding them has been
+     * closed, so a failed write loses nothing while the backlog fits in
+     * {@value #BUFFER_CAPACITY} entries; beyond that the oldest are dropped.
+     *
+     * @return number of entries written
+     */
+    private int drainToFile() {
+        synchronized (writeLock) {
+            int n;
+            do n = buffer.drain(unwritten::add, BATCH_SIZE);
+            while (n == BATCH_SIZE && unwritten.size() < BUFFER_CAPACITY);
+            if (unwritten.isEmpty()) return 0;
+            try {
+                Files.createDirectories(dir);
+                rotateIfNeeded();
+                try (BufferedWriter w = Files.newBufferedWriter(dir.resolve(FILE_NAME), StandardCharsets.UTF_8,
+                        java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.APPEND)) {
+                    for (AuditEntry e : unwritten) { w.write(e.toLogLine()); w.newLine(); }
+                }
+            } catch (IOException e) {
+                System.out.println("Error writing audit log: " + e.getMessage());
+                int excess = unwritten.size() - BUFFER_CAPACITY;
+                if (excess > 0) {
+                    unwritten.subList(0, excess).clear();
+                    lost += excess;
+                }
+                return 0;
+            }
+            int total = unwritten.size();
+            unwritten.clear();
+            return total;
+        }
+    }
+
+    private void rotateIfNeeded() throws IOException {
+        Path active = dir.resolve(FILE_NAME);
+        if (!Files.exists(active) || Files.size(active) < MAX_FILE_BYTES) return;
+        Files.deleteIfExists(rotated(MAX_ROTATED_FILES));
+        for (int k = MAX_ROTATED_FILES - 1; k >= 1; k--) {
+            if (Files.exists(rotated(k))) Files.move(rotated(k), rotated(k + 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(active, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rotated(int k) { return dir.resolve(FILE_NAME + "." + k); }
+
+    /**
+     * Block until all entries recorded so far are on disk.
+     */
+    public void flush() { drainToFile(); }
+
+    /**
+     * Stop the writer thread after flushing remaining entries. Called once at exit.
+     */
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try { writer.join(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        flush();
+    }
+
+    /* -------- Query -------- */
+
+    /**
+     * Find persisted entries within a time range, optionally for one actor.
+     * Pending entries are flushed first so the result includes them.
+     *
+     * @param from  inclusive lower bound, or {@code null} for no bound
+     * @param to    exclusive upper bound, or {@code null} for no bound
+     * @param actor actor id to match (case-insensitive), or {@code null} for all actors
+     * @return matching entries, oldest first
+     */
+    public List<AuditEntry> query(LocalDateTime from, LocalDateTime to, String actor) {
+        flush();
+        List<AuditEntry> out = new ArrayList<>();
+        synchronized (writeLock) {
+            for (int k = MAX_ROTATED_FILES; k >= 0; k--) {
+                Path p = k == 0 ? dir.resolve(FILE_NAME) : rotated(k);
+                if (!Files.exists(p)) continue;
+                try (BufferedReader br = Files.newBufferedReader(p, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = br.readLine()) != null) {
+                        AuditEntry e = AuditEntry.fromLogLine(line);
+                        if (e == null) continue;
+                        if (from != null && e.getTimestamp().isBefore(from)) continue;
+                        if (to != null && !e.getTimestamp().isBefore(to)) continue;
+                        if (actor != null && !actor.equalsIgnoreCase(e.getActor())) continue;
+                        out.add(e);
+                    }
+                } catch (IOException e) {
+                    System.out.println("Error reading audit log: " + e.getMessage());
+                }
+            }
+        }
+        return out;
+    }
 
     /**
-     * Prints all recorded audit entries to the standard output.
-     * <p>
-     * This outputs a header followed by the string representation of every entry
-     * currently stored in the log.
-     * </p>
+     * Prints the audit entries recorded during the current run.
      */
     public void print(){
         System.out.println("\n=== Audit Log ===");
-        for (var e : entries) System.out.println(e);
+        for (var e : query(sessionStart, null, null)) System.out.println(e);
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,13 @@ package auth;
 
 import internship.Internship;
 import internship.InternshipApp;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 import repository.Repository;
 import user.*;
 import util.PasswordService;
+import util.Screen;
 
 /**
  * Boundary/UI class responsible for authenticating users and handling
@@ -15,6 +17,7 @@ import util.PasswordService;
  */
 public class AuthUI {
     private final Scanner sc;
+    private final PrintStream out;
     private final List<Student> students;
     private final List<CareerCentreStaff> staff;
     private final List<CompanyRep> reps;
@@ -23,7 +26,7 @@ public class AuthUI {
     private final List<InternshipApp> applications;
     private final AuthControl authControl;
 
-    public AuthUI(Scanner sc,
+    public AuthUI(Screen screen,
                   List<Student> students,
                   List<CareerCentreStaff> staff,
                   List<CompanyRep> reps,
@@ -31,7 +34,8 @@ public class AuthUI {
                   List<Internship> internships,
                   List<InternshipApp> applications,
                   AuthControl authControl) {
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
         this.students = students;
         this.staff = staff;
         this.reps = reps;
@@ -48,25 +52,25 @@ public class AuthUI {
      * @return authenticated user or null
      */
     public User loginFlow() {
-        System.out.print("ID/Email: ");
+        out.print("ID/Email: ");
         String rawId = sc.nextLine();
         String id = rawId == null ? "" : rawId.trim();
 
         // Boundary asks control to find user first
         User byId = authControl.findById(id);
         if (byId == null) {
-            System.out.println("No such user ID/email: '" + id + "'.");
-            System.out.println("Student ID should start with U, Career Centre Staff ID is their NTU Account, Company Rep email is used as ID.");
+            out.println("No such user ID/email: '" + id + "'.");
+            out.println("Student ID should start with U, Career Centre Staff ID is their NTU Account, Company Rep email is used as ID.");
             return null;
         }
 
         // Prompt password only after id validated
-        System.out.print("Password: ");
+        out.print("Password: ");
         String pw = sc.nextLine();
 
         AuthControl.AuthResult res = authControl.authenticate(byId, pw);
         if (!res.isSuccess()) {
-            System.out.println(res.getMessage());
+            out.println(res.getMessage());
             return null;
         }
 
@@ -80,19 +84,19 @@ public class AuthUI {
      * @return created CompanyRep or null
      */
     public CompanyRep registerRepFlow() {
-        System.out.println("\n=== Rep Registration ===");
-        System.out.print("Email: "); String email = sc.nextLine().trim();
+        out.println("\n=== Rep Registration ===");
+        out.print("Email: "); String email = sc.nextLine().trim();
         if (users.stream().anyMatch(u -> u.getUserId().equalsIgnoreCase(email))) {
-            System.out.println("Account exists.");
+            out.println("Account exists.");
             return null;
         }
-        System.out.print("Name: "); String name = sc.nextLine().trim();
+        out.print("Name: "); String name = sc.nextLine().trim();
         // Use default password - company rep must change it after account creation
         String defaultPassword = "password";
-        System.out.println("(Default password set to 'password'. You must change it after account creation.)");
-        System.out.print("Company: "); String company = sc.nextLine().trim();
-        System.out.print("Department: "); String dept = sc.nextLine().trim();
-        System.out.print("Position: "); String pos = sc.nextLine().trim();
+        out.println("(Default password set to 'password'. You must change it after account creation.)");
+        out.print("Company: "); String company = sc.nextLine().trim();
+        out.print("Department: "); String dept = sc.nextLine().trim();
+        out.print("Position: "); String pos = sc.nextLine().trim();
 
         CompanyRep rep = new CompanyRep(email, name, PasswordService.hashPassword(defaultPassword), company, dept, pos, false);
         rep.setApproved(false);
@@ -105,7 +109,7 @@ public class AuthUI {
         users.addAll(reps);
         Repository.bootstrap(users, internships, applications);
 
-        System.out.println("Submitted. Await CCS approval.");
+        out.println("Submitted. Await CCS approval.");
         return rep;
     }
 }
\ No newline at end of file
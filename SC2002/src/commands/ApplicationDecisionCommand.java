@@ -0,0 +1,159 @@
+package commands;
+
+import internship.ApplicationStatus;
+import internship.InternshipApp;
+import java.util.Arrays;
+import java.util.Map;
+import repository.Repository;
+
+/**
+ * A {@link Command} that applies a batch of per-application decisions in one
+ * step, e.g. the outcome of term-wide placement matching where some
+ * applications become SUCCESSFUL and the rest UNSUCCESSFUL.
+ * <p>
+ * Unlike {@link ApplicationStatusCommand}, each application has its own
+ * target status. Only applications whose status actually changes are
+ * recorded, with previous and new status as {@code byte} ordinals, and the
+ * batch is persisted once. Slot counts are not touched.
+ * </p>
+ */
+public class ApplicationDecisionCommand implements Command {
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private final String label;
+    private Map<InternshipApp, ApplicationStatus> target;
+
+    private InternshipApp[] changed = new InternshipApp[0];
+    private byte[] prevStatus = new byte[0];
+    private byte[] newStatus = new byte[0];
+    private int count = 0;
+
+    /**
+     * @param label  name used in the audit log (e.g. {@code "PlacementMatching"})
+     * @param target the status to apply to each application
+     */
+    public ApplicationDecisionCommand(String label, Map<InternshipApp, ApplicationStatus> target) {
+        this.label = label; this.target = target;
+    }
+
+    private ApplicationDecisionCommand(String label, InternshipApp[] changed, byte[] prevStatus, byte[] newStatus) {
+        this.label = label; this.changed = changed; this.prevStatus = prevStatus; this.newStatus = newStatus;
+        this.count = changed.length;
+    }
+
+    /**
+     * Applies each decision that changes a status, recording the previous
+     * status, then persists once.
+     */
+    @Override public void execute() {
+        if (target == null) { redo(); return; }
+        changed = new InternshipApp[target.size()];
+        prevStatus = new byte[target.size()]; newStatus = new byte[target.size()]; count = 0;
+        for (Map.Entry<InternshipApp, ApplicationStatus> e : target.entrySet()) {
+            InternshipApp a = e.getKey();
+            ApplicationStatus to = e.getValue();
+            if (to == null || a.getStatus() == to) continue;
+            changed[count] = a;
+            prevStatus[count] = (byte) a.getStatus().ordinal();
+            newStatus[count] = (byte) to.ordinal();
+            count++;
+            a.setStatus(to);
+        }
+        changed = Arrays.copyOf(changed, count);
+        prevStatus = Arrays.copyOf(prevStatus, count);
+        newStatus = Arrays.copyOf(newStatus, count);
+        target = null;
+        if (count > 0) Repository.saveAllApplications();
+    }
+
+    /**
+     * Refuses once any changed application has moved on from its decided
+     * status, e.g. a student accepted the placement offer in the meantime.
+     */
+    @Override public String undoConflict() {
+        for (int k = 0; k < count; k++) {
+            if (changed[k].getStatus() != STATUSES[newStatus[k]]) return changed[k].getId() + " is now " + changed[k].getStatus();
+        }
+        return null;
+    }
+
+    /**
+     * Refuses once any changed application has left its restored status.
+     */
+    @Override public String redoConflict() {
+        for (int k = 0; k < count; k++) {
+            if (changed[k].getStatus() != STATUSES[prevStatus[k]]) return changed[k].getId() + " is now " + changed[k].getStatus();
+        }
+        return null;
+    }
+
+    /**
+     * Restores each changed application to its recorded status.
+     */
+    @Override public void undo() {
+        for (int k = 0; k < count; k++) changed[k].setStatus(STATUSES[prevStatus[k]]);
+        if (count > 0) Repository.saveAllApplications();
+    }
+
+    /**
+     * Re-applies the recorded decisions.
+     */
+    @Override public void redo() {
+        for (int k = 0; k < count; k++) changed[k].setStatus(STATUSES[newStatus[k]]);
+        if (count > 0) Repository.saveAllApplications();
+    }
+
+    /** @return number of applications changed by the last execution */
+    public int changedCount() { return count; }
+
+    /** @return number of applications the last execution moved to {@code status} */
+    public int countChangedTo(ApplicationStatus status) {
+        int n = 0;
+        for (int k = 0; k < count; k++) if (newStatus[k] == status.ordinal()) n++;
+        return n;
+    }
+
+    @Override public String name() { return label; }
+
+    /**
+     * Journal payload: {@code label|id:prevOrdinal:newOrdinal;...}.
+     */
+    @Override public String toJournal() {
+        StringBuilder sb = new StringBuilder(label.replace('|', '/')).append('|');
+        for (int k = 0; k < count; k++) {
+            if (k > 0) sb.append(';');
+            sb.append(changed[k].getId()).append(':').append(prevStatus[k]).append(':').append(newStatus[k]);
+        }
+        return sb.toString();
+    }
+
+    @Override public int footprint() { return 64 + label.length() * 2 + count * 10; }
+
+    /**
+     * Rebuild a command from its journal payload. Applications that no longer
+     * exist are skipped.
+     *
+     * @param payload the value produced by {@link #toJournal()}
+     * @return the restored command, or {@code null} if the payload is malformed
+     */
+    static ApplicationDecisionCommand fromJournal(String payload) {
+        String[] f = payload.split("\\|", 2);
+        if (f.length < 2) return null;
+        String[] parts = f[1].isEmpty() ? new String[0] : f[1].split(";");
+        InternshipApp[] changed = new InternshipApp[parts.length];
+        byte[] prev = new byte[parts.length], next = new byte[parts.length];
+        int n = 0;
+        for (String p : parts) {
+            String[] kv = p.split(":");
+            if (kv.length < 3) continue;
+            InternshipApp a = Repository.findApplicationById(kv[0]);
+            if (a == null) continue;
+            changed[n] = a;
+            prev[n] = Byte.parseByte(kv[1]);
+            next[n] = Byte.parseByte(kv[2]);
+            n++;
+        }
+        return new ApplicationDecisionCommand(f[0], Arrays.copyOf(changed, n),
+                Arrays.copyOf(prev, n), Arrays.copyOf(next, n));
+    }
+}
@@ -0,0 +1,146 @@
+package commands;
+
+import internship.ApplicationStatus;
+import internship.InternshipApp;
+import java.util.Arrays;
+import java.util.List;
+import repository.Repository;
+
+/**
+ * A {@link Command} that moves a set of applications to a new status, e.g. a
+ * company representative approving or rejecting an application, or the
+ * automatic withdrawal of remaining applications once an internship is full.
+ * <p>
+ * Only applications whose status actually changes are recorded, together with
+ * their previous status as a {@code byte} ordinal. This command does not
+ * touch slot counts, so it is intended for non-confirmed applications; use
+ * {@link WithdrawalCommand} to withdraw confirmed placements.
+ * </p>
+ */
+public class ApplicationStatusCommand implements Command {
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private final String label;
+    private final ApplicationStatus to;
+    private List<InternshipApp> target;
+
+    private InternshipApp[] changed = new InternshipApp[0];
+    private byte[] prevStatus = new byte[0];
+    private int count = 0;
+
+    /**
+     * @param label  name used in the audit log (e.g. {@code "ApproveApplication APP-00001"})
+     * @param target applications to update
+     * @param to     the status to apply
+     */
+    public ApplicationStatusCommand(String label, List<InternshipApp> target, ApplicationStatus to) {
+        this.label = label; this.target = target; this.to = to;
+    }
+
+    private ApplicationStatusCommand(String label, ApplicationStatus to, InternshipApp[] changed, byte[] prevStatus) {
+        this.label = label; this.to = to; this.changed = changed; this.prevStatus = prevStatus; this.count = changed.length;
+    }
+
+    /**
+     * Applies the new status to every target application that does not
+     * already have it, recording the previous status, then persists once.
+     */
+    @Override public void execute() {
+        if (target == null) { redo(); return; }
+        changed = new InternshipApp[target.size()]; prevStatus = new byte[target.size()]; count = 0;
+        for (InternshipApp a : target) {
+            if (a.getStatus() == to) continue;
+            changed[count] = a;
+            prevStatus[count] = (byte) a.getStatus().ordinal();
+            count++;
+            a.setStatus(to);
+        }
+        changed = Arrays.copyOf(changed, count);
+        prevStatus = Arrays.copyOf(prevStatus, count);
+        target = null;
+        if (count > 0) Repository.saveAllApplications();
+    }
+
+    /**
+     * Refuses once any changed application has moved on from the applied
+     * status, e.g. a student accepted the approved offer in the meantime.
+     */
+    @Override public String undoConflict() {
+        for (int k = 0; k < count; k++) {
+            if (changed[k].getStatus() != to) return changed[k].getId() + " is now " + changed[k].getStatus();
+        }
+        return null;
+    }
+
+    /**
+     * Refuses once any changed application has left its restored status.
+     */
+    @Override public String redoConflict() {
+        for (int k = 0; k < count; k++) {
+            if (changed[k].getStatus() != STATUSES[prevStatus[k]]) return changed[k].getId() + " is now " + changed[k].getStatus();
+        }
+        return null;
+    }
+
+    /**
+     * Restores each changed application to its recorded status.
+     */
+    @Override public void undo() {
+        for (int k = 0; k < count; k++) changed[k].setStatus(STATUSES[prevStatus[k]]);
+        if (count > 0) Repository.saveAllApplications();
+    }
+
+    /**
+     * Re-applies the status to exactly the applications changed originally.
+     */
+    @Override public void redo() {
+        for (int k = 0; k < count; k++) changed[k].setStatus(to);
+        if (count > 0) Repository.saveAllApplications();
+    }
+
+    /** @return number of applications changed by the last execution */
+    public int changedCount() { return count; }
+
+    @Override public String name() { return label; }
+
+    /**
+     * Journal payload: {@code label|toStatus|id:prevOrdinal;id:prevOrdinal...}.
+     */
+    @Override public String toJournal() {
+        StringBuilder sb = new StringBuilder(label.replace('|', '/')).append('|').append(to.name()).append('|');
+        for (int k = 0; k < count; k++) {
+            if (k > 0) sb.append(';');
+            sb.append(changed[k].getId()).append(':').append(prevStatus[k]);
+        }
+        return sb.toString();
+    }
+
+    @Override public int footprint() { return 64 + label.length() * 2 + count * 9; }
+
+    /**
+     * Rebuild a command from its journal payload. Applications that no longer
+     * exist are skipped.
+     *
+     * @param payload the value produced by {@link #toJournal()}
+     * @return the restored command, or {@code null} if the payload is malformed
+     */
+    static ApplicationStatusCommand fromJournal(String payload) {
+        String[] f = payload.split("\\|", 3);
+        if (f.length < 3) return null;
+        String[] parts = f[2].isEmpty() ? new String[0] : f[2].split(";");
+        InternshipApp[] changed = new InternshipApp[parts.length];
+        byte[] prev = new byte[parts.length];
+        int n = 0;
+        for (String p : parts) {
+            String[] kv = p.split(":");
+            if (kv.length < 2) continue;
+            InternshipApp a = Repository.findApplicationById(kv[0]);
+            if (a == null) continue;
+            changed[n] = a;
+            prev[n] = Byte.parseByte(kv[1]);
+            n++;
+        }
+        return new ApplicationStatusCommand(f[0], ApplicationStatus.valueOf(f[1]),
+                Arrays.copyOf(changed, n), Arrays.copyOf(prev, n));
+    }
+}
@@ -0,0 +1,76 @@
+package commands;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import internship.Internship;
+import mvcc.VersionClock;
+import repository.Repository;
+import user.User;
+import util.TablePrinter;
+
+/**
+ * Stand-alone benchmark of {@link BulkApproveCommand} on a synthetic catalog
+ * of pending internships, at sizes below and above
+ * {@link BulkApproveCommand#PARALLEL_THRESHOLD}.
+ * <p>
+ * Usage: {@code java -cp <classes> commands.BulkApproveBenchmark [postings]}
+ * (default 50000). Each run executes the command inside one
+ * {@link VersionClock} write, as {@link CommandManager} does, then undoes it
+ * for the next run. The catalog is generated in memory only; the command
+ * journal and audit log are not touched.
+ * </p>
+ */
+public class BulkApproveBenchmark {
+    private static final int WARMUP = 5, RUNS = 15;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int[] sizes = {1_000, BulkApproveCommand.PARALLEL_THRESHOLD - 1, BulkApproveCommand.PARALLEL_THRESHOLD + 1, n};
+
+        var tp = TablePrinter.builder()
+                .unicodeBorders(true)
+                .addColumn("Postings", TablePrinter.Align.RIGHT, 8, 10)
+                .addColumn("Parallel", TablePrinter.Align.CENTER, 8, 8)
+                .addColumn("Median ms", TablePrinter.Align.RIGHT, 9, 10)
+                .addColumn("Best ms", TablePrinter.Align.RIGHT, 7, 10)
+                .addColumn("Postings/s", TablePrinter.Align.RIGHT, 10, 12)
+                .build();
+
+        System.out.printf("Bulk approval on %d available core(s)%n", Runtime.getRuntime().availableProcessors());
+        for (int size : sizes) {
+            List<Internship> catalog = catalog(size);
+            Repository.bootstrap(new ArrayList<User>(), catalog, new ArrayList<>());
+            double[] ms = new double[RUNS];
+            for (int r = 0; r < WARMUP + RUNS; r++) {
+                BulkApproveCommand cmd = BulkApproveCommand.matching(i -> true);
+                long t0 = System.nanoTime();
+                VersionClock.write(cmd::execute);
+                long t = System.nanoTime() - t0;
+                if (cmd.changedCount() != size) {
+                    throw new IllegalStateException("approved " + cmd.changedCount() + " of " + size);
+                }
+                VersionClock.write(cmd::undo);
+                if (r >= WARMUP) ms[r - WARMUP] = t / 1e6;
+            }
+            Arrays.sort(ms);
+            double median = ms[RUNS / 2];
+            tp.addRow(size, size >= BulkApproveCommand.PARALLEL_THRESHOLD ? "yes" : "no",
+                    String.format("%.2f", median), String.format("%.2f", ms[0]),
+                    String.format("%,.0f", size / (median / 1000)));
+        }
+        System.out.println(tp.render());
+    }
+
+    private static List<Internship> catalog(int n) {
+        Random rnd = new Random(42);
+        LocalDate today = LocalDate.now();
+        List<Internship> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            out.add(new Internship("B" + i, "Synthetic Intern " + i, "Synthetic posting", "BASIC", "CS",
+                    "Company " + rnd.nextInt(500), null, 3, false,
+                    today.minusDays(10).toString(), today.plusDays(30).toString(), "PENDING"));
+        }
+        return out;
+    }
+}
@@ -1,23 +1,55 @@
 package commands;
 
 import internship.Internship;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import mvcc.VersionClock;
+import repository.Repository;
 
 /**
  * A concrete implementation of the {@link Command} interface that handles the bulk approval of internships.
  * <p>
  * This command iterates through a list of target internships and approves them, while allowing
- * specific internships to be excluded via a {@link Predicate}. It also maintains a history of the
- * internships' previous states (visibility and status) to support the {@link #undo()} operation.
+ * specific internships to be excluded via a {@link Predicate}. Only the internships it actually
+ * changes are remembered: their previous statuses are kept as a {@code byte[]} of ordinals and
+ * their previous visibility as a {@link BitSet}, which is all {@link #undo()} needs.
+ * </p>
+ * <p>
+ * Large targets are split into contiguous partitions that are scanned in parallel; the scan only
+ * reads, evaluating the exclusion predicate and recording each match's previous state. The
+ * per-partition deltas are merged in order and the matches are then approved on the calling
+ * thread, so shared domain state is only ever changed by the thread running the command.
+ * Whatever the batch size, the repository is told once via
+ * {@link Repository#updateInternships(Collection)}, so the catalog version is bumped and the
+ * internships file is written a single time. {@link BulkApproveBenchmark} times the command.
  * </p>
  */
 public class BulkApproveCommand implements Command {
-    private final List<Internship> target;
-    private final Predicate<Internship> except;
-    private final List<Boolean> prevVisible = new ArrayList<>();
-    private final List<Internship.InternshipStatus> prevStatus = new ArrayList<>();
+    private static final Internship.InternshipStatus[] STATUSES = Internship.InternshipStatus.values();
+
+    /** Targets smaller than this are processed on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 4096;
+    private static final int MIN_PARTITION = 1024;
+
+    private List<Internship> target;
+    private Predicate<Internship> except;
+
+    private Internship[] changed = new Internship[0];
+    private byte[] prevStatus = new byte[0];
+    private BitSet prevVisible = new BitSet();
+    private int count = 0;
+    /** Confirmed count of each changed internship when this command last ran, undid or redid. */
+    private int[] confirmed = new int[0];
+    private int scanned = 0;
+    private long elapsedNanos = 0;
 
     /**
      * Constructs a new {@code BulkApproveCommand}.
@@ -25,51 +57,239 @@ public class BulkApproveCommand implements Command {
      * @param target The list of {@link Internship} objects to be processed for approval.
      * @param except A {@link Predicate} defining the condition for exclusion.
      * Internships for which this predicate returns {@code true} will be skipped.
+     * The predicate may be evaluated concurrently and must be thread-safe.
      */
     public BulkApproveCommand(List<Internship> target, java.util.function.Predicate<Internship> except) {
         this.target = target; this.except = except;
     }
 
+    /** Used when restoring from the journal: the delta is already known. */
+    private BulkApproveCommand(Internship[] changed, byte[] prevStatus, BitSet prevVisible, int count) {
+        this.changed = changed; this.prevStatus = prevStatus; this.prevVisible = prevVisible; this.count = count;
+        markConfirmed();
+    }
+
+    /**
+     * Approve every pending internship matching a predicate.
+     *
+     * @param include internships to approve
+     * @return a command ready to be run through {@link CommandManager}
+     */
+    public static BulkApproveCommand matching(Predicate<Internship> include) {
+        return new BulkApproveCommand(pending(), include.negate());
+    }
+
+    /**
+     * Approve the pending internships with the given ids (case-insensitive).
+     *
+     * @param ids internship ids to approve
+     * @return a command ready to be run through {@link CommandManager}
+     */
+    public static BulkApproveCommand forIds(Collection<String> ids) {
+        Set<String> wanted = new HashSet<>();
+        for (String id : ids) if (id != null) wanted.add(id.trim().toUpperCase());
+        return matching(i -> i.getId() != null && wanted.contains(i.getId().toUpperCase()));
+    }
+
+    private static List<Internship> pending() {
+        return Repository.findAllInternships().stream()
+                .filter(i -> i.getStatus() == Internship.InternshipStatus.PENDING)
+                .toList();
+    }
+
     /**
      * Executes the bulk approval logic.
      * <p>
-     * This method first clears any previous history. Then, for each internship in the target list:
-     * <ol>
-     * <li>It saves the current visibility and status to the history lists.</li>
-     * <li>It checks the {@code except} predicate. If the predicate returns {@code true}, the internship is skipped.</li>
-     * <li>Otherwise, the internship status is set to {@code APPROVED} and visibility is set to {@code true}.</li>
-     * </ol>
+     * For each internship in the target list that is not excluded and not already
+     * approved and visible, the previous status and visibility are recorded and the
+     * internship is set to {@code APPROVED} and visible. Matching may run in parallel;
+     * approving always runs on the calling thread. The target list and predicate are
+     * released afterwards so the command only retains the delta.
      * </p>
      */
     @Override public void execute() {
-        prevVisible.clear(); prevStatus.clear();
-        for (var i : target) {
-            prevVisible.add(i.isVisible());
-            prevStatus.add(i.getStatus());
+        if (target == null) { redo(); return; }
+        long start = System.nanoTime();
+        Internship[] all = target.toArray(new Internship[0]);
+        int n = all.length;
+        int parts = n < PARALLEL_THRESHOLD ? 1
+                : Math.min(Runtime.getRuntime().availableProcessors() * 4, (n + MIN_PARTITION - 1) / MIN_PARTITION);
+
+        // Bound to the caller's write scope: a worker touching a Versioned value would
+        // otherwise wait for the write lock held by this thread, which waits for it.
+        Partition[] results = new Partition[parts];
+        Runnable[] tasks = new Runnable[parts];
+        for (int p = 0; p < parts; p++) {
+            int slot = p, lo = (int) ((long) n * p / parts), hi = (int) ((long) n * (p + 1) / parts);
+            Predicate<Internship> skip = except;
+            tasks[p] = VersionClock.bind(() -> results[slot] = scan(all, lo, hi, skip));
+        }
+        IntStream range = IntStream.range(0, parts);
+        (parts > 1 ? range.parallel() : range).forEach(p -> tasks[p].run());
+
+        // Merge partition deltas in order
+        int total = 0;
+        for (Partition r : results) total += r.count;
+        changed = new Internship[total]; prevStatus = new byte[total]; prevVisible = new BitSet(total); count = 0;
+        for (Partition r : results) {
+            for (int k = 0; k < r.count; k++) {
+                changed[count] = all[r.index[k]];
+                prevStatus[count] = r.prev[k];
+                if (r.visible.get(k)) prevVisible.set(count);
+                count++;
+            }
+        }
+        for (Internship i : changed) approve(i);
+
+        target = null; except = null;
+        scanned = n;
+        markConfirmed();
+        Repository.updateInternships(Arrays.asList(changed));
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    /** Delta for one contiguous slice of the target array. */
+    private static final class Partition {
+        int[] index; byte[] prev; BitSet visible = new BitSet(); int count;
+    }
+
+    /** Record the internships in {@code all[lo, hi)} that need approving; changes nothing. */
+    private static Partition scan(Internship[] all, int lo, int hi, Predicate<Internship> except) {
+        Partition r = new Partition();
+        r.index = new int[hi - lo]; r.prev = new byte[hi - lo];
+        for (int x = lo; x < hi; x++) {
+            Internship i = all[x];
             if (except.test(i)) continue;
-            i.setStatus(Internship.InternshipStatus.APPROVED);
-            i.setVisible(true);
+            if (i.getStatus() == Internship.InternshipStatus.APPROVED && i.isVisible()) continue;
+            r.index[r.count] = x;
+            r.prev[r.count] = (byte) i.getStatus().ordinal();
+            if (i.isVisible()) r.visible.set(r.count);
+            r.count++;
+        }
+        return r;
+    }
+
+    private void markConfirmed() {
+        confirmed = new int[count];
+        for (int k = 0; k < count; k++) confirmed[k] = changed[k].getConfirmedCount();
+    }
+
+    /**
+     * Refuses once any approved posting has moved on: its status or
+     * visibility was changed (edited, filled, closed by the scheduler) or
+     * placements on it were confirmed or withdrawn. Undoing would otherwise
+     * hide a posting that students now hold places on.
+     */
+    @Override public String undoConflict() {
+        for (int k = 0; k < count; k++) {
+            Internship i = changed[k];
+            if (i.getStatus() != Internship.InternshipStatus.APPROVED) return i.getId() + " is now " + i.getStatus();
+            if (!i.isVisible()) return i.getId() + " has been hidden";
+            if (i.getConfirmedCount() != confirmed[k]) return i.getId() + " has had placements confirmed or withdrawn";
+        }
+        return null;
+    }
+
+    /**
+     * Refuses once any posting has left the status or visibility the undo
+     * restored, or its confirmed placements changed.
+     */
+    @Override public String redoConflict() {
+        for (int k = 0; k < count; k++) {
+            Internship i = changed[k];
+            if (i.getStatus() != STATUSES[prevStatus[k]]) return i.getId() + " is now " + i.getStatus();
+            if (i.isVisible() != prevVisible.get(k)) return i.getId() + "'s visibility has changed";
+            if (i.getConfirmedCount() != confirmed[k]) return i.getId() + " has had placements confirmed or withdrawn";
         }
+        return null;
     }
 
     /**
      * Reverts the changes made by the {@link #execute()} method.
      * <p>
-     * This restores every internship in the target list to its exact state (visibility and status)
-     * recorded prior to the execution of the command.
+     * Only the internships that were changed are restored to their recorded status and visibility.
      * </p>
      */
     @Override public void undo() {
-        for (int idx=0; idx<target.size(); idx++) {
-            target.get(idx).setVisible(prevVisible.get(idx));
-            target.get(idx).setStatus(prevStatus.get(idx));
+        for (int k = 0; k < count; k++) {
+            changed[k].setStatus(STATUSES[prevStatus[k]]);
+            changed[k].setVisible(prevVisible.get(k));
         }
+        markConfirmed();
+        Repository.updateInternships(Arrays.asList(changed));
     }
 
+    /**
+     * Re-approves exactly the internships changed by the original execution.
+     */
+    @Override public void redo() {
+        for (int k = 0; k < count; k++) approve(changed[k]);
+        markConfirmed();
+        Repository.updateInternships(Arrays.asList(changed));
+    }
+
+    private static void approve(Internship i) {
+        i.setStatus(Internship.InternshipStatus.APPROVED);
+        i.setVisible(true);
+    }
+
+    /** @return number of internships changed by the last execution */
+    public int changedCount() { return count; }
+
+    /** @return number of internships examined by the last execution */
+    public int scannedCount() { return scanned; }
+
+    /** @return wall-clock duration of the last execution in nanoseconds */
+    public long elapsedNanos() { return elapsedNanos; }
+
     /**
      * Returns the unique identifier name for this command.
      *
      * @return The string "BulkApproveInternships".
      */
     @Override public String name(){ return "BulkApproveInternships"; }
-}
\ No newline at end of file
+
+    /**
+     * Journal payload: {@code id:prevStatusOrdinal:prevVisible} entries separated by {@code ;}.
+     */
+    @Override public String toJournal() {
+        StringBuilder sb = new StringBuilder(count * 14);
+        for (int k = 0; k < count; k++) {
+            if (k > 0) sb.append(';');
+            sb.append(changed[k].getId()).append(':').append(prevStatus[k]).append(':').append(prevVisible.get(k) ? 1 : 0);
+        }
+        return sb.toString();
+    }
+
+    @Override public int footprint() { return 64 + count * 10; }
+
+    /**
+     * Rebuild a command from its journal payload. Internships that no longer
+     * exist are skipped.
+     *
+     * @param payload the value produced by {@link #toJournal()}
+     * @return the restored command
+     */
+    static BulkApproveCommand fromJournal(String payload) {
+        String[] parts = payload.isEmpty() ? new String[0] : payload.split(";");
+        Map<String, Internship> byId = new HashMap<>();
+        for (Internship i : Repository.findAllInternships()) {
+            if (i.getId() != null) byId.put(i.getId().toUpperCase(), i);
+        }
+        Internship[] changed = new Internship[parts.length];
+        byte[] prev = new byte[parts.length];
+        BitSet vis = new BitSet(parts.length);
+        int n = 0;
+        for (String p : parts) {
+            String[] f = p.split(":");
+            if (f.length < 3) continue;
+            Internship i = byId.get(f[0].toUpperCase());
+            if (i == null) continue;
+            changed[n] = i;
+            prev[n] = Byte.parseByte(f[1]);
+            if ("1".equals(f[2])) vis.set(n);
+            n++;
+        }
+        return new BulkApproveCommand(Arrays.copyOf(changed, n), Arrays.copyOf(prev, n), vis, n);
+    }
+}
@@ -38,4 +38,50 @@ public interface Command {
      * @return A {@code String} representing the name of the command.
      */
     String name();
+
+    /**
+     * Re-applies the effects of a command that was undone.
+     * <p>
+     * The default simply calls {@link #execute()}; commands that capture a
+     * delta during execution should override this to replay exactly that delta.
+     * </p>
+     */
+    default void redo() { execute(); }
+
+    /**
+     * Explains why {@link #undo()} can no longer be applied: something else
+     * has changed the affected records since this command ran, so restoring
+     * the recorded state would overwrite that change.
+     *
+     * @return the reason, or {@code null} if undo is safe.
+     */
+    default String undoConflict() { return null; }
+
+    /**
+     * Explains why {@link #redo()} can no longer be applied because the
+     * affected records changed after the undo.
+     *
+     * @return the reason, or {@code null} if redo is safe.
+     */
+    default String redoConflict() { return null; }
+
+    /**
+     * Serialises the state needed to undo or redo this command after a restart.
+     * <p>
+     * The payload is written to the command journal and handed back to the
+     * parser registered with {@link CommandManager#registerType} for this
+     * command's class. Commands returning {@code null} are not journaled.
+     * </p>
+     *
+     * @return a single-line payload, or {@code null} if the command is not persistent.
+     */
+    default String toJournal() { return null; }
+
+    /**
+     * Returns an estimate of the memory retained by this command's undo state,
+     * used by {@link CommandManager} to cap the history size.
+     *
+     * @return approximate retained size in bytes.
+     */
+    default int footprint() { return 64; }
 }
\ No newline at end of file
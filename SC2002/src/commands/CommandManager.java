@@ -1,8 +1,18 @@
 package commands;
 
+import app.AppState;
 import audit.AuditLog;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import mvcc.VersionClock;
 
 /**
  * Manages the execution and lifecycle of commands within the system.
@@ -10,42 +20,229 @@ import java.util.Deque;
  * This class acts as the <b>Invoker</b> in the Command Design Pattern. It is responsible for:
  * <ul>
  * <li>Executing commands.</li>
- * <li>Maintaining a history stack to enable functionality (Undo).</li>
- * <li>Integrating with the {@link AuditLog} to record all executed and undone actions.</li>
+ * <li>Maintaining bounded undo and redo stacks for each actor (the logged-in
+ * user, or {@code "system"}), so one user's undo never reverts another user's
+ * decisions. Each undo history keeps at most {@link #MAX_HISTORY} commands and
+ * {@link #MAX_FOOTPRINT_BYTES} of undo state; the oldest commands are
+ * discarded first.</li>
+ * <li>Refusing an undo or redo whose records have changed since (see
+ * {@link Command#undoConflict()}); the stale command is dropped from the
+ * history.</li>
+ * <li>Persisting every actor's stacks to {@link #JOURNAL_FILE} after every
+ * change so undo and redo survive a restart.</li>
+ * <li>Integrating with the {@link AuditLog} to record all executed, undone and redone actions.</li>
+ * <li>Running each execute, undo and redo as one {@link VersionClock} write, so
+ * repository read views see a command's changes all at once or not at all.</li>
  * </ul>
  * </p>
  */
 public class CommandManager {
-    private final Deque<Command> history = new ArrayDeque<>();
-    private final AuditLog audit = new AuditLog();
+    public static final String JOURNAL_FILE = "data/command_journal.csv";
+    public static final int MAX_HISTORY = 50;
+    public static final int MAX_FOOTPRINT_BYTES = 1 << 20;
+
+    private static final CommandManager INSTANCE = new CommandManager();
+
+    /** @return the shared command manager */
+    public static CommandManager get() { return INSTANCE; }
+
+    private static final Map<String, Function<String, Command>> parsers = new HashMap<>();
+    static {
+        registerType(BulkApproveCommand.class, BulkApproveCommand::fromJournal);
+        registerType(ApplicationStatusCommand.class, ApplicationStatusCommand::fromJournal);
+        registerType(WithdrawalCommand.class, WithdrawalCommand::fromJournal);
+        registerType(ApplicationDecisionCommand.class, ApplicationDecisionCommand::fromJournal);
+    }
+
+    /**
+     * Register how to rebuild a command type from its journal payload.
+     *
+     * @param type   the command class
+     * @param parser turns a payload from {@link Command#toJournal()} back into a command
+     */
+    public static void registerType(Class<? extends Command> type, Function<String, Command> parser) {
+        parsers.put(type.getSimpleName(), parser);
+    }
+
+    /** One actor's undo and redo stacks. */
+    private static final class Stacks {
+        final Deque<Command> history = new ArrayDeque<>();
+        final Deque<Command> redoStack = new ArrayDeque<>();
+        long footprint = 0;
+    }
+
+    private final Map<String, Stacks> byActor = new LinkedHashMap<>();
+    private final AuditLog audit = AuditLog.get();
+    private Path journal = Path.of(JOURNAL_FILE);
+
+    private CommandManager() {}
+
+    /** @return id of the logged-in user, or {@code "system"} */
+    private static String actor() {
+        var u = AppState.get().getCurrentUser();
+        return u != null ? u.getUserId() : "system";
+    }
+
+    private Stacks stacks() { return stacks(actor()); }
+
+    private Stacks stacks(String actor) { return byActor.computeIfAbsent(actor, a -> new Stacks()); }
 
     /**
      * Executes a command and registers it in the history and audit log.
      * <p>
      * This method calls the {@link Command#execute()} method, pushes the command onto the
-     * history stack for potential future reversal, and records an "EXECUTE" entry in the audit log.
+     * current actor's history stack for potential future reversal, clears that actor's redo
+     * stack, and records an "EXECUTE" entry in the audit log.
      * </p>
      *
      * @param c The {@link Command} object to be executed.
      */
-    public void run(Command c){ c.execute(); history.push(c); audit.record(c.name(), "EXECUTE"); }
+    public void run(Command c){
+        VersionClock.write(c::execute);
+        Stacks st = stacks();
+        push(st, c);
+        st.redoStack.clear();
+        audit.record(c.name(), "EXECUTE");
+        persist();
+    }
 
     /**
-     * Undoes the most recently executed command.
+     * Undoes the current actor's most recently executed command.
      * <p>
-     * This method retrieves the last command from the history stack, calls its {@link Command#undo()}
-     * method, and records an "UNDO" entry in the audit log.
+     * This method retrieves the last command from the actor's history stack, calls its
+     * {@link Command#undo()} method, moves it to the redo stack, and records an "UNDO" entry
+     * in the audit log. If {@link Command#undoConflict()} reports that the affected records
+     * have changed since, nothing is restored: the command is dropped from the history and an
+     * "UNDO-REFUSED" entry is recorded instead.
      * </p>
      *
-     * @return {@code true} if a command was successfully undone; {@code false} if the history stack was empty.
+     * @return {@code true} if a command was successfully undone; {@code false} if the history
+     * stack was empty or the undo was refused.
      */
     public boolean undo(){
-        if (history.isEmpty()) return false;
-        var c = history.pop(); c.undo(); audit.record(c.name(), "UNDO"); return true;
+        Stacks st = stacks();
+        if (st.history.isEmpty()) return false;
+        var c = st.history.pop(); st.footprint -= c.footprint();
+        boolean ok = VersionClock.write(() -> {
+            if (c.undoConflict() != null) return false;
+            c.undo();
+            return true;
+        });
+        if (ok) st.redoStack.push(c);
+        audit.record(c.name(), ok ? "UNDO" : "UNDO-REFUSED");
+        persist();
+        return ok;
+    }
+
+    /**
+     * Re-applies the current actor's most recently undone command. A redo whose
+     * records changed after the undo ({@link Command#redoConflict()}) is refused
+     * and dropped, like a refused undo.
+     *
+     * @return {@code true} if a command was redone; {@code false} if there was nothing to redo
+     * or the redo was refused.
+     */
+    public boolean redo(){
+        Stacks st = stacks();
+        if (st.redoStack.isEmpty()) return false;
+        var c = st.redoStack.pop();
+        boolean ok = VersionClock.write(() -> {
+            if (c.redoConflict() != null) return false;
+            c.redo();
+            return true;
+        });
+        if (ok) push(st, c);
+        audit.record(c.name(), ok ? "REDO" : "REDO-REFUSED");
+        persist();
+        return ok;
+    }
+
+    /** @return the name of the command {@link #undo()} would revert, or {@code null} */
+    public String peekUndo(){ Stacks st = stacks(); return st.history.isEmpty() ? null : st.history.peek().name(); }
+
+    /** @return the name of the command {@link #redo()} would re-apply, or {@code null} */
+    public String peekRedo(){ Stacks st = stacks(); return st.redoStack.isEmpty() ? null : st.redoStack.peek().name(); }
+
+    /** @return why {@link #undo()} would be refused right now, or {@code null} */
+    public String peekUndoConflict(){ Stacks st = stacks(); return st.history.isEmpty() ? null : st.history.peek().undoConflict(); }
+
+    /** @return why {@link #redo()} would be refused right now, or {@code null} */
+    public String peekRedoConflict(){ Stacks st = stacks(); return st.redoStack.isEmpty() ? null : st.redoStack.peek().redoConflict(); }
+
+    private static void push(Stacks st, Command c) {
+        st.history.push(c);
+        st.footprint += c.footprint();
+        while (st.history.size() > 1 && (st.history.size() > MAX_HISTORY || st.footprint > MAX_FOOTPRINT_BYTES)) {
+            st.footprint -= st.history.removeLast().footprint();
+        }
     }
 
     /**
      * Delegates to the {@link AuditLog} to print the entire history of recorded events.
      */
     public void printAudit(){ audit.print(); }
-}
\ No newline at end of file
+
+    /* -------- Journal -------- */
+
+    /**
+     * Restore every actor's undo/redo stacks from a journal file. Must be called
+     * after the repository is bootstrapped, since commands resolve entities by id.
+     * Entries whose type is unknown or whose entities are gone are skipped.
+     * Journals written before stacks were kept per actor have no actor column;
+     * their entries are restored as {@code "system"}'s, so no user can undo them.
+     *
+     * @param filename journal file path
+     */
+    public void load(String filename) {
+        journal = Path.of(filename);
+        byActor.clear();
+        if (!Files.exists(journal)) return;
+        try (BufferedReader br = Files.newBufferedReader(journal)) {
+            String header = br.readLine();
+            boolean withActor = header != null && header.startsWith("stack,actor,");
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] f = withActor ? line.split(",", 4) : line.split(",", 3);
+                if (f.length < (withActor ? 4 : 3)) continue;
+                String actor = withActor ? f[1] : "system";
+                String type = f[f.length - 2], payload = f[f.length - 1];
+                var parser = parsers.get(type);
+                Command c = null;
+                try {
+                    if (parser != null) c = parser.apply(payload);
+                } catch (RuntimeException e) {
+                    // malformed payload: skip entry
+                }
+                if (c == null) continue;
+                Stacks st = stacks(actor);
+                if ("U".equals(f[0])) push(st, c); else st.redoStack.addLast(c);
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading command journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write every actor's stacks to the journal: undo history oldest first,
+     * then the redo stack from next-to-redo onwards.
+     */
+    private void persist() {
+        try (PrintWriter pw = new PrintWriter(new BufferedWriter(new FileWriter(journal.toFile())))) {
+            pw.println("stack,actor,type,payload");
+            for (var e : byActor.entrySet()) {
+                String actor = e.getKey();
+                Stacks st = e.getValue();
+                for (Iterator<Command> it = st.history.descendingIterator(); it.hasNext(); ) write(pw, "U", actor, it.next());
+                for (Command c : st.redoStack) write(pw, "R", actor, c);
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving command journal: " + e.getMessage());
+        }
+    }
+
+    private static void write(PrintWriter pw, String stack, String actor, Command c) {
+        String payload = c.toJournal();
+        if (payload == null) return;
+        pw.println(stack + "," + actor.replace(',', ';') + "," + c.getClass().getSimpleName() + "," + payload.replace('\n', ' '));
+    }
+}
@@ -0,0 +1,204 @@
+package commands;
+
+import internship.ApplicationStatus;
+import internship.Internship;
+import internship.InternshipApp;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import repository.Repository;
+import withdrawal.WithdrawalQueue;
+
+/**
+ * A {@link Command} for a staff decision on one or more withdrawal requests.
+ * <p>
+ * Approving withdraws each application (freeing the slot of a confirmed
+ * placement); rejecting just clears the request flag. Either way the request
+ * leaves the {@link WithdrawalQueue}. Previous statuses are kept as a
+ * {@code byte[]} and previous request flags as a {@link BitSet}, so the whole
+ * batch can be undone, including taking freed slots back and re-queueing the
+ * requests. A batch is persisted once, however many applications it holds.
+ * An application that had already closed (WITHDRAWN or UNSUCCESSFUL) when
+ * the decision was taken keeps its status; only its request is cleared.
+ * </p>
+ */
+public class WithdrawalCommand implements Command {
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private final InternshipApp[] apps;
+    private final boolean approve;
+    private byte[] prevStatus;
+    private BitSet prevRequested = new BitSet();
+    private WithdrawalQueue.Request[] resolved;
+
+    /**
+     * @param app     the application whose withdrawal request is decided
+     * @param approve {@code true} to approve the withdrawal, {@code false} to reject it
+     */
+    public WithdrawalCommand(InternshipApp app, boolean approve) {
+        this(List.of(app), approve);
+    }
+
+    /**
+     * @param apps    applications whose withdrawal requests are decided together
+     * @param approve {@code true} to approve the withdrawals, {@code false} to reject them
+     */
+    public WithdrawalCommand(List<InternshipApp> apps, boolean approve) {
+        this.apps = apps.toArray(new InternshipApp[0]);
+        this.approve = approve;
+        this.resolved = new WithdrawalQueue.Request[this.apps.length];
+    }
+
+    /**
+     * Applies the decision to every application and persists once.
+     */
+    @Override public void execute() {
+        prevStatus = new byte[apps.length];
+        prevRequested = new BitSet(apps.length);
+        for (int k = 0; k < apps.length; k++) {
+            prevStatus[k] = (byte) apps[k].getStatus().ordinal();
+            if (apps[k].isWithdrawalRequested()) prevRequested.set(k);
+        }
+        apply();
+    }
+
+    @Override public void redo() { apply(); }
+
+    private void apply() {
+        WithdrawalQueue q = WithdrawalQueue.get();
+        for (int k = 0; k < apps.length; k++) {
+            InternshipApp app = apps[k];
+            WithdrawalQueue.Request r = q.resolve(app);
+            if (r != null) resolved[k] = r;
+            if (approve && !closedBefore(k)) app.withdraw();   // frees the slot if the placement was confirmed
+            else app.setWithdrawalRequested(false);
+        }
+        persist();
+    }
+
+    /** @return whether application {@code k} was already closed before the decision */
+    private boolean closedBefore(int k) { return WithdrawalQueue.isClosed(STATUSES[prevStatus[k]]); }
+
+    /**
+     * Refuses if an application has changed since the decision, or if a
+     * freed slot has been taken again (for instance by a waitlisted student
+     * promoted into it), since undoing would then over-fill the internship.
+     */
+    @Override public String undoConflict() {
+        Map<Internship, Integer> retaken = new HashMap<>();
+        for (int k = 0; k < apps.length; k++) {
+            InternshipApp app = apps[k];
+            ApplicationStatus expected = approve && !closedBefore(k) ? ApplicationStatus.WITHDRAWN : STATUSES[prevStatus[k]];
+            if (app.getStatus() != expected) return app.getId() + " is now " + app.getStatus();
+            if (app.isWithdrawalRequested()) return app.getId() + " has a new withdrawal request";
+            Internship i = app.getInternship();
+            if (approve && prevStatus[k] == ApplicationStatus.CONFIRMED.ordinal() && i != null) retaken.merge(i, 1, Integer::sum);
+        }
+        for (var e : retaken.entrySet()) {
+            if (e.getKey().getSlotsRemaining() < e.getValue()) return "the freed slot at " + e.getKey().getId() + " has been filled";
+        }
+        return null;
+    }
+
+    /**
+     * Refuses if an application has changed since the undo.
+     */
+    @Override public String redoConflict() {
+        for (int k = 0; k < apps.length; k++) {
+            InternshipApp app = apps[k];
+            if (app.getStatus() != STATUSES[prevStatus[k]]) return app.getId() + " is now " + app.getStatus();
+            if (app.isWithdrawalRequested() != prevRequested.get(k)) return app.getId() + "'s withdrawal request has changed";
+        }
+        return null;
+    }
+
+    /**
+     * Restores previous statuses and request flags; freed confirmed slots are
+     * taken again and the requests return to the queue. Run only when
+     * {@link #undoConflict()} finds nothing, so the slots are still free.
+     */
+    @Override public void undo() {
+        WithdrawalQueue q = WithdrawalQueue.get();
+        for (int k = 0; k < apps.length; k++) {
+            InternshipApp app = apps[k];
+            ApplicationStatus prev = STATUSES[prevStatus[k]];
+            if (approve && !closedBefore(k)) {
+                app.setStatus(prev);
+                Internship i = app.getInternship();
+                if (prev == ApplicationStatus.CONFIRMED && i != null && i.getSlotsRemaining() > 0) i.decrementSlot();
+            }
+            if (resolved[k] != null) q.restore(resolved[k]);
+            else if (prevRequested.get(k)) q.submit(app, "");
+            app.setWithdrawalRequested(prevRequested.get(k));
+        }
+        persist();
+    }
+
+    private void persist() {
+        Repository.saveAllApplications();
+        if (approve && freesSlots()) Repository.saveAllInternships();
+    }
+
+    private boolean freesSlots() {
+        for (byte s : prevStatus) if (s == ApplicationStatus.CONFIRMED.ordinal()) return true;
+        return false;
+    }
+
+    /** @return number of applications in this decision */
+    public int size() { return apps.length; }
+
+    @Override public String name() {
+        String verb = approve ? "ApproveWithdrawal " : "RejectWithdrawal ";
+        return apps.length == 1 ? verb + apps[0].getId() : verb + "x" + apps.length;
+    }
+
+    /**
+     * Journal payload: {@code approve|id:prevOrdinal:prevRequested;...}.
+     */
+    @Override public String toJournal() {
+        StringBuilder sb = new StringBuilder().append(approve).append('|');
+        for (int k = 0; k < apps.length; k++) {
+            if (k > 0) sb.append(';');
+            sb.append(apps[k].getId()).append(':').append(prevStatus[k]).append(':').append(prevRequested.get(k) ? 1 : 0);
+        }
+        return sb.toString();
+    }
+
+    @Override public int footprint() { return 64 + apps.length * 24; }
+
+    /**
+     * Rebuild a command from its journal payload. Applications that no longer
+     * exist are skipped. Undoing a restored command re-queues requests as new
+     * submissions without a reason.
+     *
+     * @param payload the value produced by {@link #toJournal()}
+     * @return the restored command, or {@code null} if nothing could be restored
+     */
+    static WithdrawalCommand fromJournal(String payload) {
+        String[] f = payload.split("\\|", 2);
+        if (f.length < 2 || f[1].isEmpty()) return null;
+        Map<String, InternshipApp> byId = new HashMap<>();
+        for (InternshipApp a : Repository.findAllApplications()) byId.put(a.getId().toUpperCase(), a);
+
+        List<InternshipApp> apps = new ArrayList<>();
+        List<byte[]> prev = new ArrayList<>();
+        for (String part : f[1].split(";")) {
+            String[] kv = part.split(":");
+            if (kv.length < 3) continue;
+            InternshipApp a = byId.get(kv[0].toUpperCase());
+            if (a == null) continue;
+            apps.add(a);
+            prev.add(new byte[]{Byte.parseByte(kv[1]), Byte.parseByte(kv[2])});
+        }
+        if (apps.isEmpty()) return null;
+        WithdrawalCommand c = new WithdrawalCommand(apps, Boolean.parseBoolean(f[0]));
+        c.prevStatus = new byte[apps.size()];
+        for (int k = 0; k < apps.size(); k++) {
+            c.prevStatus[k] = prev.get(k)[0];
+            if (prev.get(k)[1] == 1) c.prevRequested.set(k);
+        }
+        return c;
+    }
+}
@@ -0,0 +1,170 @@
+package commands;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import internship.Internship;
+import mvcc.VersionClock;
+import mvcc.Versioned;
+import repository.Repository;
+import user.User;
+
+/**
+ * Stand-alone regression check for {@link VersionClock} write scopes shared
+ * with fork-join workers, run on a pool of four workers whatever the core
+ * count. Each stage has a time limit, so a deadlock is reported instead of
+ * hanging.
+ * <ol>
+ * <li>Workers bound with {@link VersionClock#bind} change thousands of
+ * {@link Versioned} values, and one value concurrently, inside one write:
+ * a single version is published and a reader pinned before it sees none of
+ * the changes.</li>
+ * <li>A {@link BulkApproveCommand} above {@link BulkApproveCommand#PARALLEL_THRESHOLD},
+ * whose predicate changes a value on the workers, runs inside
+ * one write and can be undone.</li>
+ * <li>A change from an unbound thread while a scope is open is refused at
+ * once instead of waiting for the scope, and leaves the value alone; the
+ * same change after the scope is a write of its own.</li>
+ * </ol>
+ * <p>
+ * Usage: {@code java -cp <classes> commands.WriteScopeCheck [postings]}
+ * (default 50000). Everything is generated in memory. Exits with status 1
+ * on the first failure.
+ * </p>
+ */
+public class WriteScopeCheck {
+    private static final int WORKERS = 4;
+    private static final long LIMIT_SECONDS = 30;
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        ForkJoinPool pool = new ForkJoinPool(WORKERS);
+        try {
+            boundWorkers(pool, n);
+            bulkApprove(pool, n);
+            unboundWriter();
+        } finally {
+            pool.shutdownNow();
+        }
+        System.out.println("All write scope checks passed.");
+    }
+
+    /** Stage 1: bound workers join the scope; one version, invisible to an earlier reader. */
+    private static void boundWorkers(ForkJoinPool pool, int n) throws Exception {
+        List<Versioned<Integer>> values = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) values.add(new Versioned<>(0));
+        Versioned<Integer> shared = new Versioned<>(0);
+        int parts = WORKERS * 4;
+
+        long before = VersionClock.committed();
+        long pin = VersionClock.beginRead();
+        try {
+            limit("bound workers", () -> VersionClock.write(() -> {
+                Runnable[] tasks = new Runnable[parts];
+                for (int p = 0; p < parts; p++) {
+                    int lo = (int) ((long) n * p / parts), hi = (int) ((long) n * (p + 1) / parts);
+                    tasks[p] = VersionClock.bind(() -> {
+                        for (int k = lo; k < hi; k++) values.get(k).set(k + 1);
+                        shared.set(hi);
+                    });
+                }
+                pool.submit(() -> IntStream.range(0, parts).parallel().forEach(p -> tasks[p].run())).join();
+            }));
+            for (int k = 0; k < n; k++) {
+                if (values.get(k).get() != 0) fail("pinned reader sees value " + k + " changed by a later write");
+            }
+        } finally {
+            VersionClock.endRead(pin);
+        }
+        if (VersionClock.committed() != before + 1) fail("one scope published " + (VersionClock.committed() - before) + " versions");
+        for (int k = 0; k < n; k++) {
+            if (values.get(k).get() != k + 1) fail("value " + k + " lost its change");
+        }
+        if (shared.get() <= 0) fail("concurrently changed value lost every change");
+        System.out.printf("bound workers: %,d values changed by %d workers as version %d%n", n, WORKERS, before + 1);
+    }
+
+    /** Stage 2: bulk approval above the parallel threshold with a predicate that writes. */
+    private static void bulkApprove(ForkJoinPool pool, int n) throws Exception {
+        int size = Math.max(n, BulkApproveCommand.PARALLEL_THRESHOLD + 1);
+        LocalDate today = LocalDate.now();
+        List<Internship> catalog = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            catalog.add(new Internship("W" + i, "Synthetic Intern " + i, "Synthetic posting", "BASIC", "CS",
+                    "Company " + (i % 500), null, 3, false,
+                    today.minusDays(10).toString(), today.plusDays(30).toString(), "PENDING"));
+        }
+        Repository.bootstrap(new ArrayList<User>(), catalog, new ArrayList<>());
+        Versioned<Integer> probe = new Versioned<>(0);
+        BulkApproveCommand cmd = BulkApproveCommand.matching(i -> {
+            probe.set(i.getId().length());   // a predicate with a side effect, run on the workers
+            return true;
+        });
+
+        long before = VersionClock.committed();
+        limit("bulk approval of " + size, () -> pool.submit(() -> VersionClock.write(cmd::execute)).join());
+        if (cmd.changedCount() != size) fail("approved " + cmd.changedCount() + " of " + size);
+        if (VersionClock.committed() != before + 1) fail("bulk approval published " + (VersionClock.committed() - before) + " versions");
+        limit("undo of bulk approval", () -> VersionClock.write(cmd::undo));
+        for (Internship i : catalog) {
+            if (i.getStatus() != Internship.InternshipStatus.PENDING || i.isVisible()) fail(i.getId() + " not restored by undo");
+        }
+        System.out.printf("bulk approval: %,d postings above the %,d threshold approved and undone%n",
+                size, BulkApproveCommand.PARALLEL_THRESHOLD);
+    }
+
+    /** Stage 3: an unbound thread's change inside a scope throws; after it, it is its own write. */
+    private static void unboundWriter() throws Exception {
+        Versioned<Integer> v = new Versioned<>(0);
+        Throwable[] thrown = new Throwable[1];
+        long before = VersionClock.committed();
+        limit("unbound writer", () -> VersionClock.write(() -> {
+            Thread other = new Thread(() -> {
+                try {
+                    v.set(2);
+                } catch (IllegalStateException e) {
+                    thrown[0] = e;
+                }
+            }, "unbound-writer");
+            other.start();
+            try {
+                other.join();   // the scope waits for the unbound writer, as a fork-join caller would
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            v.set(1);
+        }));
+        if (thrown[0] == null) fail("unbound thread changed a value inside another thread's scope");
+        if (v.get() != 1 || VersionClock.committed() != before + 1) fail("refused change was applied");
+        Thread after = new Thread(() -> v.set(2), "unbound-writer");
+        after.start();
+        after.join();
+        if (v.get() != 2 || VersionClock.committed() != before + 2) fail("unbound change outside a scope was not its own write");
+        System.out.println("unbound writer: refused inside the open scope (" + thrown[0].getMessage().split(";")[0]
+                + "), then wrote version " + (before + 2));
+    }
+
+    private static void limit(String stage, Runnable body) throws Exception {
+        ExecutorService ex = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "write-scope-check");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            ex.submit(body).get(LIMIT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            fail(stage + " did not finish in " + LIMIT_SECONDS + " s (deadlock)");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(stage + " failed", e.getCause());
+        } finally {
+            ex.shutdownNow();
+        }
+    }
+
+    private static void fail(String why) {
+        System.out.println("FAILED: " + why);
+        System.exit(1);
+    }
+}
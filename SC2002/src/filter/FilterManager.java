@@ -2,6 +2,7 @@ package filter;
 
 import internship.Internship;
 import internship.InternshipScore;
+import policy.EligibilityRules;
 import user.Student;
 import java.util.*;
 
@@ -49,6 +50,7 @@ public class FilterManager {
     /**
      * Apply ranking to internships based on student's profile and preferences.
      * If recommendations are disabled, all internships receive a score of 0.
+     * Rankings are served from {@link RankingCache} while nothing they depend on changes.
      */
     public List<InternshipScore> applyRanking(List<Internship> internships, Student student) {
         if (!recommendationEnabled) {
@@ -57,19 +59,17 @@ public class FilterManager {
             for (Internship i : internships) out.add(new InternshipScore(i, 0));
             return out;
         }
-        return RecommendationService.rankInternships(
-                internships, student, filterSettings, rankingPreferences, nonNegotiables);
+        return RankingCache.get().getOrCompute(internships, student, rankingPreferences, nonNegotiables,
+                () -> RecommendationService.rankInternships(
+                        internships, student, filterSettings, rankingPreferences, nonNegotiables));
     }
     
     /**
      * Check if student is eligible for an internship level based on their year
+     * (see {@link EligibilityRules#LEVEL_FOR_YEAR}).
      */
     public static boolean isLevelEligibleForStudent(Student student, Internship internship) {
-        int year = student.getYear();
-        if (year <= 2) {
-            return internship.getLevel() == Internship.InternshipLevel.BASIC;
-        }
-        return true; // Y3+ can apply to all levels
+        return EligibilityRules.LEVEL_FOR_YEAR.test(student, internship);
     }
     
     public void clearAll() {
@@ -82,6 +82,7 @@ public class FilterManager {
         rankingPreferences.setRankingLevelPreferences(null);
         nonNegotiables.setMustMatchMajor(false);
         nonNegotiables.setOnlyOpenNow(true);
+        nonNegotiables.clearKeywords();
         filterEnabled = false;
         recommendationEnabled = false;
     }
@@ -3,12 +3,14 @@ package filter;
 import java.util.*;
 
 import internship.Internship;
+import filter.FuzzyKeywordIndex.Field;
 
 /**
  * Holds filter settings used to filter internship listings.
  *
  * Provides a {@link #matches(Internship)} predicate that tests whether an
- * internship satisfies the configured constraints.
+ * internship satisfies the configured constraints. The keyword is looked up
+ * in the {@link FuzzyKeywordIndex}, so small typos still match.
  */
 public class FilterSettings {
     private Internship.InternshipStatus status;
@@ -17,6 +19,7 @@ public class FilterSettings {
     private String company;
     private String keyword;
     private Set<Internship.InternshipLevel> levelPreferences = new LinkedHashSet<>();
+    private FuzzyKeywordIndex.Query keywordQuery;
 
     public boolean matches(Internship i) {
         if (status != null && i.getStatus() != status) return false;
@@ -28,11 +31,10 @@ public class FilterSettings {
             if (i.getCompanyName()==null || !i.getCompanyName().equalsIgnoreCase(company)) return false;
         }
         if (keyword != null && !keyword.isBlank()) {
-            String kw = keyword.toLowerCase();
-            boolean matchesKeyword = (i.getTitle() != null && i.getTitle().toLowerCase().contains(kw)) ||
-                                    (i.getCompanyName() != null && i.getCompanyName().toLowerCase().contains(kw)) ||
-                                    (i.getDescription() != null && i.getDescription().toLowerCase().contains(kw));
-            if (!matchesKeyword) return false;
+            if (keywordQuery == null) {
+                keywordQuery = FuzzyKeywordIndex.get().query(keyword, EnumSet.of(Field.TITLE, Field.COMPANY, Field.DESCRIPTION));
+            }
+            if (!keywordQuery.test(i)) return false;
         }
         if (!levelPreferences.isEmpty() && !levelPreferences.contains(i.getLevel())) {
             return false;
@@ -54,6 +56,7 @@ public class FilterSettings {
         preferredMajor=null; 
         company=null; 
         keyword=null;
+        keywordQuery=null;
         levelPreferences.clear();
     }
 
@@ -61,7 +64,7 @@ public class FilterSettings {
     public void setLevel(Internship.InternshipLevel l){ this.level=l; }
     public void setPreferredMajor(String m){ this.preferredMajor=(m==null?null:m.trim()); }
     public void setCompany(String c){ this.company=(c==null?null:c.trim()); }
-    public void setKeyword(String k){ this.keyword=(k==null?null:k.trim()); }
+    public void setKeyword(String k){ this.keyword=(k==null?null:k.trim()); this.keywordQuery=null; }
     public void setLevelPreferences(Set<Internship.InternshipLevel> prefs){ 
         this.levelPreferences = prefs == null ? new LinkedHashSet<>() : new LinkedHashSet<>(prefs); 
     }
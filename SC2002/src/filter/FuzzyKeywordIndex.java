@@ -0,0 +1,232 @@
+package filter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import internship.Internship;
+import repository.Repository;
+import util.BkTree;
+
+/**
+ * Typo-tolerant keyword search over internship text, used by the keyword
+ * filter and {@code SearchSpecification} instead of scanning every posting.
+ * <p>
+ * Title, company, description and major are split into lower-case tokens
+ * ({@link KeywordIndex#tokenize}); each distinct token keeps the positions of
+ * the internships using it, per field. A keyword word matches a token that
+ * contains it, as the old substring search did, or that is within a few
+ * edits of it: one for words of four to seven letters, two for longer ones,
+ * so {@code "softwre"} finds "Software Intern". Containment is checked over
+ * the token dictionary, which is far smaller than the catalog; near misses
+ * come from a {@link BkTree} over the same dictionary. A keyword with several
+ * words needs every word to match. The index is rebuilt lazily when
+ * {@link Repository#catalogTextVersion()} changes, so status and visibility
+ * changes leave it alone; postings saved in between are indexed on the next
+ * query. {@link FuzzySearchCheck} compares it with a brute-force model.
+ * </p>
+ */
+public class FuzzyKeywordIndex {
+    /** Text a keyword can match in. */
+    public enum Field { TITLE, COMPANY, DESCRIPTION, MAJOR }
+
+    private static final Field[] FIELDS = Field.values();
+    private static final FuzzyKeywordIndex INSTANCE = new FuzzyKeywordIndex();
+
+    /** @return the shared index */
+    public static FuzzyKeywordIndex get() { return INSTANCE; }
+
+    /**
+     * Index of one catalog version. Postings saved after it was built are
+     * appended to it as they appear in the catalog, so it only grows.
+     */
+    private static final class Snapshot {
+        final long version;
+        final Map<Internship, Integer> pos = new ConcurrentHashMap<>();
+        private final Map<String, Integer> wordIds = new HashMap<>();
+        private final List<String> words = new ArrayList<>();           // token dictionary, by word id
+        private final List<Postings> postings = new ArrayList<>();      // by word id
+        private final BkTree typos = new BkTree();
+        private int inTree;                                             // words added to typos
+        private volatile int size;
+
+        Snapshot(long version) { this.version = version; }
+
+        int size() { return size; }
+
+        /** Index the postings of {@code all} past the ones already indexed. */
+        synchronized void append(List<Internship> all) {
+            int from = size;
+            for (int k = from; k < all.size(); k++) {
+                Internship i = all.get(k);
+                for (Field f : FIELDS) {
+                    for (String t : KeywordIndex.tokenize(text(i, f))) postings.get(wordId(t)).add(f, k);
+                }
+                pos.put(i, k);
+            }
+            // new words in order of first use: inserting sorted words makes the tree deep and slow to build
+            for (; inTree < words.size(); inTree++) typos.add(words.get(inTree));
+            if (all.size() > from) size = all.size();
+        }
+
+        private int wordId(String t) {
+            Integer w = wordIds.get(t);
+            if (w != null) return w;
+            wordIds.put(t, words.size());
+            words.add(t);
+            postings.add(new Postings());
+            return words.size() - 1;
+        }
+
+        /** Positions whose chosen fields hold a token matching {@code word}. */
+        synchronized BitSet matching(String word, int fieldMask) {
+            BitSet out = new BitSet(size);
+            for (int w = 0; w < words.size(); w++) {
+                if (words.get(w).contains(word)) postings.get(w).or(out, fieldMask);
+            }
+            int edits = allowedEdits(word);
+            if (edits > 0) typos.search(word, edits, t -> postings.get(wordIds.get(t)).or(out, fieldMask));
+            return out;
+        }
+    }
+
+    /** Ascending positions of one token's internships, per field. */
+    private static final class Postings {
+        final int[][] byField = new int[FIELDS.length][];
+        final int[] counts = new int[FIELDS.length];
+
+        void add(Field f, int k) {
+            int o = f.ordinal();
+            int[] p = byField[o];
+            if (p == null) p = byField[o] = new int[2];
+            else if (counts[o] > 0 && p[counts[o] - 1] == k) return;   // token repeated in the same text
+            else if (counts[o] == p.length) p = byField[o] = Arrays.copyOf(p, p.length * 2);
+            p[counts[o]++] = k;
+        }
+
+        void or(BitSet out, int fieldMask) {
+            for (int o = 0; o < byField.length; o++) {
+                if (byField[o] == null || (fieldMask & 1 << o) == 0) continue;
+                for (int n = 0; n < counts[o]; n++) out.set(byField[o][n]);
+            }
+        }
+    }
+
+    /**
+     * A keyword resolved against the index, testing internships by position.
+     * It resolves again by itself after the catalog changes.
+     */
+    public final class Query implements Predicate<Internship> {
+        private final String keyword;
+        private final List<String> words;
+        private final int fieldMask;
+        private Snapshot resolvedAt;
+        private int resolvedSize;       // postings of resolvedAt covered by match
+        private BitSet match;
+
+        private Query(String keyword, Set<Field> fields) {
+            this.keyword = keyword.toLowerCase(Locale.ROOT);
+            this.words = KeywordIndex.tokenize(keyword);
+            int m = 0;
+            for (Field f : fields) m |= 1 << f.ordinal();
+            this.fieldMask = m;
+        }
+
+        /** @return whether {@code i} matches every word of the keyword, allowing typos */
+        @Override
+        public boolean test(Internship i) {
+            if (keyword.isBlank()) return true;
+            if (words.isEmpty()) return containsKeyword(i);   // no word characters to index, e.g. "++"
+            Snapshot s = current();
+            BitSet m;
+            int n;
+            synchronized (this) {
+                if (resolvedAt != s || resolvedSize != s.size()) {
+                    resolvedSize = s.size();
+                    match = resolve(s);
+                    resolvedAt = s;
+                }
+                m = match;
+                n = resolvedSize;
+            }
+            Integer k = s.pos.get(i);
+            return k != null && k < n ? m.get(k) : matchesDirectly(i);   // not indexed yet
+        }
+
+        private BitSet resolve(Snapshot s) {
+            BitSet out = null;
+            for (String w : words) {
+                BitSet b = s.matching(w, fieldMask);
+                if (out == null) out = b; else out.and(b);
+                if (out.isEmpty()) break;
+            }
+            return out;
+        }
+
+        private boolean containsKeyword(Internship i) {
+            for (Field f : FIELDS) {
+                String t = text(i, f);
+                if (inMask(f) && t != null && t.toLowerCase(Locale.ROOT).contains(keyword)) return true;
+            }
+            return false;
+        }
+
+        private boolean matchesDirectly(Internship i) {
+            List<String> tokens = new ArrayList<>();
+            for (Field f : FIELDS) if (inMask(f)) tokens.addAll(KeywordIndex.tokenize(text(i, f)));
+            for (String w : words) {
+                int edits = allowedEdits(w);
+                if (tokens.stream().noneMatch(t -> t.contains(w) || BkTree.distance(w, t, edits) <= edits)) return false;
+            }
+            return true;
+        }
+
+        private boolean inMask(Field f) { return (fieldMask & 1 << f.ordinal()) != 0; }
+    }
+
+    private volatile Snapshot snap;
+
+    private FuzzyKeywordIndex() {}
+
+    /**
+     * @param keyword words to search for; blank matches everything
+     * @param fields  where the words may appear
+     * @return a reusable test for internships matching {@code keyword}
+     */
+    public Query query(String keyword, Set<Field> fields) {
+        return new Query(keyword == null ? "" : keyword.trim(), fields);
+    }
+
+    /** Typos tolerated in a keyword word: none for short words, where any edit changes the word. */
+    static int allowedEdits(String word) {
+        if (word.length() < 4) return 0;
+        return word.length() < 8 ? 1 : 2;
+    }
+
+    private static String text(Internship i, Field f) {
+        return switch (f) {
+            case TITLE -> i.getTitle();
+            case COMPANY -> i.getCompanyName();
+            case DESCRIPTION -> i.getDescription();
+            case MAJOR -> i.getPreferredMajor();
+        };
+    }
+
+    private Snapshot current() {
+        long v;
+        List<Internship> all;
+        do {
+            v = Repository.catalogTextVersion();
+            all = Repository.findAllInternships();
+        } while (v != Repository.catalogTextVersion());   // reloaded while reading
+        Snapshot s = snap;
+        if (s == null || s.version != v) {
+            synchronized (this) {
+                s = snap;
+                if (s == null || s.version != v) snap = s = new Snapshot(v);
+            }
+        }
+        if (s.size() < all.size()) s.append(all);
+        return s;
+    }
+}
@@ -0,0 +1,151 @@
+package filter;
+
+import java.util.*;
+
+import internship.Internship;
+import repository.Repository;
+import user.User;
+
+/**
+ * Stand-alone check of {@link FuzzyKeywordIndex} against a brute-force model
+ * of typo-tolerant search.
+ * <p>
+ * The model tokenizes every posting on the fly and, for each keyword word,
+ * looks for a token that contains it or is within the allowed number of edits
+ * (none below four letters, one below eight, two otherwise), measured with a
+ * full Levenshtein table. It shares no code with the index. Queries are a
+ * fixed list of misspellings plus random one-letter corruptions of catalog
+ * words; each is tested through {@link FilterSettings} (title, company,
+ * description) and through an all-field query, on indexed postings, on
+ * postings saved after the index was built, which it indexes incrementally,
+ * and on a few postings not in the repository at all. Part-way through, one
+ * posting is hidden and more are saved; results must not change.
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <classes> filter.FuzzySearchCheck [postings] [randomQueries]}
+ * (defaults: 3000 postings, 200 random queries). The catalog is generated in
+ * memory only. Exits with status 1 on any mismatch.
+ * </p>
+ */
+public class FuzzySearchCheck {
+    private static final int SHOWN = 10;
+    private static final String[] BASE = {"software", "engineering", "intern", "data", "analyst", "backend",
+            "developer", "designer", "research", "cybersecurity", "finance", "operations", "embedded", "systems",
+            "machine", "learning", "cloud", "platform", "mobile", "product"};
+    private static final String[] FIXED = {"softwre", "enginering intern", "dta", "analst", "cybersecurty",
+            "machne lerning", "comp", "company b12", "xx", "intrn", "develper", "softwre enginering", "CS", "dsia"};
+
+    private static int mismatches, nextId;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 3_000;
+        int random = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        Random rnd = new Random(1);
+        List<String> vocab = new ArrayList<>(Arrays.asList(BASE));
+        while (vocab.size() < 800) {
+            StringBuilder b = new StringBuilder();
+            for (int k = 3 + rnd.nextInt(9); k > 0; k--) b.append((char) ('a' + rnd.nextInt(26)));
+            vocab.add(b.toString());
+        }
+        List<Internship> catalog = catalog(n, rnd, vocab);
+        List<Internship> saved = catalog(20, rnd, vocab);
+        List<Internship> late = catalog(20, rnd, vocab);
+        Repository.bootstrap(new ArrayList<User>(), catalog, new ArrayList<>());
+
+        List<String> queries = new ArrayList<>(Arrays.asList(FIXED));
+        for (int q = 0; q < random; q++) {
+            char[] c = vocab.get(rnd.nextInt(vocab.size())).toCharArray();
+            if (c.length > 3) c[rnd.nextInt(c.length)] = (char) ('a' + rnd.nextInt(26));
+            queries.add(new String(c));
+        }
+
+        EnumSet<FuzzyKeywordIndex.Field> textFields = EnumSet.of(
+                FuzzyKeywordIndex.Field.TITLE, FuzzyKeywordIndex.Field.COMPANY, FuzzyKeywordIndex.Field.DESCRIPTION);
+        EnumSet<FuzzyKeywordIndex.Field> allFields = EnumSet.allOf(FuzzyKeywordIndex.Field.class);
+        for (Internship i : saved.subList(0, 10)) Repository.saveInternship(i, null);
+        for (String q : queries) {
+            if (q == queries.get(queries.size() / 2)) {
+                catalog.get(0).setVisible(false);
+                for (Internship i : saved.subList(10, 20)) Repository.saveInternship(i, null);
+            }
+            FilterSettings fs = new FilterSettings();
+            fs.setKeyword(q);
+            FuzzyKeywordIndex.Query any = FuzzyKeywordIndex.get().query(q, allFields);
+            for (List<Internship> list : List.of(catalog, saved, late)) {
+                for (Internship i : list) {
+                    compare("filter", q, i, fs.matches(i), model(i, q, textFields));
+                    compare("all fields", q, i, any.test(i), model(i, q, allFields));
+                }
+            }
+        }
+        System.out.printf("%d queries over %,d postings (+%d saved later, +%d unindexed): %d mismatch(es)%n",
+                queries.size(), n, saved.size(), late.size(), mismatches);
+        if (mismatches > 0) System.exit(1);
+    }
+
+    private static void compare(String path, String q, Internship i, boolean got, boolean want) {
+        if (got != want && mismatches++ < SHOWN) {
+            System.out.printf("%s: [%s] on %s \"%s\": index %b, model %b%n", path, q, i.getId(), i.getTitle(), got, want);
+        }
+    }
+
+    private static List<Internship> catalog(int n, Random rnd, List<String> vocab) {
+        String[] majors = {"CS", "DSAI", "EEE", "BUS"};
+        List<Internship> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String title = cap(BASE[rnd.nextInt(BASE.length)]) + " " + cap(BASE[rnd.nextInt(BASE.length)])
+                    + (rnd.nextBoolean() ? " Intern" : "");
+            StringBuilder d = new StringBuilder();
+            for (int j = 0, words = 6 + rnd.nextInt(10); j < words; j++) {
+                // skewed towards the first words, so some tokens are common and some rare
+                d.append(vocab.get((int) Math.min(vocab.size() - 1, Math.abs(rnd.nextGaussian()) * vocab.size() / 3)));
+                d.append(j % 5 == 4 ? ", " : " ");
+            }
+            out.add(new Internship("F" + nextId++, title, d.toString(), "BASIC", majors[rnd.nextInt(majors.length)],
+                    "Company " + (char) ('A' + rnd.nextInt(26)) + rnd.nextInt(3000), null, 1, true,
+                    "2026-01-01", "2027-01-01", "APPROVED"));
+        }
+        return out;
+    }
+
+    private static String cap(String s) { return Character.toUpperCase(s.charAt(0)) + s.substring(1); }
+
+    /** Brute force: every keyword word must be contained in, or be a few edits from, some token. */
+    private static boolean model(Internship i, String keyword, Set<FuzzyKeywordIndex.Field> fields) {
+        List<String> tokens = new ArrayList<>();
+        for (FuzzyKeywordIndex.Field f : fields) {
+            String text = switch (f) {
+                case TITLE -> i.getTitle();
+                case COMPANY -> i.getCompanyName();
+                case DESCRIPTION -> i.getDescription();
+                case MAJOR -> i.getPreferredMajor();
+            };
+            if (text == null) continue;
+            for (String t : text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) if (!t.isEmpty()) tokens.add(t);
+        }
+        for (String w : keyword.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+            if (w.isEmpty()) continue;
+            int edits = w.length() < 4 ? 0 : w.length() < 8 ? 1 : 2;
+            boolean found = false;
+            for (String t : tokens) {
+                if (t.contains(w) || levenshtein(w, t) <= edits) { found = true; break; }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int x = 0; x <= a.length(); x++) d[x][0] = x;
+        for (int y = 0; y <= b.length(); y++) d[0][y] = y;
+        for (int x = 1; x <= a.length(); x++) {
+            for (int y = 1; y <= b.length(); y++) {
+                d[x][y] = Math.min(d[x - 1][y - 1] + (a.charAt(x - 1) == b.charAt(y - 1) ? 0 : 1),
+                        Math.min(d[x - 1][y] + 1, d[x][y - 1] + 1));
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,139 @@
+package filter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import internship.Internship;
+import repository.Repository;
+
+/**
+ * Inverted index from internship title tokens to internships, used to answer
+ * the required-keyword non-negotiable without scanning titles.
+ * <p>
+ * Titles are lower-cased and split on non-alphanumeric characters. Tokens are
+ * kept in a sorted map of {@link BitSet}s over internship positions, so a
+ * keyword matches every title containing a token that starts with it
+ * ({@code "dev"} matches "Developer") via one sub-map range. A multi-word
+ * keyword requires all of its words. The index is rebuilt lazily when
+ * {@link Repository#catalogTextVersion()} changes, not on status or
+ * visibility changes; postings saved in between are appended to it.
+ * </p>
+ */
+public class KeywordIndex {
+    private static final KeywordIndex INSTANCE = new KeywordIndex();
+
+    /** @return the shared title index */
+    public static KeywordIndex get() { return INSTANCE; }
+
+    /** Index of one catalog version; postings saved later are appended to it. */
+    private static final class Snapshot {
+        final long version;
+        final Map<Internship, Integer> pos = new ConcurrentHashMap<>();
+        private final TreeMap<String, BitSet> tokens = new TreeMap<>();
+        private volatile int size;
+
+        Snapshot(long version) { this.version = version; }
+
+        int size() { return size; }
+
+        /** Index the titles of {@code all} past the ones already indexed. */
+        synchronized void append(List<Internship> all) {
+            for (int k = size; k < all.size(); k++) {
+                Internship i = all.get(k);
+                for (String t : tokenize(i.getTitle())) tokens.computeIfAbsent(t, x -> new BitSet()).set(k);
+                pos.put(i, k);
+            }
+            if (all.size() > size) size = all.size();
+        }
+
+        /** Positions whose title has a token starting with {@code prefix}. */
+        synchronized BitSet prefix(String prefix) {
+            BitSet out = new BitSet();
+            for (BitSet b : tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) out.or(b);
+            return out;
+        }
+    }
+
+    private volatile Snapshot snap;
+
+    private KeywordIndex() {}
+
+    /** Split text into lower-case alphanumeric tokens. */
+    static List<String> tokenize(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null) return out;
+        String s = text.toLowerCase();
+        int start = -1;
+        for (int c = 0; c <= s.length(); c++) {
+            boolean word = c < s.length() && isAlnum(s.charAt(c));
+            if (word && start < 0) start = c;
+            else if (!word && start >= 0) {
+                out.add(s.substring(start, c));
+                start = -1;
+            }
+        }
+        return out;
+    }
+
+    /** ASCII letters and digits, as {@code \p{Alnum}} in a regex. */
+    private static boolean isAlnum(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private Snapshot current() {
+        long v;
+        List<Internship> all;
+        do {
+            v = Repository.catalogTextVersion();
+            all = Repository.findAllInternships();
+        } while (v != Repository.catalogTextVersion());   // reloaded while reading
+        Snapshot s = snap;
+        if (s == null || s.version != v) {
+            synchronized (this) {
+                s = snap;
+                if (s == null || s.version != v) snap = s = new Snapshot(v);
+            }
+        }
+        if (s.size() < all.size()) s.append(all);
+        return s;
+    }
+
+    /**
+     * Keep only candidates whose title matches every keyword.
+     *
+     * @param candidates internships to filter
+     * @param keywords   required keywords; each may contain several words
+     * @return matching candidates in their original order
+     */
+    public List<Internship> retainMatchingAll(List<Internship> candidates, Collection<String> keywords) {
+        if (keywords.isEmpty() || candidates.isEmpty()) return candidates;
+        Snapshot s = current();
+        int n = s.size();   // positions the match below covers
+        BitSet match = null;
+        for (String kw : keywords) {
+            for (String word : tokenize(kw)) {
+                BitSet b = s.prefix(word);
+                if (match == null) match = b; else match.and(b);
+                if (match.isEmpty()) return new ArrayList<>();
+            }
+        }
+        if (match == null) return candidates;   // keywords without any word characters
+        List<Internship> out = new ArrayList<>(Math.min(candidates.size(), match.cardinality()));
+        for (Internship i : candidates) {
+            Integer k = s.pos.get(i);
+            boolean hit = k != null && k < n ? match.get(k) : titleMatchesAll(i, keywords);   // not indexed yet
+            if (hit) out.add(i);
+        }
+        return out;
+    }
+
+    private static boolean titleMatchesAll(Internship i, Collection<String> keywords) {
+        List<String> title = tokenize(i.getTitle());
+        for (String kw : keywords) {
+            for (String word : tokenize(kw)) {
+                if (title.stream().noneMatch(t -> t.startsWith(word))) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,8 +17,17 @@ public class NonNegotiables {
     public void setMustMatchMajor(boolean v){ this.mustMatchMajor = v; }
     public void setOnlyOpenNow(boolean v){ this.onlyOpenNow = v; }
     public void addKeyword(String k){ if (k!=null && !k.isBlank()) titleKeywords.add(k.trim()); }
+    public void clearKeywords(){ titleKeywords.clear(); }
 
     public boolean isMustMatchMajor(){ return mustMatchMajor; }
     public boolean isOnlyOpenNow(){ return onlyOpenNow; }
     public List<String> getTitleKeywords(){ return Collections.unmodifiableList(titleKeywords); }
+
+    /** @return canonical form of the constraints; equal constraints give equal strings */
+    public String fingerprint(){
+        List<String> kws = new ArrayList<>();
+        for (String k : titleKeywords) kws.add(k.toLowerCase());
+        Collections.sort(kws);
+        return mustMatchMajor + "," + onlyOpenNow + "," + kws;
+    }
 }
@@ -0,0 +1,80 @@
+package filter;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import internship.Internship;
+import repository.Repository;
+import user.Student;
+import user.User;
+import util.TablePrinter;
+
+/**
+ * Stand-alone benchmark of {@link ScoringKernel#rankTop} on a synthetic catalog,
+ * run with fork-join pools of 1 to N workers to show how ranking scales.
+ * <p>
+ * Usage: {@code java -cp <classes> filter.RankingBenchmark [postings] [topK]}
+ * (defaults: 200000 postings, full ranking). The catalog is generated in
+ * memory only; nothing is read from or written to {@code data/}.
+ * </p>
+ */
+public class RankingBenchmark {
+    private static final int WARMUP = 15, RUNS = 25;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int k = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+
+        Random rnd = new Random(42);
+        LocalDate today = LocalDate.now();
+        String[] titles = {"Software Engineer Intern", "Data Analyst Intern", "Backend Java Developer", "UX Designer", "ML Research Intern"};
+        String[] majors = {"CS", "DSAI", "EEE", "IS", ""};
+        String[] levels = {"BASIC", "INTERMEDIATE", "ADVANCED"};
+        List<Internship> catalog = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            catalog.add(new Internship("B" + i, titles[rnd.nextInt(titles.length)], "Synthetic posting",
+                    levels[rnd.nextInt(3)], majors[rnd.nextInt(majors.length)], "Company " + rnd.nextInt(500), null,
+                    3, true, today.minusDays(10).toString(), today.plusDays(rnd.nextInt(60)).toString(), "APPROVED"));
+        }
+        Student student = new Student("BENCH", "Bench", "x", 3, "CS");
+        Repository.bootstrap(new ArrayList<User>(List.of(student)), catalog, new ArrayList<>());
+
+        RankingPreferences prefs = new RankingPreferences();
+        prefs.setRankingKeyword("java");
+        ScoringKernel kernel = ScoringKernel.get();
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("Ranking %,d postings (top %s) on %d available core(s)%n",
+                n, k == Integer.MAX_VALUE ? "all" : String.valueOf(k), cores);
+
+        var tp = TablePrinter.builder()
+                .unicodeBorders(true)
+                .addColumn("Workers", TablePrinter.Align.RIGHT, 7, 8)
+                .addColumn("Median ms", TablePrinter.Align.RIGHT, 9, 10)
+                .addColumn("Best ms", TablePrinter.Align.RIGHT, 7, 10)
+                .addColumn("Speed-up", TablePrinter.Align.RIGHT, 8, 9)
+                .build();
+
+        double base = 0;
+        for (int workers = 1; workers <= cores; workers = workers < cores ? Math.min(cores, workers * 2) : cores + 1) {
+            ForkJoinPool pool = new ForkJoinPool(workers);
+            try {
+                for (int r = 0; r < WARMUP; r++) kernel.rankTop(catalog, student, prefs, k, pool);
+                double[] ms = new double[RUNS];
+                for (int r = 0; r < RUNS; r++) {
+                    long t0 = System.nanoTime();
+                    kernel.rankTop(catalog, student, prefs, k, pool);
+                    ms[r] = (System.nanoTime() - t0) / 1e6;
+                }
+                Arrays.sort(ms);
+                double median = ms[RUNS / 2];
+                if (workers == 1) base = median;
+                tp.addRow(workers, String.format("%.2f", median), String.format("%.2f", ms[0]), String.format("%.2fx", base / median));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        System.out.println(tp.render());
+    }
+}
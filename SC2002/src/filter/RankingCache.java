@@ -0,0 +1,120 @@
+package filter;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Supplier;
+
+import internship.Internship;
+import internship.InternshipScore;
+import repository.Repository;
+import user.Student;
+
+/**
+ * Size-bounded LRU cache of ranked recommendation lists.
+ * <p>
+ * A ranking only changes if the student's profile, their preferences, the
+ * candidate list, the catalog or the date (closing-soon scores) changes, so
+ * the key is built from exactly those: student id, year and major; the
+ * {@link RankingPreferences} and {@link NonNegotiables} fingerprints; a hash of
+ * the candidate ids; {@link Repository#internshipVersion()}; and today's date.
+ * When the catalog version or the date moves on, every entry is stale and the
+ * cache is cleared at once rather than left to age out.
+ * </p>
+ * <p>
+ * The cache holds at most {@link #MAX_ENTRIES} lists and
+ * {@link #MAX_CACHED_ROWS} scored rows in total, evicting least recently used
+ * lists first. Cached lists are unmodifiable and shared between hits.
+ * </p>
+ */
+public class RankingCache {
+    public static final int MAX_ENTRIES = 256;
+    public static final int MAX_CACHED_ROWS = 200_000;
+
+    private static final RankingCache INSTANCE = new RankingCache();
+
+    /** @return the shared ranking cache */
+    public static RankingCache get() { return INSTANCE; }
+
+    private final LinkedHashMap<String, List<InternshipScore>> lru = new LinkedHashMap<>(64, 0.75f, true);
+    private long cachedRows;
+    private long version = Long.MIN_VALUE;
+    private long day = Long.MIN_VALUE;
+    private long hits, misses, evictions, invalidations;
+
+    private RankingCache() {}
+
+    /**
+     * Return the cached ranking for this request, computing and caching it on a miss.
+     *
+     * @param candidates internships to rank
+     * @param student    student the ranking is for
+     * @param prefs      ranking preferences in effect
+     * @param nn         non-negotiables in effect
+     * @param compute    computes the ranking on a miss
+     * @return an unmodifiable ranked list
+     */
+    public List<InternshipScore> getOrCompute(List<Internship> candidates, Student student,
+                                              RankingPreferences prefs, NonNegotiables nn,
+                                              Supplier<List<InternshipScore>> compute) {
+        long v = Repository.internshipVersion();
+        long today = LocalDate.now().toEpochDay();
+        String key = student.getUserId().toLowerCase() + '|' + student.getYear() + '|' + student.getMajor()
+                + '|' + prefs.fingerprint() + '|' + nn.fingerprint()
+                + '|' + candidates.size() + ':' + idsHash(candidates) + '|' + v + '|' + today;
+        synchronized (this) {
+            if (v != version || today != day) {
+                if (!lru.isEmpty()) invalidations++;
+                lru.clear();
+                cachedRows = 0;
+                version = v;
+                day = today;
+            }
+            List<InternshipScore> hit = lru.get(key);
+            if (hit != null) { hits++; return hit; }
+            misses++;
+        }
+        List<InternshipScore> ranked = Collections.unmodifiableList(new ArrayList<>(compute.get()));
+        synchronized (this) {
+            if (v == version && today == day && ranked.size() <= MAX_CACHED_ROWS) {
+                List<InternshipScore> old = lru.put(key, ranked);
+                if (old != null) cachedRows -= old.size();
+                cachedRows += ranked.size();
+                evictOverflow();
+            }
+        }
+        return ranked;
+    }
+
+    private void evictOverflow() {
+        Iterator<List<InternshipScore>> it = lru.values().iterator();
+        while ((lru.size() > MAX_ENTRIES || cachedRows > MAX_CACHED_ROWS) && it.hasNext()) {
+            cachedRows -= it.next().size();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static long idsHash(List<Internship> list) {
+        long h = 1125899906842597L;
+        for (Internship i : list) h = 31 * h + (i.getId() == null ? 0 : i.getId().hashCode());
+        return h;
+    }
+
+    /** Drop every cached ranking. */
+    public synchronized void clear() {
+        lru.clear();
+        cachedRows = 0;
+    }
+
+    /** @return fraction of lookups served from the cache, or 0 if none yet */
+    public synchronized double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /** @return one-line summary of cache size and hit/miss/eviction counts */
+    public synchronized String stats() {
+        return String.format("entries=%d rows=%d hits=%d misses=%d hitRate=%.1f%% evictions=%d invalidations=%d",
+                lru.size(), cachedRows, hits, misses, hitRate() * 100, evictions, invalidations);
+    }
+}
@@ -31,4 +31,10 @@ public class RankingPreferences {
         this.rankingLevelPreferences = prefs == null ? new LinkedHashSet<>() : new LinkedHashSet<>(prefs); 
     }
     public Set<InternshipLevel> getRankingLevelPreferences(){ return new LinkedHashSet<>(rankingLevelPreferences); }
-}
\ No newline at end of file
+
+    /** @return canonical form of every setting that affects scores; equal settings give equal strings */
+    public String fingerprint(){
+        return wMajor + "," + wClosingSoon + "," + wLevelFit + "," + wTitleKeywords + ","
+                + (rankingKeyword == null ? "" : rankingKeyword.toLowerCase()) + "," + new TreeSet<>(rankingLevelPreferences);
+    }
+}
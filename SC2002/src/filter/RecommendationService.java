@@ -18,6 +18,8 @@ public class RecommendationService {
 
     /**
      * Rank internships by computing a score for each and sorting descending.
+     * Candidates failing a non-negotiable are pruned first and never scored;
+     * the rest are scored in one batch by the {@link ScoringKernel}.
      */
     public static List<InternshipScore> rankInternships(
             List<Internship> internships,
@@ -26,8 +28,13 @@ public class RecommendationService {
             RankingPreferences rankingPreferences,
             NonNegotiables nonNegotiables
     ) {
-        List<InternshipScore> scored = new ArrayList<>();
-        for (Internship i : internships) {
+        List<Internship> survivors = prune(internships, student, nonNegotiables);
+        List<InternshipScore> ranked = ScoringKernel.get().rank(survivors, student, rankingPreferences);
+        if (ranked != null) return ranked;
+
+        // Candidates outside the current catalog snapshot: score one by one
+        List<InternshipScore> scored = new ArrayList<>(survivors.size());
+        for (Internship i : survivors) {
             int score = calculateScore(i, student, filterSettings, rankingPreferences, nonNegotiables);
             scored.add(new InternshipScore(i, score));
         }
@@ -35,8 +42,33 @@ public class RecommendationService {
         return scored;
     }
 
+    /**
+     * Apply the hard constraints in {@link NonNegotiables}, cheapest first:
+     * open-now and major are flag/field checks, then required title keywords
+     * are answered from the {@link KeywordIndex}.
+     *
+     * @return the candidates satisfying every constraint, in their original order
+     */
+    public static List<Internship> prune(List<Internship> internships, Student student, NonNegotiables nonNegotiables) {
+        if (nonNegotiables == null) return internships;
+        boolean open = nonNegotiables.isOnlyOpenNow();
+        boolean major = nonNegotiables.isMustMatchMajor();
+        List<Internship> out = internships;
+        if (open || major) {
+            out = new ArrayList<>(internships.size());
+            for (Internship i : internships) {
+                if (open && !i.isOpenNow()) continue;
+                if (major && (i.getPreferredMajor() == null || !ScoringKernel.majorKey(i.getPreferredMajor()).equals(ScoringKernel.majorKey(student.getMajor())))) continue;
+                out.add(i);
+            }
+        }
+        return KeywordIndex.get().retainMatchingAll(out, nonNegotiables.getTitleKeywords());
+    }
+
     /**
      * Compute a score for a single internship using configured weights.
+     * {@link ScoringKernel} computes the same scores in bulk;
+     * {@link ScoringEquivalenceCheck} compares the two.
      */
     public static int calculateScore(
             Internship i,
@@ -48,8 +80,8 @@ public class RecommendationService {
         int score = 0;
 
         // Major match - give points if major matches OR internship has no preferred major
-        if (i.getPreferredMajor() == null || i.getPreferredMajor().isBlank() ||
-            i.getPreferredMajor().equalsIgnoreCase(student.getMajor())) {
+        String major = ScoringKernel.majorKey(i.getPreferredMajor());
+        if (major.isEmpty() || major.equals(ScoringKernel.majorKey(student.getMajor()))) {
             score += rankingPreferences.getWMajor();
         }
 
@@ -0,0 +1,86 @@
+package filter;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import internship.Internship;
+import internship.InternshipScore;
+import repository.Repository;
+import user.Student;
+import user.User;
+
+/**
+ * Stand-alone check that {@link ScoringKernel} scores and ranks exactly as
+ * {@link RecommendationService#calculateScore} does, one internship at a time.
+ * <p>
+ * Usage: {@code java -cp <classes> filter.ScoringEquivalenceCheck [postings] [queries]}
+ * (defaults: 20000 postings, 200 queries). The synthetic catalog mixes
+ * majors spelled with stray spaces and mixed case, blank and missing majors,
+ * and close dates on both sides of the closing-soon window; each query draws a
+ * student, weights, level preferences and a keyword at random. The catalog is
+ * generated in memory only. Exits with status 1 on any mismatch.
+ * </p>
+ */
+public class ScoringEquivalenceCheck {
+    private static final int SHOWN = 10;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        Random rnd = new Random(42);
+        LocalDate today = LocalDate.now();
+        String[] titles = {"Software Engineer Intern", "Data Analyst Intern", "Backend Java Developer", "UX Designer", "ML Research Intern"};
+        String[] majors = {"CSC", "CSC ", " csc", "Csc", "EEE", "\tEEE", "DSAI", "", "  ", null};
+        String[] studentMajors = {"CSC", " csc ", "eee", "DSAI", "MAE", "", null};
+        String[] levels = {"BASIC", "INTERMEDIATE", "ADVANCED"};
+        String[] keywords = {null, "", "java", "JAVA", " intern ", "data", "company 7", "nomatch"};
+        List<Internship> catalog = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            catalog.add(new Internship("E" + i, titles[rnd.nextInt(titles.length)], "Synthetic posting",
+                    levels[rnd.nextInt(3)], majors[rnd.nextInt(majors.length)], "Company " + rnd.nextInt(500), null,
+                    3, true, today.minusDays(40).toString(), today.plusDays(rnd.nextInt(50) - 5).toString(), "APPROVED"));
+        }
+        Repository.bootstrap(new ArrayList<User>(), catalog, new ArrayList<>());
+        ScoringKernel kernel = ScoringKernel.get();
+        int[] positions = kernel.positionsOf(catalog);
+        int[] out = new int[n];
+
+        int scoreMismatches = 0, rankMismatches = 0;
+        for (int q = 0; q < queries; q++) {
+            Student s = new Student("CHK" + q, "Check", "x", 1 + rnd.nextInt(4), studentMajors[rnd.nextInt(studentMajors.length)]);
+            RankingPreferences p = new RankingPreferences();
+            p.setWMajor(rnd.nextInt(50));
+            p.setWClosingSoon(rnd.nextInt(50));
+            p.setWLevelFit(rnd.nextInt(50));
+            p.setWTitleKeywords(rnd.nextInt(50));
+            Set<Internship.InternshipLevel> lv = EnumSet.noneOf(Internship.InternshipLevel.class);
+            for (Internship.InternshipLevel l : Internship.InternshipLevel.values()) if (rnd.nextBoolean()) lv.add(l);
+            p.setRankingLevelPreferences(lv);
+            p.setRankingKeyword(keywords[rnd.nextInt(keywords.length)]);
+
+            kernel.score(positions, 0, n, kernel.query(s, p), out);
+            List<InternshipScore> expected = new ArrayList<>(n);
+            for (int k = 0; k < n; k++) {
+                Internship i = catalog.get(k);
+                int want = RecommendationService.calculateScore(i, s, null, p, null);
+                expected.add(new InternshipScore(i, want));
+                if (out[k] != want && scoreMismatches++ < SHOWN) {
+                    System.out.printf("score: %s major=[%s] student=[%s] kw=[%s]: kernel %d, calculateScore %d%n",
+                            i.getId(), i.getPreferredMajor(), s.getMajor(), p.getRankingKeyword(), out[k], want);
+                }
+            }
+            expected.sort((a, b) -> Integer.compare(b.score, a.score));
+            List<InternshipScore> ranked = kernel.rank(catalog, s, p);
+            for (int k = 0; k < n; k++) {
+                if (ranked.get(k).internship != expected.get(k).internship || ranked.get(k).score != expected.get(k).score) {
+                    if (rankMismatches++ < SHOWN) System.out.printf("rank: query %d differs at position %d%n", q, k);
+                    break;
+                }
+            }
+        }
+        System.out.printf("%d queries over %,d postings: %d score mismatch(es), %d ranking mismatch(es)%n",
+                queries, n, scoreMismatches, rankMismatches);
+        if (scoreMismatches + rankMismatches > 0) System.exit(1);
+    }
+}
@@ -0,0 +1,304 @@
+package filter;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import internship.Internship;
+import internship.InternshipScore;
+import repository.Repository;
+import user.Student;
+
+/**
+ * Batch scoring over struct-of-arrays internship features.
+ * <p>
+ * Once per catalog version ({@link Repository#catalogTextVersion()} and the
+ * number of postings) the features {@link RecommendationService#calculateScore}
+ * needs are extracted into parallel primitive arrays: close date as epoch day,
+ * level ordinal, an interned major code and the lower-cased searchable text.
+ * A {@link Query} resolves everything that depends on the student and their
+ * preferences into small point tables (by major code, by level, by days left)
+ * plus keyword match bits. {@link #score} is then a loop of table lookups
+ * without data-dependent branches, giving the same scores as
+ * {@code calculateScore}.
+ * </p>
+ */
+public class ScoringKernel {
+    /** Closing-soon points taper from full weight today to zero at this many days. */
+    public static final int CLOSING_WINDOW_DAYS = 30;
+    private static final int NO_DATE = Integer.MIN_VALUE / 2;   // far past; subtracting today cannot overflow
+    private static final int MAX_KEYWORD_MASKS = 64;
+
+    private static volatile ScoringKernel current;
+
+    final long version;
+    final Internship[] items;
+    private final Map<Internship, Integer> pos;
+    private final int[] closeDay;
+    private final byte[] levelOrd;
+    private final int[] majorCode;          // 0 = open to every major
+    private final String[] text;            // lower-cased title, company and description
+    private final Map<String, Integer> majors = new HashMap<>();
+    private final Map<String, long[]> keywordMasks = new ConcurrentHashMap<>();
+    private final long[] noKeyword;
+
+    private ScoringKernel(long version, List<Internship> all) {
+        this.version = version;
+        int n = all.size();
+        this.items = all.toArray(new Internship[0]);
+        this.pos = new IdentityHashMap<>(n * 2);
+        this.closeDay = new int[n];
+        this.levelOrd = new byte[n];
+        this.majorCode = new int[n];
+        this.text = new String[n];
+        this.noKeyword = new long[(n + 63) >>> 6];
+        for (int k = 0; k < n; k++) {
+            Internship i = items[k];
+            pos.put(i, k);
+            closeDay[k] = i.getCloseDate() == null ? NO_DATE : (int) i.getCloseDate().toEpochDay();
+            levelOrd[k] = (byte) i.getLevel().ordinal();
+            String m = majorKey(i.getPreferredMajor());
+            majorCode[k] = m.isEmpty() ? 0 : majors.computeIfAbsent(m, x -> majors.size() + 1);
+            text[k] = (lower(i.getTitle()) + '\n' + lower(i.getCompanyName()) + '\n' + lower(i.getDescription()));
+        }
+    }
+
+    private static String lower(String s) { return s == null ? "" : s.toLowerCase(); }
+
+    /**
+     * A major as compared for scoring, here and in
+     * {@link RecommendationService#calculateScore}: trimmed and upper-cased.
+     *
+     * @return the key, empty for a missing or blank major (open to every major)
+     */
+    static String majorKey(String major) { return major == null ? "" : major.trim().toUpperCase(Locale.ROOT); }
+
+    /**
+     * The features are fixed when an internship is created, so status and
+     * visibility changes keep the kernel; a reload or a saved posting rebuilds it.
+     *
+     * @return the kernel for the current catalog
+     */
+    public static ScoringKernel get() {
+        long v;
+        List<Internship> all;
+        do {
+            v = Repository.catalogTextVersion();
+            all = Repository.findAllInternships();
+        } while (v != Repository.catalogTextVersion());   // reloaded while reading
+        ScoringKernel k = current;
+        if (k == null || k.version != v || k.items.length != all.size()) {
+            synchronized (ScoringKernel.class) {
+                k = current;
+                if (k == null || k.version != v || k.items.length != all.size()) current = k = new ScoringKernel(v, all);
+            }
+        }
+        return k;
+    }
+
+    /**
+     * Map candidates to feature positions.
+     *
+     * @return positions, or {@code null} if a candidate is not in this catalog snapshot
+     */
+    public int[] positionsOf(List<Internship> candidates) {
+        int[] out = new int[candidates.size()];
+        for (int n = 0; n < out.length; n++) {
+            Integer k = pos.get(candidates.get(n));
+            if (k == null) return null;
+            out[n] = k;
+        }
+        return out;
+    }
+
+    /** Student- and preference-dependent inputs, resolved once per ranking. */
+    public final class Query {
+        final int today, wKeyword;
+        final int[] majorPoints;        // by major code: wMajor for "any major" and the student's own
+        final int[] levelPoints;        // by level ordinal: wLevelFit for preferred levels
+        final int[] closingPoints = new int[CLOSING_WINDOW_DAYS + 1];   // by days left; last slot: outside the window
+        final long[] keywordWords;      // match bits by position; all zero without a keyword
+
+        Query(Student s, RankingPreferences p, LocalDate date) {
+            this.today = (int) date.toEpochDay();
+            this.majorPoints = new int[majors.size() + 1];
+            majorPoints[0] = p.getWMajor();
+            Integer own = majors.get(majorKey(s.getMajor()));
+            if (own != null) majorPoints[own] = p.getWMajor();
+            Set<Internship.InternshipLevel> levels = p.getRankingLevelPreferences();
+            this.levelPoints = new int[Internship.InternshipLevel.values().length];
+            for (Internship.InternshipLevel l : Internship.InternshipLevel.values()) {
+                if (levels.isEmpty() || levels.contains(l)) levelPoints[l.ordinal()] = p.getWLevelFit();
+            }
+            for (int d = 0; d < CLOSING_WINDOW_DAYS; d++) {
+                double factor = (double) (CLOSING_WINDOW_DAYS - d) / (double) CLOSING_WINDOW_DAYS;
+                closingPoints[d] = (int) Math.round(p.getWClosingSoon() * factor);
+            }
+            String kw = p.getRankingKeyword();
+            this.keywordWords = kw == null || kw.isBlank() ? noKeyword : keywordMask(kw.toLowerCase());
+            this.wKeyword = p.getWTitleKeywords();
+        }
+    }
+
+    /** @return a query for the student's preferences as of today */
+    public Query query(Student s, RankingPreferences p) { return new Query(s, p, LocalDate.now()); }
+
+    private long[] keywordMask(String kw) {
+        long[] w = keywordMasks.get(kw);
+        if (w != null) return w;
+        w = new long[(text.length + 63) >>> 6];
+        for (int k = 0; k < text.length; k++) if (text[k].contains(kw)) w[k >>> 6] |= 1L << k;
+        if (keywordMasks.size() >= MAX_KEYWORD_MASKS) keywordMasks.clear();
+        keywordMasks.put(kw, w);
+        return w;
+    }
+
+    /**
+     * Score {@code positions[from..to)} into {@code out[from..to)}.
+     */
+    public void score(int[] positions, int from, int to, Query q, int[] out) {
+        score(positions, from, to, q, out, 0);
+    }
+
+    /** Score {@code positions[from..to)} into {@code out[from-base..to-base)}. */
+    private void score(int[] positions, int from, int to, Query q, int[] out, int base) {
+        final int[] close = closeDay, major = majorCode, points = q.closingPoints;
+        final int[] majorPts = q.majorPoints, levelPts = q.levelPoints;
+        final byte[] level = levelOrd;
+        final long[] kw = q.keywordWords;
+        final int today = q.today, wKeyword = q.wKeyword;
+        // Table lookups and bit arithmetic instead of ifs: the outcomes are
+        // data-dependent, and mispredicted branches would dominate the loop.
+        for (int n = from; n < to; n++) {
+            int k = positions[n];
+            int days = close[k] - today;                 // NO_DATE gives a large negative value
+            int neg = days >> 31;                        // -1 if days < 0
+            int slot = Math.min((days & ~neg) | (CLOSING_WINDOW_DAYS & neg), CLOSING_WINDOW_DAYS);
+            out[n - base] = majorPts[major[k]]
+                   + points[slot]
+                   + levelPts[level[k]]
+                   + (int) ((kw[k >>> 6] >>> k) & 1L) * wKeyword;
+        }
+    }
+
+    /**
+     * Pack a score and a candidate index into one sortable key: ascending key
+     * order is descending score, ties in candidate order (a stable sort).
+     */
+    static long sortKey(int score, int index) {
+        return ((long) (Integer.MAX_VALUE - score) << 32) | (index & 0xffffffffL);
+    }
+
+    static int indexOf(long key) { return (int) key; }
+    static int scoreOf(long key) { return Integer.MAX_VALUE - (int) (key >>> 32); }
+
+    /**
+     * Score and rank candidates, best first; equal scores keep candidate order.
+     * Every candidate is returned, so partitions are merged whole and the
+     * per-partition top-K of {@link #rankTop} never prunes here.
+     *
+     * @return ranked list, or {@code null} if a candidate is not in this snapshot
+     */
+    public List<InternshipScore> rank(List<Internship> candidates, Student s, RankingPreferences p) {
+        return rankTop(candidates, s, p, Integer.MAX_VALUE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Score candidates and return the best {@code limit}, best first.
+     * <p>
+     * Catalogs of {@link #PARALLEL_THRESHOLD} candidates or more are split
+     * across {@code pool}: each leaf scores a contiguous partition and keeps only
+     * its own top {@code limit} keys, and sorted partitions are merged pairwise
+     * on the way up. Keys carry the candidate index, so the result is identical
+     * to a sequential stable ranking.
+     * </p>
+     * <p>
+     * Pruning only pays off with a small {@code limit}. The student listing
+     * pages through the whole ranking, so {@link RecommendationService} calls
+     * {@link #rank} with no limit and gains from the parallel scoring alone.
+     * </p>
+     *
+     * @param limit maximum number of results
+     * @param pool  pool to run partitions on; a pool of parallelism 1 runs sequentially
+     * @return ranked list, or {@code null} if a candidate is not in this snapshot
+     */
+    public List<InternshipScore> rankTop(List<Internship> candidates, Student s, RankingPreferences p,
+                                         int limit, ForkJoinPool pool) {
+        int[] positions = positionsOf(candidates);
+        if (positions == null) return null;
+        int n = positions.length;
+        int k = Math.max(0, Math.min(limit, n));
+        Query q = query(s, p);
+        long[] keys = n < PARALLEL_THRESHOLD || pool.getParallelism() < 2
+                ? topKeys(positions, 0, n, q, k)
+                : pool.invoke(new RankTask(positions, 0, n, q, k));
+        List<InternshipScore> out = new ArrayList<>(keys.length);
+        for (long key : keys) out.add(new InternshipScore(candidates.get(indexOf(key)), scoreOf(key)));
+        return out;
+    }
+
+    /** Candidate counts below this are ranked on the calling thread. */
+    public static final int PARALLEL_THRESHOLD = 32_768;
+    private static final int MIN_PARTITION = 8_192;
+
+    /** Score {@code positions[from..to)} and return its best {@code k} keys in order. */
+    private long[] topKeys(int[] positions, int from, int to, Query q, int k) {
+        int m = to - from;
+        int[] scores = new int[m];
+        score(positions, from, to, q, scores, from);
+        long[] keys = new long[m];
+        for (int j = 0; j < m; j++) keys[j] = sortKey(scores[j], from + j);
+        if (k < m / 8) return smallest(keys, k);       // few wanted: bounded heap beats a full sort
+        Arrays.sort(keys);
+        return k < m ? Arrays.copyOf(keys, k) : keys;
+    }
+
+    /** The {@code k} smallest keys in ascending order, via a max-heap of size k. */
+    private static long[] smallest(long[] keys, int k) {
+        if (k == 0) return new long[0];
+        long[] heap = Arrays.copyOf(keys, k);
+        for (int j = k / 2 - 1; j >= 0; j--) siftDown(heap, j, k);
+        for (int j = k; j < keys.length; j++) {
+            if (keys[j] < heap[0]) { heap[0] = keys[j]; siftDown(heap, 0, k); }
+        }
+        Arrays.sort(heap);
+        return heap;
+    }
+
+    private static void siftDown(long[] h, int j, int size) {
+        long v = h[j];
+        for (int c; (c = 2 * j + 1) < size; j = c) {
+            if (c + 1 < size && h[c + 1] > h[c]) c++;
+            if (h[c] <= v) break;
+            h[j] = h[c];
+        }
+        h[j] = v;
+    }
+
+    /** Merge two ascending key arrays, keeping the first {@code k}. */
+    private static long[] merge(long[] a, long[] b, int k) {
+        long[] out = new long[Math.min(k, a.length + b.length)];
+        int i = 0, j = 0;
+        for (int o = 0; o < out.length; o++) out[o] = j >= b.length || (i < a.length && a[i] <= b[j]) ? a[i++] : b[j++];
+        return out;
+    }
+
+    /** Fork-join ranking of a candidate range: split, rank halves, merge. */
+    @SuppressWarnings("serial")   // never serialized
+    private final class RankTask extends RecursiveTask<long[]> {
+        final int[] positions; final int from, to, k; final Query q;
+        RankTask(int[] positions, int from, int to, Query q, int k) {
+            this.positions = positions; this.from = from; this.to = to; this.q = q; this.k = k;
+        }
+        @Override protected long[] compute() {
+            if (to - from <= MIN_PARTITION * 2) return topKeys(positions, from, to, q, k);
+            int mid = (from + to) >>> 1;
+            RankTask left = new RankTask(positions, from, mid, q, k);
+            left.fork();
+            long[] right = new RankTask(positions, mid, to, q, k).compute();
+            return merge(left.join(), right, k);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package internship;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Static hub that broadcasts {@link InternshipApp} status transitions to
+ * interested subsystems (for example the analytics store).
+ * <p>
+ * {@link InternshipApp} fires an event whenever its status actually changes,
+ * including the initial {@code null -> PENDING} transition when a new
+ * application is created. Loading code can mute the hub so that replaying
+ * stored state is not mistaken for fresh activity.
+ * </p>
+ */
+public class ApplicationEvents {
+
+    /**
+     * Receives application status transitions.
+     */
+    public interface Listener {
+        /**
+         * @param app  the application whose status changed
+         * @param from previous status ({@code null} for a newly created application)
+         * @param to   new status
+         * @param at   wall-clock time of the transition in epoch milliseconds
+         */
+        void onTransition(InternshipApp app, ApplicationStatus from, ApplicationStatus to, long at);
+    }
+
+    private static final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private static volatile boolean muted = false;
+
+    private ApplicationEvents() {}
+
+    /** Register a listener (ignored if null or already registered). */
+    public static void register(Listener l) {
+        if (l != null && !listeners.contains(l)) listeners.add(l);
+    }
+
+    public static void unregister(Listener l) { listeners.remove(l); }
+
+    /**
+     * Suppress or resume event delivery. Used while bootstrapping
+     * applications from storage.
+     */
+    public static void setMuted(boolean m) { muted = m; }
+    public static boolean isMuted() { return muted; }
+
+    static void fire(InternshipApp app, ApplicationStatus from, ApplicationStatus to) {
+        if (muted || from == to || listeners.isEmpty()) return;
+        long at = System.currentTimeMillis();
+        for (Listener l : listeners) l.onTransition(app, from, to, at);
+    }
+}
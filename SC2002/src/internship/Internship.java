@@ -4,12 +4,16 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import mvcc.Versioned;
 import user.CompanyRep;
 
 /**
  * Domain model for an internship posting.
  * <p>
  * Contains metadata about the internship and a list of applications.
+ * Status, visibility, confirmed count and the application window are
+ * {@link Versioned}, so a repository read view sees them as of one version.
  */
 public class Internship {
 
@@ -24,13 +28,21 @@ public class Internship {
     private String companyName;
     private CompanyRep postedBy;
     private int slots;
-    private boolean visible;
+    private final Versioned<Boolean> visible;
     private LocalDate openDate;
     private LocalDate closeDate;
-    private InternshipStatus status;
-    private int confirmedCount = 0;
+    private final Versioned<InternshipStatus> status;
+    private final Versioned<Integer> confirmedCount = new Versioned<>(0);
+    private final Versioned<Boolean> inWindow;   // openDate <= today <= closeDate, kept current by the deadline scheduler
+    private boolean closingSoon;   // within CLOSING_SOON_DAYS of closeDate
     private final List<InternshipApp> apps = new ArrayList<>();
 
+    /** Bumped whenever a change affects who may see or apply to any internship. */
+    private static final LongAdder STATE_CHANGES = new LongAdder();
+
+    /** Days before {@code closeDate} from which a posting counts as closing soon. */
+    public static final int CLOSING_SOON_DAYS = 7;
+
     /**
      * Construct an internship from CSV-like string fields.
      */
@@ -45,11 +57,15 @@ public class Internship {
         this.companyName = companyName;
         this.postedBy = postedBy;
         this.slots = slots;
-        this.visible = visible;
+        this.visible = new Versioned<>(visible);
         DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         this.openDate = LocalDate.parse(openDateStr, fmt);
         this.closeDate = LocalDate.parse(closeDateStr, fmt);
-        this.status = InternshipStatus.valueOf(statusStr.toUpperCase());
+        this.status = new Versioned<>(InternshipStatus.valueOf(statusStr.toUpperCase()));
+        LocalDate today = LocalDate.now();
+        boolean open = !today.isBefore(openDate) && !today.isAfter(closeDate);
+        this.inWindow = new Versioned<>(open);
+        this.closingSoon = open && !closeDate.isAfter(today.plusDays(CLOSING_SOON_DAYS));
     }
 
     public String getId(){ return id; }
@@ -61,14 +77,14 @@ public class Internship {
     public CompanyRep getPostedBy(){ return postedBy; }
     public void setPostedBy(CompanyRep rep){ this.postedBy = rep; }
     public int getSlots(){ return slots; }
-    public int getConfirmedCount(){ return confirmedCount; }
-    public int getSlotsRemaining(){ return Math.max(0, slots - confirmedCount); }
-    public boolean isVisible(){ return visible; }
+    public int getConfirmedCount(){ return confirmedCount.get(); }
+    public int getSlotsRemaining(){ return Math.max(0, slots - confirmedCount.get()); }
+    public boolean isVisible(){ return visible.get(); }
     public LocalDate getOpenDate(){ return openDate; }
     public LocalDate getCloseDate(){ return closeDate; }
-    public InternshipStatus getStatus(){ return status; }
-    public void setStatus(InternshipStatus s){ this.status = s; }
-    public void setVisible(boolean v){ this.visible = v; }
+    public InternshipStatus getStatus(){ return status.get(); }
+    public void setStatus(InternshipStatus s){ if (status.latest() != s) { status.set(s); STATE_CHANGES.increment(); } }
+    public void setVisible(boolean v){ if (visible.latest() != v) { visible.set(v); STATE_CHANGES.increment(); } }
     public List<InternshipApp> getApps(){ return apps; }
 
     /**
@@ -82,23 +98,52 @@ public class Internship {
      * Increment the confirmed count (a slot has been taken). When confirmed
      * count reaches configured slots the internship becomes FILLED.
      */
-    public void decrementSlot(){ confirmedCount++; if (confirmedCount >= slots) status = InternshipStatus.FILLED; }
-    public void incrementSlot(){ confirmedCount = Math.max(0, confirmedCount-1); }
+    public void decrementSlot(){
+        int c = confirmedCount.latest() + 1;
+        confirmedCount.set(c);
+        if (c >= slots) setStatus(InternshipStatus.FILLED);
+    }
+
+    /**
+     * Decrement the confirmed count (a slot has been freed). A FILLED
+     * internship with a slot free again reopens as APPROVED.
+     */
+    public void incrementSlot(){
+        int c = Math.max(0, confirmedCount.latest() - 1);
+        confirmedCount.set(c);
+        if (c < slots && status.latest() == InternshipStatus.FILLED) setStatus(InternshipStatus.APPROVED);
+    }
 
     /**
      * Check if this internship is open on the provided date.
      */
     public boolean isOpenFor(LocalDate today) {
-        return visible && !today.isBefore(openDate) && !today.isAfter(closeDate) && status == InternshipStatus.APPROVED;
+        return isVisible() && !today.isBefore(openDate) && !today.isAfter(closeDate) && getStatus() == InternshipStatus.APPROVED;
     }
 
-    public boolean isClosingSoon() {
-        // Define "soon" as within 7 days (customize as needed)
-        LocalDate today = LocalDate.now();
-        return closeDate != null && !closeDate.isBefore(today) && !closeDate.isAfter(today.plusDays(7));
+    /**
+     * Check if this internship is open today. Unlike {@link #isOpenFor(LocalDate)}
+     * no date arithmetic is done here: the application window flag is flipped
+     * by the deadline scheduler when {@code openDate} or {@code closeDate} passes.
+     */
+    public boolean isOpenNow() {
+        return isVisible() && inWindow.get() && getStatus() == InternshipStatus.APPROVED;
     }
 
+    /** @return whether the posting closes within {@link #CLOSING_SOON_DAYS} days */
+    public boolean isClosingSoon() { return closingSoon; }
+
+    /** Date-derived flags, flipped by the deadline scheduler as dates pass. */
+    public void setInWindow(boolean v){ if (inWindow.latest() != v) { inWindow.set(v); STATE_CHANGES.increment(); } }
+    public void setClosingSoon(boolean v){ this.closingSoon = v; }
+
+    /**
+     * @return a counter that changes whenever the status, visibility or
+     *         application window of any internship changes
+     */
+    public static long stateVersion() { return STATE_CHANGES.sum(); }
+
     @Override public String toString() {
-        return String.format("%s (%s) = %s | %d slots | %s", title, companyName, level, slots, status);
+        return String.format("%s (%s) = %s | %d slots | %s", title, companyName, level, slots, getStatus());
     }
 }
@@ -1,43 +1,49 @@
 package internship;
 
+import mvcc.Versioned;
 import user.Student;
 
 /**
  * Represents a student's application to an internship.
+ * <p>
+ * Every status change is published through {@link ApplicationEvents}. The
+ * status is {@link Versioned}, so a repository read view sees it as of one version.
  */
 public class InternshipApp {
     private final String id;
     private final Student student;
     private final Internship internship;
-    private ApplicationStatus status = ApplicationStatus.PENDING;
+    private final Versioned<ApplicationStatus> status = new Versioned<>(ApplicationStatus.PENDING);
     private boolean withdrawalRequested = false;
 
-    public InternshipApp(String id, Student s, Internship i) { 
-        this.id=id; this.student=s; this.internship=i; }
+    public InternshipApp(String id, Student s, Internship i) {
+        this.id=id; this.student=s; this.internship=i;
+        ApplicationEvents.fire(this, null, ApplicationStatus.PENDING);
+    }
 
     public String getId(){ return id; }
     public Student getStudent(){ return student; }
     public Internship getInternship(){ return internship; }
-    public ApplicationStatus getStatus(){ return status; }
+    public ApplicationStatus getStatus(){ return status.get(); }
     public boolean isWithdrawalRequested(){ return withdrawalRequested; }
     public void setWithdrawalRequested(boolean r){ this.withdrawalRequested=r; }
 
     /**
      * Mark the application as confirmed (student accepted placement).
      */
-    public void confirm(){ status = ApplicationStatus.CONFIRMED; }
+    public void confirm(){ transition(ApplicationStatus.CONFIRMED); }
 
     /**
      * Withdraw the application.
      * If the application was confirmed, this frees up a slot in the internship.
      */
-    public void withdraw(){ 
+    public void withdraw(){
         // If this was a confirmed placement, increment the slot count to free it up
-        if (status == ApplicationStatus.CONFIRMED && internship != null) {
+        if (status.latest() == ApplicationStatus.CONFIRMED && internship != null) {
             internship.incrementSlot();
         }
-        status = ApplicationStatus.WITHDRAWN; 
-        withdrawalRequested=false; 
+        transition(ApplicationStatus.WITHDRAWN);
+        withdrawalRequested=false;
     }
 
     /**
@@ -46,7 +52,13 @@ public class InternshipApp {
      * @param newStatus new application status
      */
     public void setStatus(ApplicationStatus newStatus) {
-        if (newStatus == null) return; 
-        this.status = newStatus;
+        if (newStatus == null) return;
+        transition(newStatus);
+    }
+
+    private void transition(ApplicationStatus next) {
+        ApplicationStatus prev = status.latest();
+        if (prev != next) status.set(next);
+        ApplicationEvents.fire(this, prev, next);
     }
 }
@@ -1,20 +1,38 @@
 package menu;
 
+import java.io.PrintStream;
 import java.util.Scanner;
+import scheduler.DeadlineScheduler;
+import util.Screen;
 
 /**
  * Abstract base class for menu UI classes.
  * Implements Template Method pattern to reduce duplication in menu handling.
  * Follows Open/Closed Principle - subclasses extend without modifying base behavior.
+ * <p>
+ * Menus print to and read from the session's {@link Screen}, so each screen
+ * is written out in one go when the menu waits for the next command.
+ * </p>
  */
 public abstract class BaseMenuUI {
-    protected final Scanner sc = new Scanner(System.in);
+    protected final Scanner sc;
+    protected final PrintStream out;
+
+    /**
+     * @param screen the session {@link Screen} to read commands from and print to
+     */
+    protected BaseMenuUI(Screen screen) {
+        this.sc = screen.scanner();
+        this.out = screen.out();
+    }
     
     /**
      * Runs the menu loop. Template method that defines the menu flow.
+     * Date events (openings, closings) that became due are applied before each prompt.
      */
     public void run() {
         while (true) {
+            DeadlineScheduler.get().advance();
             printMenu();
             String cmd = sc.nextLine().trim();
             if ("0".equals(cmd)) {
@@ -1,15 +1,23 @@
 package menu.CompanyRepMenu.CompanyRepActions;
 
+import commands.ApplicationDecisionCommand;
+import commands.ApplicationStatusCommand;
+import commands.CommandManager;
 import internship.ApplicationStatus;
 import internship.Internship;
 import internship.InternshipApp;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
-import java.util.stream.Collectors;
 import menu.MenuAction;
+import placement.ApplicantScorer;
 import repository.Repository;
 import user.CompanyRep;
 import util.ConsoleHelper;
+import util.Screen;
 import util.TablePrinter;
 
 /**
@@ -17,25 +25,33 @@ import util.TablePrinter;
  * <p>
  * This class handles the workflow for:
  * <ul>
- * <li>Fetching and displaying pending applications for internships owned by the representative.</li>
+ * <li>Fetching pending applications for internships owned by the representative and
+ * displaying them per internship, ranked by {@link ApplicantScorer}.</li>
  * <li>Allowing the representative to select an application by ID.</li>
  * <li>Approving an application (if slots are available) or rejecting it.</li>
+ * <li>Deciding a whole internship at once: approve the top N applicants and reject
+ * the rest as a single undoable {@link ApplicationDecisionCommand}.</li>
  * </ul>
  * </p>
  */
 public class ApproveApplicationAction implements MenuAction {
+    /** Applicants listed per internship; the rest are summarised. */
+    private static final int DISPLAY_PER_INTERNSHIP = 25;
+
     private final CompanyRep me;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * Constructs a new {@code ApproveApplicationAction}.
      *
      * @param me The {@link CompanyRep} currently logged in and performing the action.
-     * @param sc The {@link Scanner} to use for reading user input.
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public ApproveApplicationAction(CompanyRep me, Scanner sc) {
+    public ApproveApplicationAction(CompanyRep me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -48,29 +64,40 @@ public class ApproveApplicationAction implements MenuAction {
      */
     @Override
     public void execute() {
-        System.out.println("\n--- APPROVE/REJECT APPLICATIONS ---");
+        out.println("\n--- APPROVE/REJECT APPLICATIONS ---");
 
-        // Get all PENDING applications for internships posted by this rep
-        List<InternshipApp> allApps = Repository.findApplicationsByRepId(me.getUserId());
-        List<InternshipApp> pendingApps = allApps.stream()
-                .filter(app -> app.getStatus() == ApplicationStatus.PENDING)
-                .collect(Collectors.toList());
+        // Get all PENDING applications for internships posted by this rep, ranked per internship
+        Map<Internship, List<InternshipApp>> ranked = new LinkedHashMap<>();
+        for (InternshipApp app : Repository.findApplicationsByRepId(me.getUserId())) {
+            if (app.getStatus() == ApplicationStatus.PENDING) {
+                ranked.computeIfAbsent(app.getInternship(), k -> new ArrayList<>()).add(app);
+            }
+        }
+        ranked.replaceAll((i, apps) -> ApplicantScorer.get().rank(apps));
 
-        if (pendingApps == null || pendingApps.isEmpty()) {
-            System.out.println("No pending applications to review.");
+        if (ranked.isEmpty()) {
+            out.println("No pending applications to review.");
             return;
         }
 
         // Display pending applications
-        printApplicationsTable(pendingApps);
+        printApplicationsTable(ranked);
 
         // Prompt for action
-        System.out.print("\nEnter Application ID to approve/reject (or 'q' to quit): ");
+        out.print("\nEnter Application ID to approve/reject, 'b' to approve top N of an internship"
+                + " and reject the rest (or 'q' to quit): ");
         String input = sc.nextLine().trim();
         
         if (input.equalsIgnoreCase("q")) {
             return;
         }
+        if (input.equalsIgnoreCase("b")) {
+            bulkDecide(ranked);
+            return;
+        }
+
+        List<InternshipApp> pendingApps = new ArrayList<>();
+        ranked.values().forEach(pendingApps::addAll);
 
         // Find the application
         InternshipApp selectedApp = null;
@@ -82,12 +109,12 @@ public class ApproveApplicationAction implements MenuAction {
         }
 
         if (selectedApp == null) {
-            System.out.println("Invalid Application ID.");
+            out.println("Invalid Application ID.");
             return;
         }
 
         // Prompt for approve or reject
-        System.out.print("Action: (a)pprove or (r)eject? ");
+        out.print("Action: (a)pprove or (r)eject? ");
         String action = sc.nextLine().trim().toLowerCase();
 
         if (action.equals("a") || action.equals("approve")) {
@@ -95,7 +122,7 @@ public class ApproveApplicationAction implements MenuAction {
         } else if (action.equals("r") || action.equals("reject")) {
             rejectApplication(selectedApp);
         } else {
-            System.out.println("Invalid action. No changes made.");
+            out.println("Invalid action. No changes made.");
         }
     }
 
@@ -114,23 +141,23 @@ public class ApproveApplicationAction implements MenuAction {
         // Verify the internship still has slots available
         Internship internship = app.getInternship();
         if (internship == null) {
-            System.out.println("Error: Internship not found.");
+            out.println("Error: Internship not found.");
             return;
         }
 
         if (internship.getSlotsRemaining() <= 0) {
-            System.out.println("Cannot approve: No slots remaining for this internship.");
+            out.println("Cannot approve: No slots remaining for this internship.");
             return;
         }
 
         // Set application status to SUCCESSFUL
-        app.setStatus(ApplicationStatus.SUCCESSFUL);
-        Repository.updateApplication(app);
+        CommandManager.get().run(new ApplicationStatusCommand(
+                "ApproveApplication " + app.getId(), List.of(app), ApplicationStatus.SUCCESSFUL));
 
-        System.out.println("\n✓ Application " + app.getId() + " APPROVED.");
-        System.out.println("  Student: " + (app.getStudent() != null ? app.getStudent().getName() : "-"));
-        System.out.println("  Internship: " + internship.getTitle());
-        System.out.println("  Status: SUCCESSFUL (Student can now accept the placement)");
+        out.println("\n✓ Application " + app.getId() + " APPROVED.");
+        out.println("  Student: " + (app.getStudent() != null ? app.getStudent().getName() : "-"));
+        out.println("  Internship: " + internship.getTitle());
+        out.println("  Status: SUCCESSFUL (Student can now accept the placement)");
         
         // Check if internship is now at capacity after approving applications
         if (internship.getSlotsRemaining() <= 0) {
@@ -149,12 +176,62 @@ public class ApproveApplicationAction implements MenuAction {
      */
     private void rejectApplication(InternshipApp app) {
         // Set application status to UNSUCCESSFUL
-        app.setStatus(ApplicationStatus.UNSUCCESSFUL);
-        Repository.updateApplication(app);
+        CommandManager.get().run(new ApplicationStatusCommand(
+                "RejectApplication " + app.getId(), List.of(app), ApplicationStatus.UNSUCCESSFUL));
 
-        System.out.println("\n✗ Application " + app.getId() + " REJECTED.");
-        System.out.println("  Student: " + (app.getStudent() != null ? app.getStudent().getName() : "-"));
-        System.out.println("  Status: UNSUCCESSFUL");
+        out.println("\n✗ Application " + app.getId() + " REJECTED.");
+        out.println("  Student: " + (app.getStudent() != null ? app.getStudent().getName() : "-"));
+        out.println("  Status: UNSUCCESSFUL");
+    }
+
+    /**
+     * Approves the best N pending applicants of one internship and rejects the
+     * others in one batch. N defaults to, and is capped at, the slots remaining.
+     *
+     * @param ranked pending applications per internship, best first
+     */
+    private void bulkDecide(Map<Internship, List<InternshipApp>> ranked) {
+        out.print("Internship ID: ");
+        String id = sc.nextLine().trim();
+        Internship internship = null;
+        for (Internship i : ranked.keySet()) {
+            if (i != null && i.getId().equalsIgnoreCase(id)) internship = i;
+        }
+        if (internship == null) {
+            out.println("No pending applications for that internship.");
+            return;
+        }
+
+        List<InternshipApp> pending = ranked.get(internship);
+        int slots = internship.getSlotsRemaining();
+        int n = Math.min(slots, pending.size());
+        out.print("Approve how many top applicants? (" + pending.size() + " pending, "
+                + slots + " slot(s) remaining; ENTER for " + n + "): ");
+        String line = sc.nextLine().trim();
+        if (!line.isEmpty()) {
+            try {
+                n = Integer.parseInt(line);
+            } catch (NumberFormatException e) {
+                out.println("Invalid number. No changes made.");
+                return;
+            }
+        }
+        if (n < 0 || n > slots) {
+            out.println("Cannot approve " + n + ": only " + slots + " slot(s) remaining. No changes made.");
+            return;
+        }
+
+        out.print("Approve top " + n + " and reject the other " + (pending.size() - n) + "? (y/n): ");
+        if (!sc.nextLine().trim().equalsIgnoreCase("y")) {
+            out.println("No changes made.");
+            return;
+        }
+
+        ApplicationDecisionCommand cmd = new ApplicationDecisionCommand(
+                "BulkDecision " + internship.getId(), ApplicantScorer.get().approveTop(pending, n));
+        CommandManager.get().run(cmd);
+        out.println("\n✓ " + internship.getTitle() + ": " + cmd.countChangedTo(ApplicationStatus.SUCCESSFUL)
+                + " APPROVED, " + cmd.countChangedTo(ApplicationStatus.UNSUCCESSFUL) + " REJECTED.");
     }
 
     /**
@@ -164,54 +241,60 @@ public class ApproveApplicationAction implements MenuAction {
      * @param internship The internship that has reached capacity.
      */
     private void autoWithdrawOtherApplications(Internship internship) {
-        List<InternshipApp> allApps = Repository.findApplicationsByInternshipId(internship.getId());
-        int withdrawnCount = 0;
-        
-        for (InternshipApp app : allApps) {
-            if (app.getStatus() == ApplicationStatus.PENDING || 
-                app.getStatus() == ApplicationStatus.SUCCESSFUL) {
-                app.setStatus(ApplicationStatus.WITHDRAWN);
-                Repository.updateApplication(app);
-                withdrawnCount++;
-            }
-        }
+        List<InternshipApp> open = Repository.findApplicationsByInternshipId(internship.getId()).stream()
+                .filter(app -> app.getStatus() == ApplicationStatus.PENDING ||
+                               app.getStatus() == ApplicationStatus.SUCCESSFUL)
+                .toList();
+        var cmd = new ApplicationStatusCommand("AutoWithdraw " + internship.getId(), open, ApplicationStatus.WITHDRAWN);
+        if (!open.isEmpty()) CommandManager.get().run(cmd);
+        int withdrawnCount = cmd.changedCount();
         
         if (withdrawnCount > 0) {
-            System.out.println("\n! Internship is now at full capacity.");
-            System.out.println("! " + withdrawnCount + " other application(s) automatically withdrawn.");
+            out.println("\n! Internship is now at full capacity.");
+            out.println("! " + withdrawnCount + " other application(s) automatically withdrawn.");
         }
     }
 
     /**
-     * Prints a formatted table of the provided internship applications.
+     * Prints a formatted table of pending applications, ranked within each internship.
+     * At most {@link #DISPLAY_PER_INTERNSHIP} rows are shown per internship.
      *
-     * @param apps The list of {@link InternshipApp} objects to display.
+     * @param ranked pending applications per internship, best first
      */
-    private void printApplicationsTable(List<InternshipApp> apps) {
+    private void printApplicationsTable(Map<Internship, List<InternshipApp>> ranked) {
         var tp = TablePrinter.builder()
                 .unicodeBorders(true)
                 .maxTableWidth(140)
-                .addColumn("No.",        TablePrinter.Align.RIGHT,   2,  4)
+                .addColumn("Rank",       TablePrinter.Align.RIGHT,   2,  5)
                 .addColumn("App ID",     TablePrinter.Align.LEFT,    6, 10)
                 .addColumn("Student",    TablePrinter.Align.LEFT,   10, 20)
                 .addColumn("StudentID",  TablePrinter.Align.LEFT,    8, 12)
                 .addColumn("Internship", TablePrinter.Align.LEFT,   12, 30)
+                .addColumn("Score",      TablePrinter.Align.RIGHT,   3,  5)
                 .addColumn("Status",     TablePrinter.Align.CENTER, 10, 12)
                 .build();
 
-        int idx = 1;
-        for (InternshipApp a : apps) {
-            Internship i = a.getInternship();
-            tp.addRow(
-                idx++,
-                a.getId(),
-                a.getStudent() != null ? ConsoleHelper.safe(a.getStudent().getName()) : "-",
-                a.getStudent() != null ? a.getStudent().getUserId() : "-",
-                i != null ? ConsoleHelper.safe(i.getTitle()) : "-",
-                a.getStatus()
-            );            
+        for (Map.Entry<Internship, List<InternshipApp>> e : ranked.entrySet()) {
+            Internship i = e.getKey();
+            List<InternshipApp> apps = e.getValue();
+            int shown = Math.min(apps.size(), DISPLAY_PER_INTERNSHIP);
+            for (int k = 0; k < shown; k++) {
+                InternshipApp a = apps.get(k);
+                tp.addRow(
+                    k + 1,
+                    a.getId(),
+                    a.getStudent() != null ? ConsoleHelper.safe(a.getStudent().getName()) : "-",
+                    a.getStudent() != null ? a.getStudent().getUserId() : "-",
+                    i != null ? ConsoleHelper.safe(i.getId() + " " + i.getTitle()) : "-",
+                    ApplicantScorer.get().score(a),
+                    a.getStatus()
+                );
+            }
+            if (apps.size() > shown) {
+                tp.addRow("", "", "... " + (apps.size() - shown) + " more", "", i != null ? i.getId() : "-", "", "");
+            }
         }
 
-        System.out.println(tp.render());
+        out.println(tp.render());
     }
-}
\ No newline at end of file
+}
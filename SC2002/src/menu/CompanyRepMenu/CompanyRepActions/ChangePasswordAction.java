@@ -3,7 +3,9 @@ package menu.CompanyRepMenu.CompanyRepActions;
 import user.CompanyRep;
 import menu.MenuAction;
 import repository.Repository;
+import java.io.PrintStream;
 import java.util.Scanner;
+import util.Screen;
 
 /**
  * Action that prompts a company representative to change their password.
@@ -15,14 +17,16 @@ import java.util.Scanner;
 public class ChangePasswordAction implements MenuAction {
     private final CompanyRep me;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * @param me current company representative
-     * @param sc console scanner for password input
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public ChangePasswordAction(CompanyRep me, Scanner sc) {
+    public ChangePasswordAction(CompanyRep me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -30,15 +34,15 @@ public class ChangePasswordAction implements MenuAction {
      */
     @Override
     public void execute() {
-        System.out.print("Enter new password: ");
+        out.print("Enter new password: ");
         String pw = sc.nextLine().trim();
         try {
             me.changePassword(pw);
             // Save password change to CSV
             Repository.saveAllCompanyReps();
-            System.out.println("Password changed successfully.");
+            out.println("Password changed successfully.");
         } catch (Exception e) {
-            System.out.println("Failed to change password: " + e.getMessage());
+            out.println("Failed to change password: " + e.getMessage());
         }
     }
 }
@@ -2,12 +2,15 @@ package menu.CompanyRepMenu.CompanyRepActions;
 
 import internship.Internship;
 import internship.InternshipIds;
+import java.io.PrintStream;
 import java.time.LocalDate;
 import java.util.Scanner;
 import menu.MenuAction;
 import repository.Repository;
+import repository.SuggestionIndex.Field;
 import user.CompanyRep;
 import util.ConsoleHelper;
+import util.Screen;
 import util.TablePrinter;
 
 /**
@@ -18,16 +21,21 @@ import util.TablePrinter;
  * the new internship via the repository.
  */
 public class CreateInternshipAction implements MenuAction {
+    /** Suggestions listed for a prefix. */
+    private static final int SUGGESTIONS = 5;
+
     private final CompanyRep me;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * @param me the company representative creating the internship
-     * @param sc the console {@link Scanner} used to read input
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public CreateInternshipAction(CompanyRep me, Scanner sc) {
+    public CreateInternshipAction(CompanyRep me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -36,48 +44,48 @@ public class CreateInternshipAction implements MenuAction {
      */
     @Override
     public void execute() {
-        System.out.println("\n--- CREATE INTERNSHIP ---");
+        out.println("\n--- CREATE INTERNSHIP ---");
 
         try {
-            System.out.print("Title: ");
-            String title = sc.nextLine().trim();
+            String title = ConsoleHelper.readWithSuggestions(sc, out, "Title (end with ? for suggestions): ",
+                    p -> Repository.suggest(Field.TITLE, p, SUGGESTIONS));
 
-            System.out.print("Description: ");
+            out.print("Description: ");
             String desc = sc.nextLine().trim();
 
-            System.out.print("Level (BASIC/INTERMEDIATE/ADVANCED): ");
+            out.print("Level (BASIC/INTERMEDIATE/ADVANCED): ");
             String level = sc.nextLine().trim().toUpperCase();
 
-            System.out.print("Preferred Major (optional): ");
-            String major = sc.nextLine().trim();
+            String major = ConsoleHelper.readWithSuggestions(sc, out, "Preferred Major (optional, end with ? for suggestions): ",
+                    p -> Repository.suggest(Field.MAJOR, p, SUGGESTIONS));
 
-            System.out.print("Application Open Date (YYYY-MM-DD): ");
+            out.print("Application Open Date (YYYY-MM-DD): ");
             String openInput = sc.nextLine().trim();
             LocalDate openDate = LocalDate.parse(openInput);
 
-            System.out.print("Application Close Date (YYYY-MM-DD): ");
+            out.print("Application Close Date (YYYY-MM-DD): ");
             String closeInput = sc.nextLine().trim();
             LocalDate closeDate = LocalDate.parse(closeInput);
 
-            System.out.print("Number of Slots: ");
+            out.print("Number of Slots: ");
             int slots = Integer.parseInt(sc.nextLine().trim());
 
             // Validate
             if (title.isEmpty() || desc.isEmpty() || level.isEmpty() || slots <= 0) {
-                System.out.println("Invalid input. Internship not created.");
+                out.println("Invalid input. Internship not created.");
                 return;
             }
 
             // Check if slots exceed maximum of 10
             if (slots > 10) {
-                System.out.println("Error: Maximum number of slots allowed is 10. You entered " + slots + ".");
+                out.println("Error: Maximum number of slots allowed is 10. You entered " + slots + ".");
                 return;
             }
 
             // Check if rep has already created 5 internships (limit)
             var myInternships = Repository.findInternshipsByRepUserId(me.getUserId());
             if (myInternships.size() >= 5) {
-                System.out.println("You have reached the maximum limit of 5 internships. Cannot create more.");
+                out.println("You have reached the maximum limit of 5 internships. Cannot create more.");
                 return;
             }
 
@@ -100,13 +108,13 @@ public class CreateInternshipAction implements MenuAction {
             // Save into repository
             Repository.saveInternship(internship, me.getExternalId());
 
-            System.out.println("\nInternship created successfully!");
-            System.out.println("Generated Internship ID: " + internship.getId());
+            out.println("\nInternship created successfully!");
+            out.println("Generated Internship ID: " + internship.getId());
             // 👉 show as table
             printCreatedInternship(internship);
 
         } catch (Exception e) {
-            System.out.println("Error creating internship: " + e.getMessage());
+            out.println("Error creating internship: " + e.getMessage());
         }
     }
 
@@ -135,6 +143,6 @@ public class CreateInternshipAction implements MenuAction {
                 i.getSlots()
         );
 
-        System.out.println(tp.render());
+        out.println(tp.render());
     }
 }
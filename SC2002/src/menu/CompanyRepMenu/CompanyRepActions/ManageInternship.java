@@ -4,9 +4,11 @@ import user.CompanyRep;
 import menu.MenuAction;
 import repository.Repository;
 import internship.Internship;
+import util.Screen;
 import util.TablePrinter;
 import util.ConsoleHelper;
 
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 
@@ -19,14 +21,16 @@ import java.util.Scanner;
 public class ManageInternship implements MenuAction {
     private final CompanyRep me;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * @param me the company rep who will manage their internships
-     * @param sc the {@link Scanner} used for console interaction
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public ManageInternship(CompanyRep me, Scanner sc) {
+    public ManageInternship(CompanyRep me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -34,14 +38,14 @@ public class ManageInternship implements MenuAction {
      */
     @Override
     public void execute() {
-        System.out.println("\n--- MANAGE MY INTERNSHIPS ---");
+        out.println("\n--- MANAGE MY INTERNSHIPS ---");
 
         // 1) Get internships posted by this rep
         List<Internship> mine = Repository.findInternshipsByRepUserId(me.getExternalId());
         // If you don't have this method yet, see note below.
 
         if (mine == null || mine.isEmpty()) {
-            System.out.println("You have not created any internships yet.");
+            out.println("You have not created any internships yet.");
             return;
         }
 
@@ -49,14 +53,14 @@ public class ManageInternship implements MenuAction {
         printInternshipsTable(mine);
 
         // 3) Simple manage action: toggle visibility
-        System.out.print("\nEnter internship No. to toggle visibility (0 to return): ");
+        out.print("\nEnter internship No. to toggle visibility (0 to return): ");
         String input = sc.nextLine().trim();
         if ("0".equals(input)) return;
 
         try {
             int choice = Integer.parseInt(input);
             if (choice < 1 || choice > mine.size()) {
-                System.out.println("Invalid choice. Returning to menu.");
+                out.println("Invalid choice. Returning to menu.");
                 return;
             }
 
@@ -64,12 +68,12 @@ public class ManageInternship implements MenuAction {
             boolean newVisible = !selected.isVisible();
             selected.setVisible(newVisible);
 
-            System.out.println("Updated visibility of [" + selected.getId() + "] "
+            out.println("Updated visibility of [" + selected.getId() + "] "
                     + ConsoleHelper.safe(selected.getTitle())
                     + " to: " + (newVisible ? "VISIBLE" : "HIDDEN"));
 
         } catch (NumberFormatException e) {
-            System.out.println("Invalid input. Returning to menu.");
+            out.println("Invalid input. Returning to menu.");
         }
     }
 
@@ -105,6 +109,6 @@ public class ManageInternship implements MenuAction {
             );
         }
 
-        System.out.println(tp.render());
+        out.println(tp.render());
     }
 }
@@ -2,43 +2,47 @@ package menu.CompanyRepMenu.CompanyRepActions;
 
 import internship.Internship;
 import internship.InternshipApp;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 import menu.MenuAction;
 import repository.Repository;
 import user.CompanyRep;
 import util.ConsoleHelper;
+import util.Screen;
 import util.TablePrinter;
 public class ViewApplicationsAction implements MenuAction {
     private final CompanyRep me;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * @param me the company representative whose applications will be viewed
-     * @param sc the scanner (currently unused in scaffold but kept for parity)
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public ViewApplicationsAction(CompanyRep me, Scanner sc) {
+    public ViewApplicationsAction(CompanyRep me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     @Override
     public void execute() {
-        System.out.println("\n--- VIEW APPLICATIONS FOR MY INTERNSHIPS ---");
+        out.println("\n--- VIEW APPLICATIONS FOR MY INTERNSHIPS ---");
 
         // 1) Get all applications for internships posted by this rep
         // (see Repository helper below)
         List<InternshipApp> apps = Repository.findApplicationsByRepId(me.getUserId());
 
         if (apps == null || apps.isEmpty()) {
-            System.out.println("No applications yet for your internships.");
+            out.println("No applications yet for your internships.");
             return;
         }
 
         // 2) Print as table
         printApplicationsTable(apps);
 
-        System.out.print("\n(Press ENTER to return to menu) ");
+        out.print("\n(Press ENTER to return to menu) ");
         sc.nextLine();
     }
 
@@ -72,6 +76,6 @@ public class ViewApplicationsAction implements MenuAction {
             );            
         }
 
-        System.out.println(tp.render());
+        out.println(tp.render());
     }
 }
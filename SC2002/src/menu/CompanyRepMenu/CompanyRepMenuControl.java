@@ -1,11 +1,12 @@
 package menu.CompanyRepMenu;
 
+import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Scanner;
 import menu.CompanyRepMenu.CompanyRepActions.*;
 import menu.MenuAction;
 import user.CompanyRep;
+import util.Screen;
 
 /**
  * Control class for the Company Representative menu.
@@ -19,6 +20,7 @@ import user.CompanyRep;
  */
 public class CompanyRepMenuControl {
     private final CompanyRep me;
+    private final PrintStream out;
     private final Map<String, MenuAction> actions = new HashMap<>();
 
     /**
@@ -27,15 +29,16 @@ public class CompanyRepMenuControl {
      * to their command keys.
      *
      * @param me the currently logged-in {@link CompanyRep}
-     * @param sc the shared {@link Scanner} used by actions that need console input
+     * @param screen the session {@link Screen} shared by the menu and its actions
      */
-    public CompanyRepMenuControl(CompanyRep me, Scanner sc) {
+    public CompanyRepMenuControl(CompanyRep me, Screen screen) {
         this.me = me;
-        actions.put("1", new CreateInternshipAction(me, sc));
-        actions.put("2", new ManageInternship(me, sc));
-        actions.put("3", new ViewApplicationsAction(me, sc));
-        actions.put("4", new ApproveApplicationAction(me, sc));
-        actions.put("5", new ChangePasswordAction(me, sc));
+        this.out = screen.out();
+        actions.put("1", new CreateInternshipAction(me, screen));
+        actions.put("2", new ManageInternship(me, screen));
+        actions.put("3", new ViewApplicationsAction(me, screen));
+        actions.put("4", new ApproveApplicationAction(me, screen));
+        actions.put("5", new ChangePasswordAction(me, screen));
     }
 
     /**
@@ -48,6 +51,6 @@ public class CompanyRepMenuControl {
     public void handle(String key) {
         MenuAction a = actions.get(key);
         if (a != null) a.execute();
-        else System.out.println("Invalid option.");
+        else out.println("Invalid option.");
     }
 }
\ No newline at end of file
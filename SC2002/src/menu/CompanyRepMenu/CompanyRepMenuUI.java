@@ -1,6 +1,7 @@
 package menu.CompanyRepMenu;
 
 import menu.BaseMenuUI;
+import util.Screen;
 
 /**
  * Company Representative menu UI - extends {@link BaseMenuUI} to reduce duplication
@@ -14,8 +15,10 @@ public class CompanyRepMenuUI extends BaseMenuUI {
      * Construct the UI with the given control.
      *
      * @param control the control that will handle menu commands
+     * @param screen the session {@link Screen} to read commands from and print to
      */
-    public CompanyRepMenuUI(CompanyRepMenuControl control) {
+    public CompanyRepMenuUI(CompanyRepMenuControl control, Screen screen) {
+        super(screen);
         this.control = control;
     }
 
@@ -36,17 +39,17 @@ public class CompanyRepMenuUI extends BaseMenuUI {
      */
     @Override
     protected void printMenu() {
-        System.out.println("\n╔════════════════════════════════════════════╗");
-        System.out.println("  ║          COMPANY REPRESENTATIVE MENU       ║");
-        System.out.println("  ╚════════════════════════════════════════════╝");
-        System.out.println("┌─────────────────────────────────────────────┐");
-        System.out.println("│  1) Create Internship                       │");
-        System.out.println("│  2) Manage My Internships                   │");
-        System.out.println("│  3) View Applications                       │");
-        System.out.println("│  4) Approve/Reject Applications             │");
-        System.out.println("│  5) Change Password                         │");
-        System.out.println("│  0) Logout                                  │");
-        System.out.println("└─────────────────────────────────────────────┘");
-        System.out.print("\nSelect option: ");
+        out.println("\n╔════════════════════════════════════════════╗");
+        out.println("  ║          COMPANY REPRESENTATIVE MENU       ║");
+        out.println("  ╚════════════════════════════════════════════╝");
+        out.println("┌─────────────────────────────────────────────┐");
+        out.println("│  1) Create Internship                       │");
+        out.println("│  2) Manage My Internships                   │");
+        out.println("│  3) View Applications                       │");
+        out.println("│  4) Approve/Reject Applications             │");
+        out.println("│  5) Change Password                         │");
+        out.println("│  0) Logout                                  │");
+        out.println("└─────────────────────────────────────────────┘");
+        out.print("\nSelect option: ");
     }
 }
\ No newline at end of file
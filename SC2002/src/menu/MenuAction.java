@@ -5,6 +5,11 @@ package menu;
  * Implementations encapsulate the behavior executed when a menu option
  * is selected. This simple Command-like interface keeps UI and action
  * implementations decoupled and testable.
+ * <p>
+ * Actions that interact with the user take the session's {@link util.Screen}
+ * when constructed and print to and read from it rather than
+ * {@code System.out} and {@code System.in}.
+ * </p>
  */
 public interface MenuAction {
     /**
@@ -1,9 +1,12 @@
 package menu.StaffMenu.StaffActions;
 
+import audit.AuditLog;
 import repository.Repository;
 import user.CompanyRep;
 import menu.MenuAction;
+import util.Screen;
 
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 
@@ -16,8 +19,9 @@ import java.util.Scanner;
  */
 public class ApproveRepAction implements MenuAction {
     private final Scanner sc;
+    private final PrintStream out;
 
-    public ApproveRepAction(Scanner sc) { this.sc = sc; }
+    public ApproveRepAction(Screen screen) { this.sc = screen.scanner(); this.out = screen.out(); }
 
     /**
      * Execute the approval flow: list pending reps, ask for confirmation,
@@ -28,33 +32,33 @@ public class ApproveRepAction implements MenuAction {
         List<CompanyRep> pending = Repository.findPendingCompanyReps();
 
         if (pending == null || pending.isEmpty()) {
-            System.out.println("\nNo pending company representatives to approve.");
+            out.println("\nNo pending company representatives to approve.");
             return;
         }
 
-        System.out.println("\n--- APPROVE COMPANY REPRESENTATIVES ---");
-        System.out.println("Pending reps: " + pending.size());
-        System.out.println("Type 'y' to approve, 'n' to skip, 'q' to stop.\n");
+        out.println("\n--- APPROVE COMPANY REPRESENTATIVES ---");
+        out.println("Pending reps: " + pending.size());
+        out.println("Type 'y' to approve, 'n' to skip, 'q' to stop.\n");
 
         for (CompanyRep r : pending) {
-            System.out.println("Email: " + r.getUserId());
-            System.out.println("Name : " + r.getName());
-            System.out.print("Approve this representative? (y/n/q): ");
+            out.println("Email: " + r.getUserId());
+            out.println("Name : " + r.getName());
+            out.print("Approve this representative? (y/n/q): ");
 
             String ans = sc.nextLine().trim().toLowerCase();
 
             // allow early exit
             if ("q".equals(ans)) {
-                System.out.println("Stopping approval process.");
+                out.println("Stopping approval process.");
                 return;
             }
 
             // validate input
             while (!"y".equals(ans) && !"n".equals(ans)) {
-                System.out.print("Please enter 'y' (yes), 'n' (no) or 'q' (quit): ");
+                out.print("Please enter 'y' (yes), 'n' (no) or 'q' (quit): ");
                 ans = sc.nextLine().trim().toLowerCase();
                 if ("q".equals(ans)) {
-                    System.out.println("Stopping approval process.");
+                    out.println("Stopping approval process.");
                     return;
                 }
             }
@@ -62,12 +66,13 @@ public class ApproveRepAction implements MenuAction {
             if ("y".equals(ans)) {
                 r.setApproved(true);
                 Repository.updateUser(r);
-                System.out.println("-> Approved: " + r.getUserId() + "\n");
+                AuditLog.get().record("APPROVE_REP " + r.getUserId(), "StaffMenu");
+                out.println("-> Approved: " + r.getUserId() + "\n");
             } else {
-                System.out.println("-> Skipped: " + r.getUserId() + "\n");
+                out.println("-> Skipped: " + r.getUserId() + "\n");
             }
         }
 
-        System.out.println("Finished processing all pending company representatives.");
+        out.println("Finished processing all pending company representatives.");
     }
 }
\ No newline at end of file
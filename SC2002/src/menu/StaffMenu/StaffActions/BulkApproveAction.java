@@ -1,40 +1,47 @@
 package menu.StaffMenu.StaffActions;
 
+import commands.BulkApproveCommand;
+import commands.CommandManager;
 import internship.Internship;
 import internship.Internship.InternshipStatus;
 import menu.MenuAction;
 import repository.Repository;
+import java.io.PrintStream;
 import java.util.*;
 import java.util.stream.Collectors;
+import util.Screen;
 
 /**
- * Bulk-approve action used by staff to approve multiple applications or reps
- * in a single operation. The scaffold currently contains only a placeholder
- * implementation — replace with batch logic as needed.
+ * Bulk-approve action used by staff to approve multiple pending internships
+ * in a single operation. Every approval runs through {@link CommandManager}
+ * as a {@link BulkApproveCommand}, so it can be undone from the staff menu.
  */
 public class BulkApproveAction implements MenuAction {
     private final Scanner sc;
+    private final PrintStream out;
 
-    public BulkApproveAction(Scanner sc) { this.sc = sc; }
+    public BulkApproveAction(Screen screen) { this.sc = screen.scanner(); this.out = screen.out(); }
 
     /**
-     * Execute the bulk approve workflow. Currently prints a stub message.
+     * Execute the bulk approve workflow: manual, all-except-selected or by company.
      */
     @Override
     public void execute() {
         while (true) {
-            System.out.println("\n--- BULK APPROVE INTERNSHIP OPPORTUNITIES ---");
-            System.out.println("1) Manually approve pending internships");
-            System.out.println("2) Bulk approve ALL pending internships except selected ones");
-            System.out.println("0) Back");
-            System.out.print("Select option: ");
+            out.println("\n--- BULK APPROVE INTERNSHIP OPPORTUNITIES ---");
+            out.println("1) Manually approve pending internships");
+            out.println("2) Bulk approve ALL pending internships except selected ones");
+            out.println("3) Bulk approve pending internships of a company");
+            out.println("0) Back");
+            out.print("Select option: ");
 
             String choice = sc.nextLine().trim();
             switch (choice) {
                 case "1" -> manualApprove();
                 case "2" -> bulkApproveWithExceptions();
+                case "3" -> bulkApproveByCompany();
                 case "0" -> { return; }
-                default  -> System.out.println("Invalid option.");
+                default  -> out.println("Invalid option.");
             }
         }
     }
@@ -50,20 +57,18 @@ public class BulkApproveAction implements MenuAction {
     private void manualApprove() {
         List<Internship> pending = getPendingInternships();
         if (pending.isEmpty()) {
-            System.out.println("No pending internships to approve.");
+            out.println("No pending internships to approve.");
             return;
         }
 
-        System.out.println("\nPending internships:");
+        out.println("\nPending internships:");
         for (Internship i : pending) {
-            System.out.println(i.getId() + " | " + i.getTitle() + " | " + i.getCompanyName());
-            System.out.print("Approve this internship? (y/n): ");
+            out.println(i.getId() + " | " + i.getTitle() + " | " + i.getCompanyName());
+            out.print("Approve this internship? (y/n): ");
             String ans = sc.nextLine().trim().toLowerCase();
             if ("y".equals(ans)) {
-                i.setStatus(InternshipStatus.APPROVED);
-                i.setVisible(true);
-                Repository.updateInternship(i); // or saveAll later
-                System.out.println("  -> Approved " + i.getId());
+                CommandManager.get().run(new BulkApproveCommand(List.of(i), x -> false));
+                out.println("  -> Approved " + i.getId());
             }
         }
     }
@@ -72,16 +77,16 @@ public class BulkApproveAction implements MenuAction {
     private void bulkApproveWithExceptions() {
         List<Internship> pending = getPendingInternships();
         if (pending.isEmpty()) {
-            System.out.println("No pending internships to approve.");
+            out.println("No pending internships to approve.");
             return;
         }
 
-        System.out.println("\nPending internships:");
+        out.println("\nPending internships:");
         for (Internship i : pending) {
-            System.out.println(" - " + i.getId() + " | " + i.getTitle() + " | " + i.getCompanyName());
+            out.println(" - " + i.getId() + " | " + i.getTitle() + " | " + i.getCompanyName());
         }
 
-        System.out.print("\nEnter internship IDs to EXCLUDE (comma-separated), or press ENTER for none: ");
+        out.print("\nEnter internship IDs to EXCLUDE (comma-separated), or press ENTER for none: ");
         String line = sc.nextLine().trim();
 
         Set<String> exclude = new HashSet<>();
@@ -91,18 +96,29 @@ public class BulkApproveAction implements MenuAction {
             }
         }
 
-        int count = 0;
         for (Internship i : pending) {
-            if (exclude.contains(i.getId().toUpperCase())) {
-                System.out.println("Skipping " + i.getId());
-                continue;
-            }
-            i.setStatus(InternshipStatus.APPROVED);
-            i.setVisible(true);
-            Repository.updateInternship(i);
-            count++;
+            if (exclude.contains(i.getId().toUpperCase())) out.println("Skipping " + i.getId());
+        }
+        runBulk(new BulkApproveCommand(pending, i -> exclude.contains(i.getId().toUpperCase())));
+    }
+
+    /** Option 3: approve every pending internship posted under a company name */
+    private void bulkApproveByCompany() {
+        out.print("\nCompany name: ");
+        String company = sc.nextLine().trim();
+        if (company.isEmpty()) {
+            out.println("No company entered.");
+            return;
         }
+        runBulk(BulkApproveCommand.matching(i -> company.equalsIgnoreCase(i.getCompanyName())));
+    }
 
-        System.out.println("\nBulk approval complete. Approved " + count + " internships.");
+    /** Run a bulk approval through the command manager (undoable) and report throughput. */
+    private void runBulk(BulkApproveCommand cmd) {
+        CommandManager.get().run(cmd);
+        double ms = cmd.elapsedNanos() / 1_000_000.0;
+        double perSec = cmd.elapsedNanos() > 0 ? cmd.scannedCount() * 1e9 / cmd.elapsedNanos() : 0;
+        out.println("\nBulk approval complete. Approved " + cmd.changedCount() + " internships.");
+        out.printf("Scanned %d in %.1f ms (%.0f internships/s).%n", cmd.scannedCount(), ms, perSec);
     }
 }
@@ -1,10 +1,12 @@
 package menu.StaffMenu.StaffActions;
 
 import internship.Internship;
+import java.io.PrintStream;
 import java.util.Scanner;
 import menu.MenuAction;
 import reporting.ReportFilter;
 import reporting.ReportGenerator;
+import util.Screen;
 
 /**
  * Implements the {@link MenuAction} for Career Centre Staff to generate detailed reports on internships.
@@ -19,15 +21,19 @@ import reporting.ReportGenerator;
  * </p>
  */
 public class GenerateReportsAction implements MenuAction {
+    private final Screen screen;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * Constructs a new {@code GenerateReportsAction}.
      *
-     * @param sc The {@link Scanner} used to capture user input for filtering criteria.
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public GenerateReportsAction(Scanner sc) {
-        this.sc = sc;
+    public GenerateReportsAction(Screen screen) {
+        this.screen = screen;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -44,43 +50,43 @@ public class GenerateReportsAction implements MenuAction {
      */
     @Override
     public void execute() {
-        System.out.println("\n--- GENERATE INTERNSHIP REPORT ---");
+        out.println("\n--- GENERATE INTERNSHIP REPORT ---");
 
         // ===== Ask for filters =====
-        System.out.print("Filter by Status (ALL/PENDING_REVIEW/APPROVED/REJECTED/FILLED): ");
+        out.print("Filter by Status (ALL/PENDING_REVIEW/APPROVED/REJECTED/FILLED): ");
         String statusIn = sc.nextLine().trim().toUpperCase();
         Internship.InternshipStatus statusFilterTemp = null;
         if (!statusIn.isEmpty() && !"ALL".equals(statusIn)) {
             try {
                 statusFilterTemp = Internship.InternshipStatus.valueOf(statusIn);
             } catch (IllegalArgumentException e) {
-                System.out.println("Invalid status, ignoring filter.");
+                out.println("Invalid status, ignoring filter.");
             }
         }
         final Internship.InternshipStatus statusFilter = statusFilterTemp;
 
-        System.out.print("Filter by Preferred Major (leave blank for ALL): ");
+        out.print("Filter by Preferred Major (leave blank for ALL): ");
         String majorInput = sc.nextLine().trim();
         final String majorFilter = majorInput.isEmpty() ? null : majorInput;
 
-        System.out.print("Filter by Level (ALL/BASIC/INTERMEDIATE/ADVANCED): ");
+        out.print("Filter by Level (ALL/BASIC/INTERMEDIATE/ADVANCED): ");
         String levelIn = sc.nextLine().trim().toUpperCase();
         Internship.InternshipLevel levelFilterTemp = null;
         if (!levelIn.isEmpty() && !"ALL".equals(levelIn)) {
             try {
                 levelFilterTemp = Internship.InternshipLevel.valueOf(levelIn);
             } catch (IllegalArgumentException e) {
-                System.out.println("Invalid level, ignoring filter.");
+                out.println("Invalid level, ignoring filter.");
             }
         }
         final Internship.InternshipLevel levelFilter = levelFilterTemp;
 
         // ===== Create filter object and generate report =====
         ReportFilter filter = new ReportFilter(statusFilter, majorFilter, levelFilter);
-        ReportGenerator reportGenerator = new ReportGenerator(filter);
+        ReportGenerator reportGenerator = new ReportGenerator(filter, screen);
         reportGenerator.generateFullReport();
 
-        System.out.print("\n(Press ENTER to return to menu) ");
+        out.print("\n(Press ENTER to return to menu) ");
         sc.nextLine();
     }
 }
@@ -1,89 +1,100 @@
 package menu.StaffMenu.StaffActions;
 
+import commands.CommandManager;
+import commands.WithdrawalCommand;
 import internship.Internship;
 import internship.InternshipApp;
+import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 import menu.MenuAction;
-import repository.Repository;
+import withdrawal.WithdrawalQueue;
+import util.Screen;
 
 /**
  * Action for staff to handle withdrawal requests from students.
  *
- * The current scaffold is a placeholder; in a complete system this would
- * interact with the {@code withdrawal} package to accept/deny student
- * withdrawal requests and update placements accordingly.
+ * Walks the {@link WithdrawalQueue} in submission order, asking for a decision
+ * on each request. Answering {@code a} approves the current request and all
+ * remaining ones as a single undoable batch.
  */
 public class HandleWithdrawalsAction implements MenuAction {
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
-     * @param sc scanner used to read staff decisions from the console
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public HandleWithdrawalsAction(Scanner sc) {
-        this.sc = sc;
+    public HandleWithdrawalsAction(Screen screen) {
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
-     * Execute the withdrawals handling flow. Currently prints a placeholder.
+     * Execute the withdrawals handling flow.
      */
     @Override
     public void execute() {
-        System.out.println("\n--- HANDLE WITHDRAWAL REQUESTS ---");
+        out.println("\n--- HANDLE WITHDRAWAL REQUESTS ---");
 
-        // 1) Get all apps where withdrawalRequested = true and status = CONFIRMED
-        List<InternshipApp> pending = Repository.findPendingWithdrawals();
-        if (pending == null || pending.isEmpty()) {
-            System.out.println("No pending withdrawal requests.");
+        List<WithdrawalQueue.Request> pending = WithdrawalQueue.get().peekAll();
+        if (pending.isEmpty()) {
+            out.println("No pending withdrawal requests.");
             return;
         }
 
-        for (InternshipApp app : pending) {
+        for (int n = 0; n < pending.size(); n++) {
+            WithdrawalQueue.Request req = pending.get(n);
+            InternshipApp app = req.app;
             Internship i = app.getInternship();
 
-            System.out.println("\nApplication ID : " + app.getId());
-            System.out.println("Student ID     : " + app.getStudent().getUserId());
-            System.out.println("Internship     : " +
+            out.println("\nRequest        : " + req.id);
+            out.println("Application ID : " + app.getId());
+            out.println("Student ID     : " + app.getStudent().getUserId());
+            out.println("Internship     : " +
                     (i != null ? i.getId() + " | " + i.getTitle() : "-"));
-            System.out.println("Current Status : " + app.getStatus());
-            System.out.print("Approve withdrawal? (y/n/q): ");
+            out.println("Current Status : " + app.getStatus());
+            if (!req.reason.isEmpty()) out.println("Reason         : " + req.reason);
+            out.print("Approve withdrawal? (y/n/a = approve all remaining/q): ");
 
             String ans = sc.nextLine().trim().toLowerCase();
 
             // allow early exit
             if ("q".equals(ans)) {
-                System.out.println("Stopping withdrawal handling.");
+                out.println("Stopping withdrawal handling.");
                 return;
             }
 
             // basic validation
-            while (!"y".equals(ans) && !"n".equals(ans)) {
-                System.out.print("Please enter 'y' (yes), 'n' (no) or 'q' (quit): ");
+            while (!"y".equals(ans) && !"n".equals(ans) && !"a".equals(ans)) {
+                out.print("Please enter 'y' (yes), 'n' (no), 'a' (all) or 'q' (quit): ");
                 ans = sc.nextLine().trim().toLowerCase();
                 if ("q".equals(ans)) {
-                    System.out.println("Stopping withdrawal handling.");
+                    out.println("Stopping withdrawal handling.");
                     return;
                 }
             }
 
-            if ("y".equals(ans)) {
-                // ✅ Approve: mark withdrawn + free a slot
-                app.withdraw();          // sets status WITHDRAWN and clears withdrawalRequested
-                if (i != null) {
-                    i.incrementSlot();   // one confirmed student left → slot freed
-                }
-                // No need to save - in-memory references are updated automatically
-
-                System.out.println("-> Withdrawal approved for " + app.getId());
-                // (Optional) notify waitlisted students here via WaitlistService / NotificationService
+            if ("a".equals(ans)) {
+                // One batch command: persisted once and undone as a unit
+                List<InternshipApp> rest = new ArrayList<>();
+                for (WithdrawalQueue.Request r : pending.subList(n, pending.size())) rest.add(r.app);
+                CommandManager.get().run(new WithdrawalCommand(rest, true));
+                out.println("-> Approved " + rest.size() + " withdrawal request(s).");
+                break;
+            } else if ("y".equals(ans)) {
+                // ✅ Approve: mark withdrawn + free a slot (undoable via CommandManager)
+                CommandManager.get().run(new WithdrawalCommand(app, true));
+                out.println("-> Withdrawal approved for " + app.getId());
+                // The next waitlisted student is promoted automatically (NotificationCenter.PROMOTER)
             } else {
                 // ❌ Reject: keep status, just clear the flag
-                app.setWithdrawalRequested(false);
-                // No need to save - in-memory references are updated automatically
-                System.out.println("-> Withdrawal rejected for " + app.getId());
+                CommandManager.get().run(new WithdrawalCommand(app, false));
+                out.println("-> Withdrawal rejected for " + app.getId());
             }
         }
 
-        System.out.println("\nFinished processing all pending withdrawal requests.");
+        out.println("\nFinished processing all pending withdrawal requests.");
     }
 }
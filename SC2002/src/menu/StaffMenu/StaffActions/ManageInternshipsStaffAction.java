@@ -3,46 +3,83 @@ package menu.StaffMenu.StaffActions;
 import menu.MenuAction;
 import repository.Repository;
 import internship.Internship;
+import util.ComparatorFactory.Order;
+import util.KeysetPage;
+import util.Screen;
 import util.TablePrinter;
 import util.ConsoleHelper;
 
+import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 /**
  * Staff action to show an overview of internships across the platform.
  *
- * Placeholder in the scaffold; replace with aggregated reporting logic
- * (counts per company, open positions, etc.) as needed.
+ * The catalog is listed in a chosen order, one page at a time, from the
+ * repository's sorted indexes: each page is fetched with the last row of
+ * the previous one as cursor, so nothing is sorted or materialised up front.
  */
 public class ManageInternshipsStaffAction implements MenuAction {
+    private static final int PAGE_SIZE = 15;
+
     private final Scanner sc;
+
+    private final PrintStream out;
     /**
-     * @param sc scanner used for any interactive prompts
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public ManageInternshipsStaffAction(Scanner sc) {
-        this.sc = sc;
+    public ManageInternshipsStaffAction(Screen screen) {
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
-     * Execute the overview/reporting flow. Currently a stub.
+     * Ask for a sort order, then page through the catalog.
      */
     @Override
     public void execute() {
-        System.out.println("\n--- INTERNSHIP OVERVIEW (STAFF) ---");
+        out.println("\n--- INTERNSHIP OVERVIEW (STAFF) ---");
 
-        List<Internship> all = Repository.findAllInternships();
-        if (all == null || all.isEmpty()) {
-            System.out.println("No internships in the system.");
+        if (Repository.findAllInternships().isEmpty()) {
+            out.println("No internships in the system.");
             return;
         }
 
-        printInternshipsTable(all);
+        Order[] orders = Order.values();
+        for (int k = 0; k < orders.length; k++) out.println((k + 1) + ") Sort by " + orders[k].label());
+        out.print("Select order (ENTER for " + orders[0].label() + "): ");
+        String in = sc.nextLine().trim();
+        Order order = orders[0];
+        if (!in.isEmpty()) {
+            try {
+                order = orders[Integer.parseInt(in) - 1];
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                out.println("Invalid option, sorting by " + order.label() + ".");
+            }
+        }
 
-        System.out.print("\n(Press ENTER to return to menu) ");
-        sc.nextLine();
+        // Start cursor of every page up to the current one; null starts the listing
+        List<Internship> starts = new ArrayList<>();
+        starts.add(null);
+        while (true) {
+            int pageNo = starts.size();
+            KeysetPage<Internship> page = Repository.pageInternships(order, starts.get(pageNo - 1), PAGE_SIZE);
+            printInternshipsTable(page.items(), (pageNo - 1) * PAGE_SIZE + 1);
+            out.print("\nPage " + pageNo + (page.hasMore() ? " | (n)ext" : "")
+                    + (pageNo > 1 ? " | (p)revious" : "") + " | ENTER to return: ");
+            String cmd = sc.nextLine().trim().toLowerCase();
+            if (cmd.equals("n") && page.hasMore()) {
+                starts.add(page.cursor());
+            } else if (cmd.equals("p") && pageNo > 1) {
+                starts.remove(pageNo - 1);
+            } else if (cmd.isEmpty()) {
+                return;
+            }
+        }
     }
 
-    private void printInternshipsTable(List<Internship> list) {
+    private void printInternshipsTable(List<Internship> list, int firstRow) {
         var tp = TablePrinter.builder()
                 .unicodeBorders(true)
                 .maxTableWidth(160)
@@ -59,7 +96,7 @@ public class ManageInternshipsStaffAction implements MenuAction {
                 .addColumn("Status",  TablePrinter.Align.CENTER, 10, 12)
                 .build();
 
-        int idx = 1;
+        int idx = firstRow;
         for (Internship i : list) {
             tp.addRow(
                     idx++,
@@ -76,6 +113,6 @@ public class ManageInternshipsStaffAction implements MenuAction {
             );
         }
 
-        System.out.println(tp.render());
+        out.println(tp.render());
     }
 }
@@ -1,112 +1,129 @@
 package menu.StaffMenu.StaffActions;
 
-import internship.ApplicationStatus;
+import commands.CommandManager;
+import commands.WithdrawalCommand;
 import internship.InternshipApp;
 import menu.MenuAction;
-import repository.Repository;
 import user.CareerCentreStaff;
 import util.ConsoleHelper;
+import util.Screen;
 import util.TablePrinter;
+import withdrawal.WithdrawalQueue;
 
+import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
 /**
  * Action for Career Center Staff to manage student withdrawal requests.
  * 
- * Staff can approve or deny withdrawal requests from students.
- * When approved, the application is marked as WITHDRAWN.
+ * Staff can approve or deny withdrawal requests from students, or approve
+ * every listed request at once. When approved, the application is marked as WITHDRAWN.
  */
 public class ManageWithdrawalRequestsAction implements MenuAction {
     private final CareerCentreStaff me;
     private final Scanner sc;
+    private final PrintStream out;
 
-    public ManageWithdrawalRequestsAction(CareerCentreStaff me, Scanner sc) {
+    public ManageWithdrawalRequestsAction(CareerCentreStaff me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     @Override
     public void execute() {
-        List<InternshipApp> allApps = Repository.findAllApplications();
-        
-        // Filter for applications with withdrawal requests
-        List<InternshipApp> withdrawalRequests = allApps.stream()
-                .filter(InternshipApp::isWithdrawalRequested)
-                .toList();
+        List<WithdrawalQueue.Request> withdrawalRequests = WithdrawalQueue.get().peekAll();
 
         if (withdrawalRequests.isEmpty()) {
-            System.out.println("No pending withdrawal requests.");
+            out.println("No pending withdrawal requests.");
             return;
         }
 
         // Display pending withdrawal requests
-        System.out.println("\n=== Pending Withdrawal Requests ===");
+        out.println("\n=== Pending Withdrawal Requests ===");
         var tp = TablePrinter.builder()
                 .unicodeBorders(true)
                 .maxTableWidth(150)
                 .addColumn("No.", TablePrinter.Align.RIGHT, 2, 4)
+                .addColumn("Request", TablePrinter.Align.LEFT, 8, 10)
                 .addColumn("AppID", TablePrinter.Align.LEFT, 6, 10)
                 .addColumn("Student", TablePrinter.Align.LEFT, 10, 25)
                 .addColumn("Internship", TablePrinter.Align.LEFT, 10, 30)
                 .addColumn("Company", TablePrinter.Align.LEFT, 8, 20)
                 .addColumn("Status", TablePrinter.Align.CENTER, 10, 14)
+                .addColumn("Reason", TablePrinter.Align.LEFT, 6, 30)
                 .build();
 
         int idx = 1;
-        for (InternshipApp app : withdrawalRequests) {
+        for (WithdrawalQueue.Request req : withdrawalRequests) {
+            InternshipApp app = req.app;
             tp.addRow(
                     idx++,
+                    req.id,
                     app.getId(),
                     app.getStudent().getName(),
                     ConsoleHelper.safe(app.getInternship().getTitle()),
                     ConsoleHelper.safe(app.getInternship().getCompanyName()),
-                    app.getStatus()
+                    app.getStatus(),
+                    ConsoleHelper.safe(req.reason)
             );
         }
-        System.out.println(tp.render());
+        out.println(tp.render());
 
-        System.out.print("\nSelect withdrawal request to process (or 0 to cancel): ");
+        out.print("\nSelect withdrawal request to process ('all' to approve every listed request, 0 to cancel): ");
         String input = sc.nextLine().trim();
         
         if (input.equals("0")) {
             return;
         }
 
+        if (input.equalsIgnoreCase("all")) {
+            if (!ConsoleHelper.askYesNo(sc, out, "Approve all " + withdrawalRequests.size() + " withdrawal requests? (y/n): ")) {
+                return;
+            }
+            List<InternshipApp> batch = new ArrayList<>();
+            for (WithdrawalQueue.Request req : withdrawalRequests) batch.add(req.app);
+            // Single undoable command, persisted once
+            CommandManager.get().run(new WithdrawalCommand(batch, true));
+            out.println("\n" + batch.size() + " withdrawal request(s) approved.");
+            return;
+        }
+
         try {
             int choice = Integer.parseInt(input);
             if (choice < 1 || choice > withdrawalRequests.size()) {
-                System.out.println("Invalid selection.");
+                out.println("Invalid selection.");
                 return;
             }
 
-            InternshipApp selectedApp = withdrawalRequests.get(choice - 1);
+            WithdrawalQueue.Request selected = withdrawalRequests.get(choice - 1);
+            InternshipApp selectedApp = selected.app;
             
-            System.out.println("\nWith drawal Request Details:");
-            System.out.println("  Student: " + selectedApp.getStudent().getName());
-            System.out.println("  Application: " + selectedApp.getId());
-            System.out.println("  Internship: " + selectedApp.getInternship().getTitle());
-            System.out.println("  Company: " + selectedApp.getInternship().getCompanyName());
-            System.out.println("  Current Status: " + selectedApp.getStatus());
+            out.println("\nWithdrawal Request " + selected.id + ":");
+            out.println("  Student: " + selectedApp.getStudent().getName());
+            out.println("  Application: " + selectedApp.getId());
+            out.println("  Internship: " + selectedApp.getInternship().getTitle());
+            out.println("  Company: " + selectedApp.getInternship().getCompanyName());
+            out.println("  Current Status: " + selectedApp.getStatus());
+            if (!selected.reason.isEmpty()) out.println("  Reason: " + selected.reason);
             
-            boolean approve = ConsoleHelper.askYesNo(sc, "\nApprove withdrawal request? (y/n): ");
+            boolean approve = ConsoleHelper.askYesNo(sc, out, "\nApprove withdrawal request? (y/n): ");
             
             if (approve) {
-                selectedApp.withdraw();
-                Repository.saveApplication(selectedApp);
-                // Save internships as well since confirmedCount may have changed
-                Repository.saveAllInternships();
-                System.out.println("\nWithdrawal request approved.");
-                System.out.println("Application status updated to WITHDRAWN.");
+                // Persists the application and, if a slot was freed, the internships
+                CommandManager.get().run(new WithdrawalCommand(selectedApp, true));
+                out.println("\nWithdrawal request approved.");
+                out.println("Application status updated to WITHDRAWN.");
             } else {
-                selectedApp.setWithdrawalRequested(false);
-                Repository.saveApplication(selectedApp);
-                System.out.println("\nWithdrawal request denied.");
-                System.out.println("Student will be notified of the decision.");
+                CommandManager.get().run(new WithdrawalCommand(selectedApp, false));
+                out.println("\nWithdrawal request denied.");
+                out.println("Student will be notified of the decision.");
             }
 
         } catch (NumberFormatException e) {
-            System.out.println("Invalid input.");
+            out.println("Invalid input.");
         }
     }
 }
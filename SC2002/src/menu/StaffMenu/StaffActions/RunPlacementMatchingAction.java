@@ -0,0 +1,58 @@
+package menu.StaffMenu.StaffActions;
+
+import commands.ApplicationDecisionCommand;
+import commands.CommandManager;
+import internship.ApplicationStatus;
+import internship.InternshipApp;
+import java.io.PrintStream;
+import java.util.Scanner;
+import menu.MenuAction;
+import notification.NotificationService;
+import placement.PlacementMatcher;
+import repository.Repository;
+import util.Screen;
+
+/**
+ * Staff action that allocates every pending application in one pass with
+ * {@link PlacementMatcher} and, once confirmed, writes the outcome back as a
+ * single undoable {@link ApplicationDecisionCommand}: matched applications
+ * become SUCCESSFUL and all other pending ones UNSUCCESSFUL.
+ */
+public class RunPlacementMatchingAction implements MenuAction {
+    private final Scanner sc;
+    private final PrintStream out;
+
+    public RunPlacementMatchingAction(Screen screen) { this.sc = screen.scanner(); this.out = screen.out(); }
+
+    @Override
+    public void execute() {
+        out.println("\n--- TERM-WIDE PLACEMENT MATCHING ---");
+        PlacementMatcher.Result r = new PlacementMatcher().match(Repository.findAllApplications());
+        if (r.getMatched().isEmpty() && r.getUnmatched().isEmpty()) {
+            out.println("No pending applications to allocate.");
+            return;
+        }
+
+        out.printf("Students: %d | Postings: %d | Free places: %d%n",
+                r.getStudents(), r.getPostings(), r.getCapacity());
+        out.printf("Matched: %d | Not matched: %d | Proposals: %d | %.1f ms%n",
+                r.getMatched().size(), r.getUnmatched().size(), r.getProposals(), r.getElapsedNanos() / 1_000_000.0);
+
+        out.print("Apply this allocation? Matched become SUCCESSFUL, the rest UNSUCCESSFUL (y/n): ");
+        if (!sc.nextLine().trim().equalsIgnoreCase("y")) {
+            out.println("No changes made.");
+            return;
+        }
+
+        ApplicationDecisionCommand cmd = new ApplicationDecisionCommand("PlacementMatching", r.decisions());
+        CommandManager.get().run(cmd);
+        NotificationService notices = NotificationService.get();
+        for (InternshipApp a : r.getMatched()) {
+            notices.notify(a.getStudent().getUserId(), "You have been offered " + a.getInternship().getTitle()
+                    + " @ " + a.getInternship().getCompanyName() + " (application " + a.getId() + ").", null);
+        }
+        out.println("\nAllocation applied: " + cmd.countChangedTo(ApplicationStatus.SUCCESSFUL)
+                + " SUCCESSFUL, " + cmd.countChangedTo(ApplicationStatus.UNSUCCESSFUL) + " UNSUCCESSFUL.");
+        out.println("Use 'Undo Last Decision' to revert the whole allocation.");
+    }
+}
@@ -0,0 +1,50 @@
+package menu.StaffMenu.StaffActions;
+
+import commands.CommandManager;
+import java.io.PrintStream;
+import menu.MenuAction;
+import util.Screen;
+
+/**
+ * Action that undoes or redoes the most recent approval or withdrawal decision
+ * through the shared {@link CommandManager}.
+ * <p>
+ * Each user has their own history, journaled by the command manager, so a
+ * user's decisions made in an earlier session can still be reverted after a
+ * restart, while other users' decisions are never touched. A decision whose
+ * applications have changed since is not reverted.
+ * </p>
+ */
+public class UndoRedoAction implements MenuAction {
+    private final PrintStream out;
+    private final boolean redo;
+
+    /**
+     * @param screen the session {@link Screen} to print to
+     * @param redo {@code true} for redo, {@code false} for undo
+     */
+    public UndoRedoAction(Screen screen, boolean redo) {
+        this.out = screen.out();
+        this.redo = redo;
+    }
+
+    /**
+     * Undo or redo the latest command and report what was affected.
+     */
+    @Override
+    public void execute() {
+        CommandManager cm = CommandManager.get();
+        String name = redo ? cm.peekRedo() : cm.peekUndo();
+        if (name == null) {
+            out.println(redo ? "Nothing to redo." : "Nothing to undo.");
+            return;
+        }
+        String conflict = redo ? cm.peekRedoConflict() : cm.peekUndoConflict();
+        boolean ok = redo ? cm.redo() : cm.undo();
+        if (ok) out.println((redo ? "Redone: " : "Undone: ") + name);
+        else if (conflict != null) {
+            out.println("Cannot " + (redo ? "redo " : "undo ") + name + ": " + conflict + ".");
+            out.println("It has been removed from the history.");
+        }
+    }
+}
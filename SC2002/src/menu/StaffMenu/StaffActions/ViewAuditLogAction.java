@@ -0,0 +1,77 @@
+package menu.StaffMenu.StaffActions;
+
+import audit.AuditEntry;
+import audit.AuditLog;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Scanner;
+import menu.MenuAction;
+import util.Screen;
+import util.TablePrinter;
+
+/**
+ * Implements the {@link MenuAction} for Career Centre Staff to search the audit log.
+ * <p>
+ * Staff can restrict the search to the last N hours and to a single actor
+ * (user id). Results are read from the persisted, rotated audit files via
+ * {@link AuditLog#query(LocalDateTime, LocalDateTime, String)}.
+ * </p>
+ */
+public class ViewAuditLogAction implements MenuAction {
+    private static final int MAX_ROWS = 50;
+    private final Scanner sc;
+    private final PrintStream out;
+
+    /**
+     * @param screen the session {@link Screen} to read input from and print to
+     */
+    public ViewAuditLogAction(Screen screen) {
+        this.sc = screen.scanner();
+        this.out = screen.out();
+    }
+
+    /**
+     * Prompt for a time window and actor, then print the most recent matches.
+     */
+    @Override
+    public void execute() {
+        out.println("\n--- AUDIT LOG ---");
+        out.print("Show entries from the last N hours (ENTER for all): ");
+        String hours = sc.nextLine().trim();
+        out.print("Filter by actor user id (ENTER for all): ");
+        String actor = sc.nextLine().trim();
+
+        LocalDateTime from = null;
+        if (!hours.isEmpty()) {
+            try {
+                from = LocalDateTime.now().minusHours(Math.max(0, Long.parseLong(hours)));
+            } catch (NumberFormatException e) {
+                out.println("Invalid number of hours; showing all entries.");
+            }
+        }
+
+        List<AuditEntry> found = AuditLog.get().query(from, null, actor.isEmpty() ? null : actor);
+        if (found.isEmpty()) {
+            out.println("No audit entries match.");
+            return;
+        }
+
+        var tp = TablePrinter.builder()
+                .unicodeBorders(true)
+                .maxTableWidth(140)
+                .addColumn("Time",   TablePrinter.Align.LEFT, 19, 19)
+                .addColumn("Actor",  TablePrinter.Align.LEFT,  6, 24)
+                .addColumn("Action", TablePrinter.Align.LEFT, 10, 40)
+                .addColumn("Phase",  TablePrinter.Align.LEFT,  6, 20)
+                .build();
+
+        int start = Math.max(0, found.size() - MAX_ROWS);
+        for (AuditEntry e : found.subList(start, found.size())) {
+            tp.addRow(e.getTimestamp().withNano(0).toString().replace('T', ' '),
+                      e.getActor(), e.getAction(), e.getPhase());
+        }
+        out.println(tp.render());
+        out.println("Showing " + (found.size() - start) + " of " + found.size() + " matching entries (most recent last).");
+    }
+}
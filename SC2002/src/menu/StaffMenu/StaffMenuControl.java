@@ -1,11 +1,12 @@
 package menu.StaffMenu;
 
+import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Scanner;
 import menu.MenuAction;
 import menu.StaffMenu.StaffActions.*;
 import user.CareerCentreStaff;
+import util.Screen;
 
 /**
  * Control class for the Career Centre Staff menu.
@@ -19,6 +20,7 @@ import user.CareerCentreStaff;
  */
 public class StaffMenuControl {
     private final CareerCentreStaff me;
+    private final PrintStream out;
     private final Map<String, MenuAction> actions = new HashMap<>();
 
     /**
@@ -27,16 +29,21 @@ public class StaffMenuControl {
      * to their numeric menu keys.
      *
      * @param me the current {@link CareerCentreStaff} using the menu
-     * @param sc the shared {@link Scanner} used by actions requiring console input
+     * @param screen the session {@link Screen} shared by the menu and its actions
      */
-    public StaffMenuControl(CareerCentreStaff me, Scanner sc) {
+    public StaffMenuControl(CareerCentreStaff me, Screen screen) {
         this.me = me;
-        actions.put("1", new ApproveRepAction(sc));
-        actions.put("2", new HandleWithdrawalsAction(sc));
-        actions.put("3", new ManageInternshipsStaffAction(sc));
-        actions.put("4", new BulkApproveAction(sc));
-        actions.put("5", new GenerateReportsAction(sc));
-        actions.put("6", new ChangePasswordAction(me, sc));
+        this.out = screen.out();
+        actions.put("1", new ApproveRepAction(screen));
+        actions.put("2", new HandleWithdrawalsAction(screen));
+        actions.put("3", new ManageInternshipsStaffAction(screen));
+        actions.put("4", new BulkApproveAction(screen));
+        actions.put("5", new GenerateReportsAction(screen));
+        actions.put("6", new ChangePasswordAction(me, screen));
+        actions.put("7", new ViewAuditLogAction(screen));
+        actions.put("8", new UndoRedoAction(screen, false));
+        actions.put("9", new UndoRedoAction(screen, true));
+        actions.put("10", new RunPlacementMatchingAction(screen));
     }
 
     /**
@@ -48,6 +55,6 @@ public class StaffMenuControl {
     public void handle(String key) {
         MenuAction act = actions.get(key);
         if (act != null) act.execute();
-        else System.out.println("Invalid option.");
+        else out.println("Invalid option.");
     }
 }
\ No newline at end of file
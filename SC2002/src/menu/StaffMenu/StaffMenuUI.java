@@ -1,6 +1,8 @@
 package menu.StaffMenu;
 
+import java.io.PrintStream;
 import java.util.Scanner;
+import util.Screen;
 
 /**
  * UI boundary for Career Centre Staff functionality.
@@ -11,15 +13,19 @@ import java.util.Scanner;
  */
 public class StaffMenuUI {
     private final StaffMenuControl control;
-    private final Scanner sc = new Scanner(System.in);
+    private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * Construct the staff menu UI.
      *
      * @param control the control that will handle selected commands
+     * @param screen the session {@link Screen} to read commands from and print to
      */
-    public StaffMenuUI(StaffMenuControl control) {
+    public StaffMenuUI(StaffMenuControl control, Screen screen) {
         this.control = control;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -41,18 +47,22 @@ public class StaffMenuUI {
      * and must not execute any business logic.
      */
     private void printMenu() {
-        System.out.println("\n╔════════════════════════════════════════════╗");
-        System.out.println("║         CAREER CENTRE STAFF MENU           ║");
-        System.out.println("╚════════════════════════════════════════════╝");
-        System.out.println("┌─────────────────────────────────────────────┐");
-        System.out.println("│  1) Approve Company Representatives         │");
-        System.out.println("│  2) Handle Withdrawal Requests              │");
-        System.out.println("│  3) Manage Internships (Overview)           │");
-        System.out.println("│  4) Bulk Approve Internship Opportunities   │");
-        System.out.println("│  5) Generate Reports                        │");
-        System.out.println("│  6) Change Password                         │");
-        System.out.println("│  0) Logout                                  │");
-        System.out.println("└─────────────────────────────────────────────┘");
-        System.out.print("\nSelect option: ");
+        out.println("\n╔════════════════════════════════════════════╗");
+        out.println("║         CAREER CENTRE STAFF MENU           ║");
+        out.println("╚════════════════════════════════════════════╝");
+        out.println("┌─────────────────────────────────────────────┐");
+        out.println("│  1) Approve Company Representatives         │");
+        out.println("│  2) Handle Withdrawal Requests              │");
+        out.println("│  3) Manage Internships (Overview)           │");
+        out.println("│  4) Bulk Approve Internship Opportunities   │");
+        out.println("│  5) Generate Reports                        │");
+        out.println("│  6) Change Password                         │");
+        out.println("│  7) View Audit Log                          │");
+        out.println("│  8) Undo Last Decision                      │");
+        out.println("│  9) Redo Last Undone Decision               │");
+        out.println("│ 10) Run Placement Matching                  │");
+        out.println("│  0) Logout                                  │");
+        out.println("└─────────────────────────────────────────────┘");
+        out.print("\nSelect option: ");
     }
 }
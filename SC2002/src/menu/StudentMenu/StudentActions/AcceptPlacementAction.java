@@ -7,7 +7,9 @@ import menu.MenuAction;
 import repository.Repository;
 import user.Student;
 import util.ConsoleHelper;
+import util.Screen;
 
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 
@@ -20,10 +22,12 @@ import java.util.Scanner;
 public class AcceptPlacementAction implements MenuAction {
     private final Student me;
     private final Scanner sc;
+    private final PrintStream out;
 
-    public AcceptPlacementAction(Student me, Scanner sc) {
+    public AcceptPlacementAction(Student me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     @Override
@@ -34,7 +38,7 @@ public class AcceptPlacementAction implements MenuAction {
         boolean hasConfirmed = apps.stream()
                 .anyMatch(app -> app.getStatus() == ApplicationStatus.CONFIRMED);
         if (hasConfirmed) {
-            System.out.println("You have already confirmed a placement. Only 1 placement can be accepted.");
+            out.println("You have already confirmed a placement. Only 1 placement can be accepted.");
             return;
         }
 
@@ -44,22 +48,22 @@ public class AcceptPlacementAction implements MenuAction {
                 .toList();
 
         if (successful.isEmpty()) {
-            System.out.println("No successful applications found.");
+            out.println("No successful applications found.");
             return;
         }
 
         // Display successful applications
-        System.out.println("\n=== Successful Applications ===");
+        out.println("\n=== Successful Applications ===");
         for (int i = 0; i < successful.size(); i++) {
             InternshipApp app = successful.get(i);
-            System.out.printf("%d) [%s] %s @ %s%n",
+            out.printf("%d) [%s] %s @ %s%n",
                     i + 1,
                     app.getId(),
                     app.getInternship().getTitle(),
                     app.getInternship().getCompanyName());
         }
 
-        System.out.print("\nSelect application to accept (or 0 to cancel): ");
+        out.print("\nSelect application to accept (or 0 to cancel): ");
         String input = sc.nextLine().trim();
         
         if (input.equals("0")) {
@@ -69,7 +73,7 @@ public class AcceptPlacementAction implements MenuAction {
         try {
             int choice = Integer.parseInt(input);
             if (choice < 1 || choice > successful.size()) {
-                System.out.println("Invalid selection.");
+                out.println("Invalid selection.");
                 return;
             }
 
@@ -96,21 +100,21 @@ public class AcceptPlacementAction implements MenuAction {
             Repository.saveAllInternships();
             Repository.saveAllApplications();
             
-            System.out.println("Placement accepted: " + selectedInternship.getTitle());
-            System.out.println("All other applications have been automatically withdrawn.");
+            out.println("Placement accepted: " + selectedInternship.getTitle());
+            out.println("All other applications have been automatically withdrawn.");
             
             // Check if this internship is now at capacity and auto-withdraw other applications for it
             if (selectedInternship.getSlotsRemaining() <= 0) {
                 int withdrawnCount = autoWithdrawOtherApplicationsForInternship(selectedInternship);
                 if (withdrawnCount > 0) {
-                    System.out.println("\n! Internship " + selectedInternship.getTitle() + " is now at full capacity.");
-                    System.out.println("! " + withdrawnCount + " other application(s) automatically withdrawn.");
+                    out.println("\n! Internship " + selectedInternship.getTitle() + " is now at full capacity.");
+                    out.println("! " + withdrawnCount + " other application(s) automatically withdrawn.");
                     Repository.saveAllApplications();
                 }
             }
 
         } catch (NumberFormatException e) {
-            System.out.println("Invalid input.");
+            out.println("Invalid input.");
         }
     }
 
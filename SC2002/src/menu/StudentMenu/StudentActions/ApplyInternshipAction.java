@@ -4,29 +4,34 @@ import menu.MenuAction;
 import user.Student;
 import internship.Internship;
 import repository.Repository;
+import util.Screen;
 import util.ValidationExceptions;
 
+import java.io.PrintStream;
 import java.util.Scanner;
 
 /**
  * Action that allows a student to apply for an internship by ID.
  *
  * This action reads an internship id from the console, verifies existence via
- * the {@link Repository} and invokes {@link Student#applyForInternship}.
+ * the {@link Repository} and invokes {@link Student#applyForInternship}, which
+ * enforces the eligibility policy.
  * It catches the domain-specific duplicate application exception and prints
  * friendly messages for the user.
  */
 public class ApplyInternshipAction implements MenuAction {
     private final Student me;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * @param me the student performing the application
-     * @param sc the console scanner used to read the internship id
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public ApplyInternshipAction(Student me, Scanner sc) {
+    public ApplyInternshipAction(Student me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -35,19 +40,19 @@ public class ApplyInternshipAction implements MenuAction {
      */
     @Override
     public void execute() {
-        System.out.print("Enter internship ID to apply: ");
+        out.print("Enter internship ID to apply: ");
         String id = sc.nextLine().trim();
         Internship i = Repository.findInternshipById(id);
         if (i == null) {
-            System.out.println("No such internship.");
+            out.println("No such internship.");
             return;
         }
         try {
             me.applyForInternship(i);
         } catch (ValidationExceptions.DuplicateApplicationException e) {
-            System.out.println("Already applied to this internship.");
+            out.println("Already applied to this internship.");
         } catch (Exception e) {
-            System.out.println("Application failed: " + e.getMessage());
+            out.println("Application failed: " + e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package menu.StudentMenu.StudentActions;
 
+import java.io.PrintStream;
 import java.util.Scanner;
 import menu.MenuAction;
 import repository.Repository;
 import user.Student;
+import util.Screen;
 
 /**
  * Action that prompts the student to change their password.
@@ -15,14 +17,16 @@ import user.Student;
 public class ChangePasswordAction implements MenuAction {
     private final Student me;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * @param me current student
-     * @param sc console scanner for password input
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public ChangePasswordAction(Student me, Scanner sc) {
+    public ChangePasswordAction(Student me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -30,15 +34,15 @@ public class ChangePasswordAction implements MenuAction {
      */
     @Override
     public void execute() {
-        System.out.print("Enter new password: ");
+        out.print("Enter new password: ");
         String pw = sc.nextLine().trim();
         try {
             me.changePassword(pw);
             // Save password change to CSV
             Repository.saveAllStudents();
-            System.out.println("Password changed.");
+            out.println("Password changed.");
         } catch (Exception e) {
-            System.out.println("Failed: " + e.getMessage());
+            out.println("Failed: " + e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -5,9 +5,14 @@ import user.Student;
 import filter.FilterManager;
 import filter.FilterSettings;
 import internship.Internship.InternshipLevel;
+import repository.Repository;
+import repository.SuggestionIndex.Field;
 import util.ConsoleHelper;
+import util.Screen;
 
+import java.io.PrintStream;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Scanner;
 import java.util.Set;
 
@@ -17,21 +22,29 @@ import java.util.Set;
  * This action updates the {@link FilterSettings} held by the provided
  * {@link FilterManager}. It supports keyword search, level preferences
  * (respecting year-based restrictions), major filtering and company filtering.
+ * Keyword and company prompts offer typeahead suggestions from the catalog,
+ * and a company that no posting is from is caught before it silently
+ * filters out everything.
  */
 public class ConfigureFiltersAction implements MenuAction {
+    /** Suggestions listed for a prefix. */
+    private static final int SUGGESTIONS = 5;
+
     private final Student me;
     private final FilterManager filterManager;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * @param me the student configuring filters
      * @param filterManager the manager holding the student's filter settings
-     * @param sc console scanner for interactive prompts
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public ConfigureFiltersAction(Student me, FilterManager filterManager, Scanner sc) {
+    public ConfigureFiltersAction(Student me, FilterManager filterManager, Screen screen) {
         this.me = me;
         this.filterManager = filterManager;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -40,21 +53,22 @@ public class ConfigureFiltersAction implements MenuAction {
      */
     @Override
     public void execute() {
-        ConsoleHelper.printSectionHeader("CONFIGURE FILTERS");
+        ConsoleHelper.printSectionHeader(out, "CONFIGURE FILTERS");
 
         FilterSettings settings = filterManager.getFilterSettings();
 
         // Keywords
-        System.out.print("Enter keywords to search (title/company/description) [Enter to skip]: ");
-        String keyword = sc.nextLine().trim();
+        String keyword = ConsoleHelper.readWithSuggestions(sc, out,
+                "Enter keywords to search (title/company/description) [Enter to skip, end with ? for suggestions]: ",
+                p -> Repository.suggest(Field.TITLE, p, SUGGESTIONS));
         settings.setKeyword(keyword.isEmpty() ? null : keyword);
 
         // Internship Level (Year-based restriction)
         if (me.getYear() <= 2) {
-            System.out.println("\nAs a Year " + me.getYear() + " student, you can only apply to BASIC level internships.");
+            out.println("\nAs a Year " + me.getYear() + " student, you can only apply to BASIC level internships.");
             settings.setLevelPreferences(Set.of(InternshipLevel.BASIC));
         } else {
-            System.out.println("\nAs a Year " + me.getYear() + " student, you can choose preferred internship levels:");
+            out.println("\nAs a Year " + me.getYear() + " student, you can choose preferred internship levels:");
             Set<InternshipLevel> levels = askLevelPreferences();
             if (!levels.isEmpty()) {
                 settings.setLevelPreferences(levels);
@@ -64,7 +78,7 @@ public class ConfigureFiltersAction implements MenuAction {
         }
 
         // Major filter
-        boolean matchMajor = ConsoleHelper.askYesNo(sc, "\nOnly show internships matching your major (" + me.getMajor() + ")? (y/n): ");
+        boolean matchMajor = ConsoleHelper.askYesNo(sc, out, "\nOnly show internships matching your major (" + me.getMajor() + ")? (y/n): ");
         if (matchMajor) {
             settings.setPreferredMajor(me.getMajor());
         } else {
@@ -72,14 +86,44 @@ public class ConfigureFiltersAction implements MenuAction {
         }
 
         // Company filter
-        System.out.print("\nFilter by specific company [Enter to skip]: ");
-        String company = sc.nextLine().trim();
+        String company = ConsoleHelper.readWithSuggestions(sc, out,
+                "\nFilter by specific company [Enter to skip, end with ? for suggestions]: ",
+                p -> Repository.suggest(Field.COMPANY, p, SUGGESTIONS));
+        if (!company.isEmpty()) company = confirmCompany(company);
         settings.setCompany(company.isEmpty() ? null : company);
 
-        System.out.println("\n✓ Filter configuration saved!");
-        System.out.println("Current filters: " + settings);
-        System.out.println("\nReminder: Use option 4 to toggle filter mode ON/OFF");
-        ConsoleHelper.pause(sc);
+        out.println("\n✓ Filter configuration saved!");
+        out.println("Current filters: " + settings);
+        out.println("\nReminder: Use option 4 to toggle filter mode ON/OFF");
+        ConsoleHelper.pause(sc, out);
+    }
+
+    /**
+     * The company filter matches names exactly, so a name no posting uses
+     * would hide every internship. Offer the companies starting with what was
+     * typed instead, or let the user keep it.
+     *
+     * @param typed the company name as entered
+     * @return the name to filter by; empty to skip the company filter
+     */
+    private String confirmCompany(String typed) {
+        if (Repository.hasValue(Field.COMPANY, typed)) return typed;
+        List<String> close = Repository.suggest(Field.COMPANY, typed, SUGGESTIONS);
+        out.println("No internship is posted by a company named '" + typed + "'.");
+        if (close.isEmpty()) {
+            return ConsoleHelper.askYesNo(sc, out, "Keep this company filter anyway? (y/n): ") ? typed : "";
+        }
+        out.println("Did you mean:");
+        for (int n = 0; n < close.size(); n++) out.printf("  %d) %s%n", n + 1, close.get(n));
+        out.print("Pick a number, or Enter to keep '" + typed + "': ");
+        String pick = sc.nextLine().trim();
+        try {
+            int n = Integer.parseInt(pick);
+            if (n >= 1 && n <= close.size()) return close.get(n - 1);
+        } catch (NumberFormatException e) {
+            // keep what was typed
+        }
+        return typed;
     }
 
     /**
@@ -88,12 +132,12 @@ public class ConfigureFiltersAction implements MenuAction {
      * @return the set of selected levels (empty = all levels)
      */
     private Set<InternshipLevel> askLevelPreferences() {
-        System.out.println("Select preferred internship levels (comma-separated, e.g., 1,2,3):");
-        System.out.println("  1) BASIC");
-        System.out.println("  2) INTERMEDIATE");
-        System.out.println("  3) ADVANCED");
-        System.out.println("  [Enter for all levels]");
-        System.out.print("Your choice: ");
+        out.println("Select preferred internship levels (comma-separated, e.g., 1,2,3):");
+        out.println("  1) BASIC");
+        out.println("  2) INTERMEDIATE");
+        out.println("  3) ADVANCED");
+        out.println("  [Enter for all levels]");
+        out.print("Your choice: ");
         String line = sc.nextLine().trim();
         Set<InternshipLevel> levels = new LinkedHashSet<>();
         if (line.isBlank()) return levels;
@@ -9,7 +9,9 @@ import filter.RankingPreferences;
 import filter.NonNegotiables;
 import internship.Internship.InternshipLevel;
 import util.ConsoleHelper;
+import util.Screen;
 
+import java.io.PrintStream;
 import java.util.*;
 
 /**
@@ -23,16 +25,18 @@ import java.util.*;
 public class ConfigureRecommendation implements MenuAction {
     private final Student me;
     private final Scanner sc;
+    private final PrintStream out;
     private final StudentMenuControl control;
 
     /**
      * @param me the student configuring recommendations
-     * @param sc the console scanner for interactive prompts
+     * @param screen the session {@link Screen} to read input from and print to
      * @param control the student menu control providing access to the filter manager
      */
-    public ConfigureRecommendation(Student me, Scanner sc, StudentMenuControl control) {
+    public ConfigureRecommendation(Student me, Screen screen, StudentMenuControl control) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
         this.control = control;
     }
 
@@ -48,14 +52,14 @@ public class ConfigureRecommendation implements MenuAction {
      * Interactive flow that updates ranking preferences and non-negotiables.
      */
     private void configureRecommendations() {
-        ConsoleHelper.printSectionHeader("CONFIGURE RECOMMENDATION RANKING");
+        ConsoleHelper.printSectionHeader(out, "CONFIGURE RECOMMENDATION RANKING");
 
         FilterManager filterManager = control.getFilterManager();
         RankingPreferences rankingPreferences = filterManager.getRankingPreferences();
         NonNegotiables nonNegotiables = filterManager.getNonNegotiables();
 
         // Keywords for matching
-        System.out.print("Keywords for ranking boost (title/company) [Enter to skip]: ");
+        out.print("Keywords for ranking boost (title/company) [Enter to skip]: ");
         String keywords = sc.nextLine().trim();
         if (!keywords.isEmpty()) {
             rankingPreferences.setRankingKeyword(keywords);
@@ -66,7 +70,7 @@ public class ConfigureRecommendation implements MenuAction {
         // Level preferences for ranking
         Set<InternshipLevel> levels;
         if (me.getYear() >= 3) {
-            System.out.println("\nSelect levels to consider for ranking:");
+            out.println("\nSelect levels to consider for ranking:");
             levels = askLevelPreferences();
             rankingPreferences.setRankingLevelPreferences(levels);
         } else {
@@ -74,49 +78,54 @@ public class ConfigureRecommendation implements MenuAction {
             rankingPreferences.setRankingLevelPreferences(levels);
         }
 
-        // Major preference
-        boolean majorMatch = ConsoleHelper.askYesNo(sc, "\nPrioritize internships matching your major? (y/n): ");
+        // Non-negotiables: hard constraints, applied before any scoring
+        out.println("\n--- Non-negotiables (internships failing these are not shown) ---");
+        boolean majorMatch = ConsoleHelper.askYesNo(sc, out, "Only internships for your major? (y/n): ");
         nonNegotiables.setMustMatchMajor(majorMatch);
 
-        // Closing soon preference
-        boolean closingSoon = ConsoleHelper.askYesNo(sc, "Prioritize applications closing soon? (y/n): ");
-        nonNegotiables.setOnlyOpenNow(closingSoon);
+        boolean openNow = ConsoleHelper.askYesNo(sc, out, "Only internships open for applications now? (y/n): ");
+        nonNegotiables.setOnlyOpenNow(openNow);
+
+        out.print("Required title keywords (comma-separated) [Enter for none]: ");
+        nonNegotiables.clearKeywords();
+        for (String k : sc.nextLine().split(",")) nonNegotiables.addKeyword(k);
 
         // Ranking weights
-        System.out.println("\n--- Set Ranking Weights ---");
-        System.out.println("Assign weight values (higher = more important)");
-        System.out.println("Default weights: Major=30, ClosingSoon=30, LevelFit=20, Keywords=20");
+        out.println("\n--- Set Ranking Weights ---");
+        out.println("Assign weight values (higher = more important)");
+        out.println("Default weights: Major=30, ClosingSoon=30, LevelFit=20, Keywords=20");
         
-        if (ConsoleHelper.askYesNo(sc, "\nCustomize weights? (y/n): ")) {
+        if (ConsoleHelper.askYesNo(sc, out, "\nCustomize weights? (y/n): ")) {
             rankingPreferences.setWMajor(askWeight("Major match"));
             rankingPreferences.setWClosingSoon(askWeight("Closing soon"));
             rankingPreferences.setWLevelFit(askWeight("Level fit"));
             rankingPreferences.setWTitleKeywords(askWeight("Title/keywords"));
         }
 
-        System.out.println("\n✓ Recommendation ranking configured!");
-        System.out.println("Keywords: " + (keywords.isEmpty() ? "(none)" : keywords));
-        System.out.println("Levels: " + (levels.isEmpty() ? "(all)" : levels));
-        System.out.println("Major match: " + (majorMatch ? "Yes" : "No"));
-        System.out.println("Closing soon: " + (closingSoon ? "Yes" : "No"));
-        System.out.println("Weights: Major=" + rankingPreferences.getWMajor() + 
+        out.println("\n✓ Recommendation ranking configured!");
+        out.println("Keywords: " + (keywords.isEmpty() ? "(none)" : keywords));
+        out.println("Levels: " + (levels.isEmpty() ? "(all)" : levels));
+        out.println("Only my major: " + (majorMatch ? "Yes" : "No"));
+        out.println("Only open now: " + (openNow ? "Yes" : "No"));
+        out.println("Required title keywords: " + (nonNegotiables.getTitleKeywords().isEmpty() ? "(none)" : nonNegotiables.getTitleKeywords()));
+        out.println("Weights: Major=" + rankingPreferences.getWMajor() + 
                          ", ClosingSoon=" + rankingPreferences.getWClosingSoon() + 
                          ", LevelFit=" + rankingPreferences.getWLevelFit() + 
                          ", Keywords=" + rankingPreferences.getWTitleKeywords());
-        System.out.println("\nReminder: Use option 5 to toggle recommendation mode ON/OFF");
-        ConsoleHelper.pause(sc);
+        out.println("\nReminder: Use option 5 to toggle recommendation mode ON/OFF");
+        ConsoleHelper.pause(sc, out);
     }
 
     /**
      * Helper to select preferred internship levels for ranking.
      */
     private Set<InternshipLevel> askLevelPreferences() {
-        System.out.println("Select preferred internship levels (comma-separated, e.g., 1,2,3):");
-        System.out.println("  1) BASIC");
-        System.out.println("  2) INTERMEDIATE");
-        System.out.println("  3) ADVANCED");
-        System.out.println("  [Enter for all levels]");
-        System.out.print("Your choice: ");
+        out.println("Select preferred internship levels (comma-separated, e.g., 1,2,3):");
+        out.println("  1) BASIC");
+        out.println("  2) INTERMEDIATE");
+        out.println("  3) ADVANCED");
+        out.println("  [Enter for all levels]");
+        out.print("Your choice: ");
         String line = sc.nextLine().trim();
         Set<InternshipLevel> levels = new LinkedHashSet<>();
         if (line.isBlank()) return levels;
@@ -132,6 +141,6 @@ public class ConfigureRecommendation implements MenuAction {
     }
 
     private int askWeight(String criterion) {
-        return ConsoleHelper.readInt(sc, "Weight for " + criterion + " (0-100): ", 0, 100);
+        return ConsoleHelper.readInt(sc, out, "Weight for " + criterion + " (0-100): ", 0, 100);
     }
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package menu.StudentMenu.StudentActions;
 
+import audit.AuditLog;
 import internship.ApplicationStatus;
 import internship.InternshipApp;
 import menu.MenuAction;
 import repository.Repository;
 import user.Student;
 import util.ConsoleHelper;
+import util.Screen;
+import withdrawal.WithdrawalQueue;
 
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 
@@ -19,10 +23,12 @@ import java.util.Scanner;
 public class RequestWithdrawalAction implements MenuAction {
     private final Student me;
     private final Scanner sc;
+    private final PrintStream out;
 
-    public RequestWithdrawalAction(Student me, Scanner sc) {
+    public RequestWithdrawalAction(Student me, Screen screen) {
         this.me = me;
-        this.sc = sc;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     @Override
@@ -30,7 +36,7 @@ public class RequestWithdrawalAction implements MenuAction {
         List<InternshipApp> apps = Repository.findApplicationsByStudentId(me.getUserId());
         
         if (apps == null || apps.isEmpty()) {
-            System.out.println("No applications found.");
+            out.println("No applications found.");
             return;
         }
 
@@ -41,15 +47,15 @@ public class RequestWithdrawalAction implements MenuAction {
                 .toList();
 
         if (withdrawable.isEmpty()) {
-            System.out.println("No active applications to withdraw from.");
+            out.println("No active applications to withdraw from.");
             return;
         }
 
         // Display withdrawable applications
-        System.out.println("\n=== Your Active Applications ===");
+        out.println("\n=== Your Active Applications ===");
         for (int i = 0; i < withdrawable.size(); i++) {
             InternshipApp app = withdrawable.get(i);
-            System.out.printf("%d) [%s] %s @ %s (Status: %s)%n",
+            out.printf("%d) [%s] %s @ %s (Status: %s)%n",
                     i + 1,
                     app.getId(),
                     app.getInternship().getTitle(),
@@ -57,7 +63,7 @@ public class RequestWithdrawalAction implements MenuAction {
                     app.getStatus());
         }
 
-        System.out.print("\nSelect application to withdraw from (or 0 to cancel): ");
+        out.print("\nSelect application to withdraw from (or 0 to cancel): ");
         String input = sc.nextLine().trim();
         
         if (input.equals("0")) {
@@ -67,7 +73,7 @@ public class RequestWithdrawalAction implements MenuAction {
         try {
             int choice = Integer.parseInt(input);
             if (choice < 1 || choice > withdrawable.size()) {
-                System.out.println("Invalid selection.");
+                out.println("Invalid selection.");
                 return;
             }
 
@@ -75,21 +81,24 @@ public class RequestWithdrawalAction implements MenuAction {
             
             // Check if it's a confirmed placement
             if (selectedApp.getStatus() == ApplicationStatus.CONFIRMED) {
-                boolean confirm = ConsoleHelper.askYesNo(sc, 
+                boolean confirm = ConsoleHelper.askYesNo(sc, out, 
                     "This is your confirmed placement. Are you sure you want to withdraw? (y/n): ");
                 if (!confirm) {
                     return;
                 }
             }
 
-            // Mark withdrawal as requested
-            selectedApp.setWithdrawalRequested(true);
-            // No need to save - in-memory references are updated automatically
-            System.out.println("\nWithdrawal request submitted: " + selectedApp.getInternship().getTitle());
-            System.out.println("Status: Pending approval from Career Center Staff");
+            out.print("Reason for withdrawal (optional): ");
+            String reason = sc.nextLine().trim();
+
+            // Queue the request for staff; this also flags the application
+            WithdrawalQueue.Request req = WithdrawalQueue.get().submit(selectedApp, reason);
+            AuditLog.get().record("REQUEST_WITHDRAWAL " + selectedApp.getId(), "StudentMenu");
+            out.println("\nWithdrawal request " + req.id + " submitted: " + selectedApp.getInternship().getTitle());
+            out.println("Status: Pending approval from Career Center Staff");
 
         } catch (NumberFormatException e) {
-            System.out.println("Invalid input.");
+            out.println("Invalid input.");
         }
     }
 }
@@ -3,12 +3,15 @@ package menu.StudentMenu.StudentActions;
 import internship.ApplicationStatus;
 import internship.Internship;
 import internship.InternshipApp;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 import menu.MenuAction;
+import notification.WaitlistService;
 import repository.Repository;
 import user.Student;
 import util.ConsoleHelper;
+import util.Screen;
 import util.TablePrinter;
 
 /**
@@ -19,15 +22,19 @@ import util.TablePrinter;
  */
 public class StudentStatusAction implements MenuAction {
     private final Student me;
+    private final Screen screen;
     private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * @param me the student whose applications will be displayed
-     * @param sc the scanner for reading user input
+     * @param screen the session {@link Screen} to read input from and print to
      */
-    public StudentStatusAction(Student me, Scanner sc) { 
+    public StudentStatusAction(Student me, Screen screen) { 
         this.me = me; 
-        this.sc = sc;
+        this.screen = screen;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -37,7 +44,8 @@ public class StudentStatusAction implements MenuAction {
     public void execute() {
         List<InternshipApp> apps = Repository.findApplicationsByStudentId(me.getUserId());
         if (apps == null || apps.isEmpty()) {
-            System.out.println("No applications found.");
+            out.println("No applications found.");
+            printWaitlistPositions();
             return;
         }
 
@@ -70,12 +78,28 @@ public class StudentStatusAction implements MenuAction {
           );
         }
 
-        System.out.println(tp.render());
+        out.println(tp.render());
+        printWaitlistPositions();
         
         // Show action menu
         showActionMenu(apps);
     }
     
+    /**
+     * Print the student's position on each internship waitlist they are queued for.
+     */
+    private void printWaitlistPositions() {
+        var waiting = WaitlistService.waitlistsOf(me.getUserId());
+        if (waiting.isEmpty()) return;
+        out.println("Waitlisted:");
+        for (String internshipId : waiting) {
+            Internship i = Repository.findInternshipById(internshipId);
+            out.println("  - " + (i != null ? i.getId() + " | " + ConsoleHelper.safe(i.getTitle()) : internshipId)
+                    + " : position " + WaitlistService.position(internshipId, me.getUserId())
+                    + " of " + WaitlistService.size(internshipId));
+        }
+    }
+
     /**
      * Display options for accepting placements or requesting withdrawals
      */
@@ -86,37 +110,37 @@ public class StudentStatusAction implements MenuAction {
                 .anyMatch(app -> app.getStatus() != ApplicationStatus.WITHDRAWN &&
                                app.getStatus() != ApplicationStatus.UNSUCCESSFUL);
         
-        System.out.println("\n--- Options ---");
+        out.println("\n--- Options ---");
         if (hasSuccessful) {
-            System.out.println("1) Accept Placement (from successful applications)");
+            out.println("1) Accept Placement (from successful applications)");
         }
         if (hasActive) {
-            System.out.println("2) Request Withdrawal from Application");
+            out.println("2) Request Withdrawal from Application");
         }
-        System.out.println("0) Back to Menu");
+        out.println("0) Back to Menu");
         
         if (!hasSuccessful && !hasActive) {
             return;
         }
         
-        System.out.print("\nSelect option: ");
+        out.print("\nSelect option: ");
         String input = sc.nextLine().trim();
         
         switch (input) {
             case "1":
                 if (hasSuccessful) {
-                    new AcceptPlacementAction(me, sc).execute();
+                    new AcceptPlacementAction(me, screen).execute();
                 }
                 break;
             case "2":
                 if (hasActive) {
-                    new RequestWithdrawalAction(me, sc).execute();
+                    new RequestWithdrawalAction(me, screen).execute();
                 }
                 break;
             case "0":
                 break;
             default:
-                System.out.println("Invalid option.");
+                out.println("Invalid option.");
         }
     }
 }
\ No newline at end of file
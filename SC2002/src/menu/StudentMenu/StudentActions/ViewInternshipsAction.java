@@ -3,15 +3,15 @@ package menu.StudentMenu.StudentActions;
 import filter.FilterManager;
 import internship.Internship;
 import internship.InternshipScore;
-import java.time.LocalDate;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
-import java.util.stream.Collectors;
 import menu.MenuAction;
 import menu.StudentMenu.StudentMenuControl;
-import repository.Repository;
+import policy.EligibilityCache;
 import user.Student;
 import util.ConsoleHelper;
+import util.Screen;
 import util.TablePrinter;
 
 /**
@@ -20,8 +20,8 @@ import util.TablePrinter;
  * This class implements the core functionality of displaying internship opportunities.
  * It handles the following logic:
  * <ul>
- * <li>Retrieving all internships from the repository.</li>
- * <li>Filtering out closed internships or those the student is ineligible for (e.g., based on academic level).</li>
+ * <li>Starting from the open internships the student is eligible for (academic level, major),
+ * precomputed by {@link EligibilityCache}.</li>
  * <li>Applying dynamic filters configured by the student via the {@link FilterManager}.</li>
  * <li>Calculating relevance scores for each internship and sorting the list accordingly.</li>
  * <li>Displaying the final list in a formatted table.</li>
@@ -29,9 +29,14 @@ import util.TablePrinter;
  * </p>
  */
 public class ViewInternshipsAction implements MenuAction {
+    /** Leading rows used to size the table's columns before it starts printing. */
+    private static final int SAMPLE_ROWS = 100;
+
     private final Student me;
     private final FilterManager filterManager;
+    private final Screen screen;
     private final Scanner sc;
+    private final PrintStream out;
     private final StudentMenuControl control;
 
     /**
@@ -39,13 +44,15 @@ public class ViewInternshipsAction implements MenuAction {
      *
      * @param me            The {@link Student} viewing the internships.
      * @param filterManager The {@link FilterManager} responsible for filtering and scoring logic.
-     * @param sc            The {@link Scanner} for reading user input (e.g., for prompts).
+     * @param screen the session {@link Screen} to read input from and print to
      * @param control       The {@link StudentMenuControl} managing the student's menu flow.
      */
-    public ViewInternshipsAction(Student me, FilterManager filterManager, Scanner sc, StudentMenuControl control) {
+    public ViewInternshipsAction(Student me, FilterManager filterManager, Screen screen, StudentMenuControl control) {
         this.me = me;
         this.filterManager = filterManager;
-        this.sc = sc;
+        this.screen = screen;
+        this.sc = screen.scanner();
+        this.out = screen.out();
         this.control = control;
     }
 
@@ -54,8 +61,7 @@ public class ViewInternshipsAction implements MenuAction {
      * <p>
      * This method performs a pipeline of operations:
      * <ol>
-     * <li>Fetches all internships.</li>
-     * <li>Filters for eligibility (open date and student level).</li>
+     * <li>Fetches the student's eligible open internships from the cache.</li>
      * <li>Applies user-defined filters. If the result is empty, it offers to show all eligible internships.</li>
      * <li>Applies ranking/scoring based on student preferences.</li>
      * <li>Prints the results.</li>
@@ -64,22 +70,17 @@ public class ViewInternshipsAction implements MenuAction {
      */
     @Override
     public void execute() {
-        List<Internship> all = Repository.findAllInternships();
-        LocalDate today = LocalDate.now();
-        List<Internship> eligible = all.stream()
-                .filter(i -> i.isOpenFor(today))
-                .filter(i -> FilterManager.isLevelEligibleForStudent(me, i))
-                .filter(i -> isMajorEligible(me, i))//new
-                .collect(Collectors.toList());
+        // Precomputed per (year band, major); only rebuilt when internships change
+        List<Internship> eligible = EligibilityCache.get().eligibleFor(me);
 
         List<Internship> filtered = eligible;
         if (filterManager.isFilterEnabled()) {
             filtered = filterManager.applyFilters(eligible);
             if (filtered.isEmpty()) {
-                System.out.println("\n(No internships match your filter criteria.)");
-                boolean showAll = ConsoleHelper.askYesNo(sc, "Show all eligible internships instead? (y/n): ");
+                out.println("\n(No internships match your filter criteria.)");
+                boolean showAll = ConsoleHelper.askYesNo(sc, out, "Show all eligible internships instead? (y/n): ");
                 if (!showAll) {
-                    ConsoleHelper.pause(sc);
+                    ConsoleHelper.pause(sc, out);
                     return;
                 }
                 filtered = eligible;
@@ -89,16 +90,17 @@ public class ViewInternshipsAction implements MenuAction {
         // Delegate ranking to FilterManager
         List<InternshipScore> scoredList = filterManager.applyRanking(filtered, me);
 
-        ConsoleHelper.printSectionHeader("AVAILABLE INTERNSHIPS");
+        ConsoleHelper.printSectionHeader(out, "AVAILABLE INTERNSHIPS");
         printInternships(scoredList);
-        ConsoleHelper.pause(sc);
+        ConsoleHelper.pause(sc, out);
     }
 
     /**
      * Helper method to format and print the list of scored internships.
      * <p>
      * Uses {@link TablePrinter} to create a readable table with columns for ID, Title, Company,
-     * Level, Major, Closing Date, Slots, and Relevance Score.
+     * Level, Major, Closing Date, Slots, and Relevance Score. Rows are streamed to the console,
+     * so a long list starts printing straight away.
      * </p>
      *
      * @param list The list of {@link InternshipScore} objects containing the internship and its score.
@@ -119,38 +121,21 @@ public class ViewInternshipsAction implements MenuAction {
                 .build();
 
         int idx = 1;
-        for (InternshipScore is : list) {
-            Internship i = is.internship;
-            tp.addRow(
-                    idx++,
-                    i.getId(),
-                    ConsoleHelper.safe(i.getTitle()),
-                    ConsoleHelper.safe(i.getCompanyName()),
-                    i.getLevel(),
-                    ConsoleHelper.safe(i.getPreferredMajor()),
-                    i.getCloseDate(),
-                    i.getSlotsRemaining(),
-                    is.score
-            );
-        }
-        System.out.println(tp.render());
-    }
-
-    /**
-     * Check if the student's major is eligible for the internship.
-     * An internship is eligible if it has no major requirement or if the student's major matches.
-     *
-     * @param student The student to check
-     * @param internship The internship to check
-     * @return true if the student's major is eligible for the internship
-     */
-    private static boolean isMajorEligible(Student student, Internship internship) {
-        String preferredMajor = internship.getPreferredMajor();
-        // If internship has no major requirement, it's available to all majors
-        if (preferredMajor == null || preferredMajor.isEmpty()) {
-            return true;
+        try (var rows = tp.stream(screen.writer(), SAMPLE_ROWS)) {
+            for (InternshipScore is : list) {
+                Internship i = is.internship;
+                rows.row(
+                        idx++,
+                        i.getId(),
+                        ConsoleHelper.safe(i.getTitle()),
+                        ConsoleHelper.safe(i.getCompanyName()),
+                        i.getLevel(),
+                        ConsoleHelper.safe(i.getPreferredMajor()),
+                        i.getCloseDate(),
+                        i.getSlotsRemaining(),
+                        is.score
+                );
+            }
         }
-        // Otherwise, student's major must match the preferred major
-        return student.getMajor().equalsIgnoreCase(preferredMajor);
     }
-}
\ No newline at end of file
+}
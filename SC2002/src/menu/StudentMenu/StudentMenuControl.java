@@ -1,12 +1,14 @@
 package menu.StudentMenu;
 
 import filter.FilterManager;
+import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
 import menu.MenuAction;
 import menu.StudentMenu.StudentActions.*;
 import user.Student;
+import util.Screen;
 
 /**
  * Control class for the Student menu.
@@ -21,6 +23,7 @@ import user.Student;
  */
 public class StudentMenuControl {
     private final Student me;
+    private final PrintStream out;
     private final FilterManager filterManager;
     private final Map<String, MenuAction> actions = new HashMap<>();
 
@@ -28,21 +31,22 @@ public class StudentMenuControl {
      * Construct a student menu control and register available actions.
      *
      * @param me the currently logged-in {@link Student}
-     * @param sc the {@link Scanner} used by actions requiring console input
+     * @param screen the session {@link Screen} shared by the menu and its actions
      */
-    public StudentMenuControl(Student me, Scanner sc) {
+    public StudentMenuControl(Student me, Screen screen) {
         this.me = me;
+        this.out = screen.out();
         this.filterManager = new FilterManager();
         // register actions
-        actions.put("1", new ViewInternshipsAction(me, filterManager, sc, this));
-        actions.put("2", new ConfigureFiltersAction(me, filterManager, sc));
-        actions.put("3", new ConfigureRecommendation(me, sc, this));
+        actions.put("1", new ViewInternshipsAction(me, filterManager, screen, this));
+        actions.put("2", new ConfigureFiltersAction(me, filterManager, screen));
+        actions.put("3", new ConfigureRecommendation(me, screen, this));
         actions.put("4", () -> toggleFilter());
         actions.put("5", () -> toggleRecommendation());
-        actions.put("6", () -> clearAllSettings(sc));
-        actions.put("7", new ApplyInternshipAction(me, sc));
-        actions.put("8", new StudentStatusAction(me, sc));
-        actions.put("9", new ChangePasswordAction(me, sc));
+        actions.put("6", () -> clearAllSettings(screen.scanner()));
+        actions.put("7", new ApplyInternshipAction(me, screen));
+        actions.put("8", new StudentStatusAction(me, screen));
+        actions.put("9", new ChangePasswordAction(me, screen));
         // Add other actions as needed
     }
 
@@ -55,7 +59,7 @@ public class StudentMenuControl {
     public void handle(String key) {
         MenuAction action = actions.get(key);
         if (action != null) action.execute();
-        else System.out.println("Invalid option.");
+        else out.println("Invalid option.");
     }
 
     /** @return whether the filtering mode is currently enabled */
@@ -70,7 +74,7 @@ public class StudentMenuControl {
      */
     public void toggleFilter() {
         filterManager.toggleFilter();
-        System.out.println("Filter mode is now " + (filterManager.isFilterEnabled() ? "ON" : "OFF"));
+        out.println("Filter mode is now " + (filterManager.isFilterEnabled() ? "ON" : "OFF"));
     }
 
     /**
@@ -78,7 +82,7 @@ public class StudentMenuControl {
      */
     public void toggleRecommendation() {
         filterManager.toggleRecommendation();
-        System.out.println("Recommendation mode is now " + (filterManager.isRecommendationEnabled() ? "ON" : "OFF"));
+        out.println("Recommendation mode is now " + (filterManager.isRecommendationEnabled() ? "ON" : "OFF"));
     }
 
     /**
@@ -87,13 +91,13 @@ public class StudentMenuControl {
      * @param sc the {@link Scanner} to read confirmation input from
      */
     public void clearAllSettings(Scanner sc) {
-        System.out.print("Clear all settings? (y/n): ");
+        out.print("Clear all settings? (y/n): ");
         String ans = sc.nextLine().trim().toLowerCase();
         if (ans.equals("y") || ans.equals("yes")) {
             filterManager.clearAll();
-            System.out.println("All settings cleared.");
+            out.println("All settings cleared.");
         } else {
-            System.out.println("Cancelled.");
+            out.println("Cancelled.");
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package menu.StudentMenu;
 
+import java.io.PrintStream;
 import java.util.Scanner;
+import util.Screen;
 
 /**
  * UI boundary for Student interactions.
@@ -11,15 +13,19 @@ import java.util.Scanner;
  */
 public class StudentMenuUI {
     private final StudentMenuControl control;
-    private final Scanner sc = new Scanner(System.in);
+    private final Scanner sc;
+    private final PrintStream out;
 
     /**
      * Create a new Student menu UI bound to the provided control.
      *
      * @param control the control that handles student menu commands
+     * @param screen the session {@link Screen} to read commands from and print to
      */
-    public StudentMenuUI(StudentMenuControl control) {
+    public StudentMenuUI(StudentMenuControl control, Screen screen) {
         this.control = control;
+        this.sc = screen.scanner();
+        this.out = screen.out();
     }
 
     /**
@@ -39,23 +45,23 @@ public class StudentMenuUI {
      * toggles) is read from the control to avoid duplicating logic here.
      */
     private void printMenu() {
-        System.out.println("\n╔════════════════════════════════════════════╗");
-        System.out.println("║          STUDENT MENU                      ║");
-        System.out.println("╚════════════════════════════════════════════╝");
-        System.out.println("Status: Filter: " + (control.isFilterEnabled() ? "ON" : "OFF") +
+        out.println("\n╔════════════════════════════════════════════╗");
+        out.println("║          STUDENT MENU                      ║");
+        out.println("╚════════════════════════════════════════════╝");
+        out.println("Status: Filter: " + (control.isFilterEnabled() ? "ON" : "OFF") +
                            " | Recommendations: " + (control.isRecommendationEnabled() ? "ON" : "OFF"));
-        System.out.println("┌─────────────────────────────────────────────┐");
-        System.out.println("│  1) View Internships                        │");
-        System.out.println("│  2) Configure Filters                       │");
-        System.out.println("│  3) Configure Recommendations               │");
-        System.out.println("│  4) Toggle Filter Mode (Currently: " + (control.isFilterEnabled() ? "ON" : "OFF") + ")     │");
-        System.out.println("│  5) Toggle Recommendation Mode (" + (control.isRecommendationEnabled() ? "ON" : "OFF") + ")│");
-        System.out.println("│  6) Clear All Filters & Settings            │");
-        System.out.println("│  7) Apply for Internship                    │");
-        System.out.println("│  8) Show Application Status / Manage Offers │");
-        System.out.println("│  9) Change Password                         │");
-        System.out.println("│  0) Logout                                  │");
-        System.out.println("└─────────────────────────────────────────────┘");
-        System.out.print("\nSelect option: ");
+        out.println("┌─────────────────────────────────────────────┐");
+        out.println("│  1) View Internships                        │");
+        out.println("│  2) Configure Filters                       │");
+        out.println("│  3) Configure Recommendations               │");
+        out.println("│  4) Toggle Filter Mode (Currently: " + (control.isFilterEnabled() ? "ON" : "OFF") + ")     │");
+        out.println("│  5) Toggle Recommendation Mode (" + (control.isRecommendationEnabled() ? "ON" : "OFF") + ")│");
+        out.println("│  6) Clear All Filters & Settings            │");
+        out.println("│  7) Apply for Internship                    │");
+        out.println("│  8) Show Application Status / Manage Offers │");
+        out.println("│  9) Change Password                         │");
+        out.println("│  0) Logout                                  │");
+        out.println("└─────────────────────────────────────────────┘");
+        out.print("\nSelect option: ");
     }
 }
@@ -0,0 +1,212 @@
+package mvcc;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Global version counter behind the repository's multi-version reads.
+ * <p>
+ * Writers run inside {@link #write(Runnable)}: every {@link Versioned} value
+ * changed in one write scope is stamped with the same new version, and that
+ * version becomes visible to new readers only when the scope ends, so a bulk
+ * decision is seen entirely or not at all. A change made outside any scope is
+ * its own one-change write. Writers are serialised; readers never take the
+ * write lock.
+ * </p>
+ * <p>
+ * A scope belongs to the operation, not only to the thread that opened it:
+ * work the operation hands to other threads, such as fork-join partitions,
+ * joins the scope when wrapped with {@link #bind(Runnable)} on the writing
+ * thread. A change on any other thread while a scope is open is refused with
+ * an {@link IllegalStateException}: it could only wait for the scope, and the
+ * scope may be waiting for it. Outside a scope such a change is a write of
+ * its own.
+ * </p>
+ * <p>
+ * A reader calls {@link #beginRead()} to pin the latest committed version
+ * and {@link #endRead(long)} when done. While pinned, {@link Versioned#get()}
+ * on that thread returns the value as of the pinned version. Versions older
+ * than the oldest pinned one are unreachable and are trimmed: by writers as
+ * they change a value, and by a sweep once the oldest reader finishes.
+ * </p>
+ */
+public final class VersionClock {
+    private static final ReentrantLock WRITE = new ReentrantLock();
+    private static volatile long committed = 0;
+    private static volatile Scope open;    // the current write scope, or null
+
+    /** One write scope: the version it stamps and whether anything changed. */
+    private static final class Scope {
+        final long version;
+        volatile boolean dirty;
+        Scope(long version) { this.version = version; }
+    }
+
+    /** Scope joined by a thread running bound work, see {@link #bind}. */
+    private static final ThreadLocal<Scope> joined = new ThreadLocal<>();
+
+    /** Pinned versions and how many readers hold each. */
+    private static final TreeMap<Long, Integer> pinned = new TreeMap<>();
+    private static volatile int readers = 0;
+    private static final ThreadLocal<long[]> view = ThreadLocal.withInitial(() -> new long[]{-1});
+
+    /** Values holding versions older than their newest one, swept when readers finish. */
+    private static final Set<Versioned<?>> withHistory = ConcurrentHashMap.newKeySet();
+    private static volatile boolean sweepPending;
+
+    private VersionClock() {}
+
+    /** @return the latest committed version */
+    public static long committed() { return committed; }
+
+    /**
+     * Run {@code body} as one write: all its changes share a version that is
+     * published when it returns. Nested scopes join the outer one.
+     */
+    public static void write(Runnable body) {
+        write(() -> { body.run(); return null; });
+    }
+
+    /** Value-returning form of {@link #write(Runnable)}. */
+    public static <T> T write(Supplier<T> body) {
+        WRITE.lock();
+        try {
+            if (WRITE.getHoldCount() > 1) return body.get();
+            Scope sc = new Scope(committed + 1);
+            open = sc;
+            try {
+                return body.get();
+            } finally {
+                open = null;
+                if (sc.dirty) committed = sc.version;
+                if (sweepPending) sweep();
+            }
+        } finally {
+            WRITE.unlock();
+        }
+    }
+
+    /**
+     * Wrap work the current write scope hands to another thread, so that its
+     * changes join the scope. Outside a scope the task is returned unchanged.
+     * Must be called on the writing thread, and the scope must wait for the
+     * task to finish; a bound task that runs after the scope has ended makes
+     * its changes as writes of their own.
+     *
+     * @param task work to run on a helper thread
+     * @return the task, joined to the current scope while it runs
+     */
+    public static Runnable bind(Runnable task) {
+        Scope sc = WRITE.isHeldByCurrentThread() ? open : joined.get();
+        if (sc == null) return task;
+        return () -> {
+            Scope prev = joined.get();
+            joined.set(sc);
+            try {
+                task.run();
+            } finally {
+                if (prev == null) joined.remove(); else joined.set(prev);
+            }
+        };
+    }
+
+    /**
+     * @return the version of the current thread's write scope, or -1 when no
+     *         scope is open
+     * @throws IllegalStateException if another thread's scope is open and the
+     *         current thread has not joined it with {@link #bind}
+     */
+    static long writeVersion() {
+        Scope sc = open;
+        if (sc == null) return -1;
+        if (!WRITE.isHeldByCurrentThread() && joined.get() != sc) {
+            throw new IllegalStateException("Versioned value changed on " + Thread.currentThread().getName()
+                    + " while another thread's write scope is open; hand the work over with VersionClock.bind");
+        }
+        sc.dirty = true;
+        return sc.version;
+    }
+
+    /**
+     * Pin the latest committed version for the calling thread.
+     *
+     * @return the thread's previously pinned version (or -1), to hand back to {@link #endRead}
+     */
+    public static long beginRead() {
+        long[] cur = view.get();
+        long prev = cur[0];
+        synchronized (pinned) {
+            long v = committed;
+            pinned.merge(v, 1, Integer::sum);
+            readers++;
+            cur[0] = v;
+        }
+        return prev;
+    }
+
+    /**
+     * Unpin the calling thread's version and restore the one it replaced.
+     *
+     * @param previous value returned by the matching {@link #beginRead()}
+     */
+    public static void endRead(long previous) {
+        long[] cur = view.get();
+        long v = cur[0];
+        if (v < 0) return;
+        boolean oldestGone;
+        synchronized (pinned) {
+            oldestGone = v == pinned.firstKey() && pinned.get(v) == 1;
+            if (pinned.merge(v, -1, Integer::sum) == 0) pinned.remove(v);
+            readers--;
+        }
+        cur[0] = previous;
+        if (oldestGone && !withHistory.isEmpty()) {
+            sweepPending = true;
+            if (WRITE.tryLock()) {
+                try { sweep(); } finally { WRITE.unlock(); }
+            }
+        }
+    }
+
+    /** @return the version pinned by the calling thread, or -1 if none */
+    public static long viewVersion() {
+        return readers == 0 ? -1 : view.get()[0];
+    }
+
+    /**
+     * Run {@code body} against the latest values even if the calling thread
+     * has a version pinned; used by caches keyed on the latest state.
+     */
+    public static <T> T latest(Supplier<T> body) {
+        long[] cur = view.get();
+        long v = cur[0];
+        if (v < 0) return body.get();
+        cur[0] = -1;
+        try {
+            return body.get();
+        } finally {
+            cur[0] = v;
+        }
+    }
+
+    /** @return the oldest version any current or future reader can pin */
+    static long oldestVisible() {
+        synchronized (pinned) {
+            return pinned.isEmpty() ? committed : Math.min(pinned.firstKey(), committed);
+        }
+    }
+
+    static void retainedHistory(Versioned<?> v) { withHistory.add(v); }
+
+    /** Trim every value with history; caller holds the write lock. */
+    private static void sweep() {
+        sweepPending = false;
+        long oldest = oldestVisible();
+        withHistory.removeIf(v -> !v.trim(oldest));
+    }
+
+    /** @return number of values currently keeping old versions */
+    public static int retainedCount() { return withHistory.size(); }
+}
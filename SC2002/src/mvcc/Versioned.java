@@ -0,0 +1,70 @@
+package mvcc;
+
+/**
+ * A mutable field with a version chain, newest first.
+ * <p>
+ * {@link #get()} returns the latest value, or, on a thread that has pinned a
+ * version with {@link VersionClock#beginRead()}, the newest value at or
+ * before that version. Old values are kept only while some reader can still
+ * see them. With no readers open a read is one volatile check. Writes to
+ * one value are serialised on the value, so threads joined to the same write
+ * scope (see {@link VersionClock#bind}) may change it concurrently.
+ * </p>
+ *
+ * @param <T> value type; values are treated as immutable
+ */
+public final class Versioned<T> {
+    private static final class Node<T> {
+        final T value;
+        final long version;
+        volatile Node<T> older;
+        Node(T value, long version, Node<T> older) { this.value = value; this.version = version; this.older = older; }
+    }
+
+    private volatile Node<T> head;
+
+    /** @param initial value visible at every version */
+    public Versioned(T initial) { head = new Node<>(initial, 0, null); }
+
+    /** @return the value visible to the calling thread */
+    public T get() {
+        Node<T> n = head;
+        long v = VersionClock.viewVersion();
+        if (v < 0) return n.value;
+        while (n.version > v && n.older != null) n = n.older;
+        return n.value;
+    }
+
+    /** @return the latest value, ignoring any pinned version */
+    public T latest() { return head.value; }
+
+    /**
+     * Replace the value as part of the current write, or as a write of its own.
+     *
+     * @throws IllegalStateException if another thread's write scope is open
+     *         and this thread was not bound to it, see {@link VersionClock#bind}
+     */
+    public void set(T value) {
+        long w = VersionClock.writeVersion();
+        if (w < 0) { VersionClock.write(() -> set(value)); return; }
+        // never wait for the write lock while holding this monitor: the writer may need it
+        synchronized (this) {
+            Node<T> h = head;
+            head = h.version == w ? new Node<>(value, w, h.older) : new Node<>(value, w, h);
+            if (trim(VersionClock.oldestVisible())) VersionClock.retainedHistory(this);
+        }
+    }
+
+    /**
+     * Drop versions no reader at or after {@code oldest} can see.
+     *
+     * @return whether more than the newest committed version is still kept
+     */
+    synchronized boolean trim(long oldest) {
+        Node<T> n = head;
+        int kept = 1;
+        while (n.version > oldest && n.older != null) { n = n.older; kept++; }
+        n.older = null;
+        return kept > 2;
+    }
+}
@@ -1,32 +1,67 @@
 package notification;
 
 import repository.Repository;
+import internship.ApplicationEvents;
+import internship.ApplicationStatus;
 import internship.Internship;
-import user.User;
-
-import java.util.Set;
+import internship.InternshipApp;
+import policy.EligibilityCache;
+import user.Student;
 
 /**
  * NotificationCenter contains static helpers for broadcasting system-wide
  * notifications (for example when slots free up on an internship).
+ *
+ * It also provides the {@link #PROMOTER} listener which, once registered with
+ * {@link ApplicationEvents}, promotes the next waitlisted student whenever a
+ * confirmed placement is withdrawn.
  */
 public class NotificationCenter {
+    private static final int MAX_ACTIVE_APPLICATIONS = 3;
+
+    /** Promotes from the waitlist when a confirmed placement becomes WITHDRAWN. */
+    public static final ApplicationEvents.Listener PROMOTER = (app, from, to, at) -> {
+        if (from == ApplicationStatus.CONFIRMED && to == ApplicationStatus.WITHDRAWN) slotFreed(app.getInternship());
+    };
 
     /**
-     * Called by staff flow when a withdrawal frees a slot. Notifies all
-     * waitlisted users that a slot has opened for the given internship.
+     * Called when a withdrawal frees a slot. Students are taken from the head of
+     * the internship's waitlist until one can still apply; that student gets a
+     * PENDING application submitted on their behalf and a notice. Students who
+     * can no longer apply (not eligible under the {@link EligibilityCache}
+     * policy, already applied, confirmed elsewhere or at the application limit)
+     * are dropped from the queue. While the internship itself is not open, for
+     * instance hidden by its representative, nobody is promoted and the queue
+     * is left as it is.
      *
      * @param i internship that freed a slot
+     * @return id of the promoted student, or {@code null} if nobody was promoted
      */
-    public static void slotFreed(Internship i) {
-        if (i == null) return;
-        Set<String> waitlisted = WaitlistService.getWaitlisted(i.getId()); // or popAll(i.getId()) if one-time
-        if (waitlisted.isEmpty()) return;
-        for (String sid : waitlisted) {
-            Object u = Repository.findUserById(sid);
-            if (u instanceof User user) {
-                user.pushNotice("A slot just opened for " + i.getTitle() + " @ " + i.getCompanyName());
+    public static String slotFreed(Internship i) {
+        if (i == null || !i.isOpenNow()) return null;
+        String sid;
+        while ((sid = WaitlistService.pollNext(i.getId())) != null) {
+            if (Repository.findUserById(sid) instanceof Student s && canPromote(s, i)) {
+                InternshipApp app = new InternshipApp(Repository.newApplicationId(), s, i);
+                Repository.saveApplication(app);
+                s.addApplication(app);
+                NotificationService.get().notify(s.getUserId(), "A slot opened for " + i.getTitle() + " @ " + i.getCompanyName()
+                        + ". You were next on the waitlist: application " + app.getId() + " submitted.", "slot:" + i.getId());
+                return s.getUserId();
             }
         }
+        return null;
+    }
+
+    private static boolean canPromote(Student s, Internship i) {
+        if (!EligibilityCache.get().isEligible(s, i)) return false;
+        int active = 0;
+        for (InternshipApp a : Repository.findApplicationsByStudentId(s.getUserId())) {
+            ApplicationStatus st = a.getStatus();
+            if (st == ApplicationStatus.CONFIRMED) return false;
+            if (a.getInternship() != null && i.getId().equalsIgnoreCase(a.getInternship().getId())) return false;
+            if (st == ApplicationStatus.PENDING || st == ApplicationStatus.SUCCESSFUL) active++;
+        }
+        return active < MAX_ACTIVE_APPLICATIONS;
     }
 }
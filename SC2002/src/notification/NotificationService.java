@@ -1,18 +1,221 @@
 package notification;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import repository.Repository;
+import user.CompanyRep;
 import user.User;
+import util.MpscRingBuffer;
 
 /**
- * Simple notification service that delivers textual messages to user inboxes.
+ * Asynchronous notification service that delivers textual messages to user inboxes.
+ * <p>
+ * {@link #notify} only enqueues onto a bounded lock-free {@link MpscRingBuffer};
+ * a daemon delivery thread drains it in batches, so even a broadcast to tens of
+ * thousands of users costs the caller one enqueue per recipient. Within a batch:
+ * </p>
+ * <ul>
+ * <li>messages sharing a coalescing key (for example {@code "slot:I1001"}) for the
+ * same user collapse into the most recent one, with a repeat count;</li>
+ * <li>messages without a key are always delivered, even if identical;</li>
+ * <li>notices for an unknown user are reported, not silently dropped.</li>
+ * </ul>
+ * <p>
+ * Inboxes are capped per user (see {@link User#INBOX_CAP}) and persisted to
+ * {@link #DEFAULT_FILE}. Call {@link #flush()} before showing an inbox so that
+ * pending notices are visible.
+ * </p>
  */
 public class NotificationService {
+    public static final String DEFAULT_FILE = "data/inbox.csv";
+
+    private static final int QUEUE_CAPACITY = 1 << 16;
+    private static final int BATCH_SIZE = 4096;
+    private static final int FULL_RETRIES = 64;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final NotificationService INSTANCE = new NotificationService();
+
+    /** @return the shared notification service */
+    public static NotificationService get() { return INSTANCE; }
+
+    /** A queued notice. {@code key} is {@code null} unless the notice may be coalesced. */
+    private static final class Notice {
+        final String userId, message, key;
+        Notice(String userId, String message, String key) { this.userId = userId; this.message = message; this.key = key; }
+    }
+
+    private final MpscRingBuffer<Notice> queue = new MpscRingBuffer<>(QUEUE_CAPACITY);
+    private final Object deliverLock = new Object();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private NotificationService() {
+        worker = new Thread(this::deliveryLoop, "notification-delivery");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
     /**
-     * Push a notification message to a user's inbox (if user not null).
+     * Queue a notification message for a user's inbox (if user not null).
      *
      * @param u user to notify
      * @param message message content
      */
     public void notify(User u, String message) {
-        if (u != null) u.pushNotice(message);
+        if (u != null) notify(u.getUserId(), message, null);
+    }
+
+    /**
+     * Queue a notification that may be coalesced with others sharing the same
+     * key for the same user (only the latest is kept, with a repeat count).
+     *
+     * @param userId  recipient id
+     * @param message message content
+     * @param key     coalescing key, or {@code null} to never coalesce
+     */
+    public void notify(String userId, String message, String key) {
+        if (userId == null || message == null || message.isBlank()) return;
+        Notice n = new Notice(userId, message, key);
+        for (int attempt = 0; !queue.offer(n); attempt++) {
+            LockSupport.unpark(worker);
+            if (attempt >= FULL_RETRIES) { deliverPending(); attempt = 0; } // back-pressure: help drain
+            else Thread.onSpinWait();
+        }
+        if (queue.size() >= BATCH_SIZE) LockSupport.unpark(worker);
+    }
+
+    /**
+     * Queue the same message for many users.
+     *
+     * @param userIds recipients
+     * @param message message content
+     * @param key     coalescing key, or {@code null}
+     */
+    public void broadcast(Collection<String> userIds, String message, String key) {
+        for (String id : userIds) notify(id, message, key);
+    }
+
+    /** Deliver everything queued so far before returning. */
+    public void flush() { deliverPending(); }
+
+    /** Stop the delivery thread after delivering what is queued. */
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+        try { worker.join(1000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        flush();
+    }
+
+    private void deliveryLoop() {
+        while (running) {
+            if (deliverPending() == 0) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Drain the queue in batches and deliver each batch. Serialised on
+     * {@code deliverLock} so the ring buffer keeps a single consumer.
+     *
+     * @return number of notices drained
+     */
+    private int deliverPending() {
+        synchronized (deliverLock) {
+            int total = 0;
+            List<Notice> batch = new ArrayList<>(Math.min(BATCH_SIZE, Math.max(16, queue.size())));
+            int n;
+            do {
+                batch.clear();
+                n = queue.drain(batch::add, BATCH_SIZE);
+                if (n > 0) deliver(batch);
+                total += n;
+            } while (n == BATCH_SIZE);
+            return total;
+        }
+    }
+
+    private static void deliver(List<Notice> batch) {
+        // userId -> (coalescing key -> [message, count]) in arrival order; unkeyed notices get a unique slot
+        Map<String, LinkedHashMap<Object, Object[]>> perUser = new LinkedHashMap<>();
+        for (Notice n : batch) {
+            var msgs = perUser.computeIfAbsent(n.userId.toLowerCase(), k -> new LinkedHashMap<>());
+            if (n.key == null) { msgs.put(new Object(), new Object[]{n.message, 1}); continue; }
+            Object[] slot = msgs.remove(n.key); // re-insert so the latest position wins
+            if (slot == null) slot = new Object[]{n.message, 0};
+            slot[0] = n.message;
+            slot[1] = (Integer) slot[1] + 1;
+            msgs.put(n.key, slot);
+        }
+        List<User> all = null;
+        for (var e : perUser.entrySet()) {
+            User u = Repository.findUserById(e.getKey());
+            if (u == null) {
+                if (all == null) all = Repository.findAllUsers();
+                u = scan(all, e.getKey());
+            }
+            if (u == null) {
+                System.out.println("Error delivering notices: unknown user " + e.getKey()
+                        + " (" + e.getValue().size() + " dropped)");
+                continue;
+            }
+            for (Object[] slot : e.getValue().values()) {
+                int repeats = (Integer) slot[1];
+                u.pushNotice(repeats > 1 ? slot[0] + " (x" + repeats + ")" : (String) slot[0]);
+            }
+        }
+    }
+
+    /** Fallback for users added since the repository's id index was last rebuilt. */
+    private static User scan(List<User> all, String id) {
+        for (User u : all) {
+            if (u.getUserId() != null && u.getUserId().equalsIgnoreCase(id)) return u;
+        }
+        for (User u : all) {
+            if (u instanceof CompanyRep cr && cr.getExternalId() != null && cr.getExternalId().equalsIgnoreCase(id)) return u;
+        }
+        return null;
+    }
+
+    /* -------- Persistence -------- */
+
+    /**
+     * Load saved inboxes ({@code userId<TAB>message}, oldest first) into the
+     * users currently in the repository, replacing their in-memory inbox.
+     */
+    public void load(String filename) {
+        Path p = Path.of(filename);
+        if (!Files.exists(p)) return;
+        Set<User> cleared = new HashSet<>();
+        try (BufferedReader br = Files.newBufferedReader(p, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab <= 0) continue;
+                User u = Repository.findUserById(line.substring(0, tab));
+                if (u == null) continue;
+                if (cleared.add(u)) u.clearInbox();
+                u.pushNotice(line.substring(tab + 1));
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading inbox: " + e.getMessage());
+        }
+    }
+
+    /** Deliver pending notices, then save every non-empty inbox. */
+    public void save(String filename) {
+        flush();
+        try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(new FileOutputStream(filename), StandardCharsets.UTF_8))) {
+            for (User u : Repository.findAllUsers()) {
+                for (String m : u.getInbox()) pw.println(u.getUserId() + "\t" + m.replace('\n', ' ').replace('\t', ' '));
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving inbox: " + e.getMessage());
+        }
     }
 }
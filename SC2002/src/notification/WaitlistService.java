@@ -1,47 +1,203 @@
 package notification;
 
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import internship.Internship;
 import user.Student;
 
 /**
- * Lightweight waitlist service used to manage student waitlists per internship.
+ * Persistent, concurrent waitlist service with one FIFO queue per internship.
  *
- * Stores student IDs per internship id and provides methods to join and to
- * obtain the current waitlist (either read-only via {@link #getWaitlisted}
- * or destructive via {@link #popAll}).
+ * Each join receives a monotonically increasing ticket; a queue orders its
+ * students by ticket so the earliest joiner is always promoted first. Queues
+ * live in a {@link ConcurrentHashMap} and are locked individually, so activity
+ * on one internship never blocks another. A reverse index from student to the
+ * internships they wait for keeps per-student lookups independent of the total
+ * number of waitlists.
+ *
+ * Waitlists are saved to {@link #DEFAULT_FILE} and restored on start.
  */
 public class WaitlistService {
-    // Use the interface type Set<String> for values to avoid concrete-type mismatches.
-    private static final Map<String, Set<String>> wait = new HashMap<>();
+    public static final String DEFAULT_FILE = "data/waitlist.csv";
+
+    /** FIFO queue for one internship: ticket order plus student -> ticket lookup. */
+    private static final class Queue {
+        final TreeMap<Long, String> byTicket = new TreeMap<>();
+        final Map<String, Long> ticketOf = new HashMap<>();
+    }
+
+    private static final Map<String, Queue> wait = new ConcurrentHashMap<>();
+    private static final Map<String, Set<String>> byStudent = new ConcurrentHashMap<>();
+    private static final AtomicLong tickets = new AtomicLong();
+
+    private static String key(String id) { return id == null ? "" : id.toUpperCase(); }
 
     /**
      * Add a student to the waitlist for the given internship and notify them.
      *
      * @param s student joining the waitlist
      * @param i internship to join
+     * @return the student's 1-based position in the queue
+     */
+    public int joinWaitlist(Student s, Internship i) {
+        int pos = join(i.getId(), s.getUserId());
+        NotificationService.get().notify(s, "You joined the waitlist for " + i.getTitle() + " (position " + pos + ")");
+        return pos;
+    }
+
+    /**
+     * Enqueue a student (no-op if already waiting).
+     *
+     * @return the student's 1-based position in the queue
      */
-    public void joinWaitlist(Student s, Internship i) {
-        // Keep insertion order with LinkedHashSet, but store as Set<String>
-        Set<String> list = wait.computeIfAbsent(i.getId(), k -> new LinkedHashSet<>());
-        list.add(s.getUserId());
-        s.pushNotice("You joined the waitlist for " + i.getTitle());
+    public static int join(String internshipId, String studentId) {
+        return join(internshipId, studentId, tickets.incrementAndGet());
     }
 
-    /** View current waitlisted student IDs for an internship (read-only view). */
+    private static int join(String internshipId, String studentId, long ticket) {
+        String sid = key(studentId);
+        Queue q = wait.computeIfAbsent(key(internshipId), k -> new Queue());
+        synchronized (q) {
+            if (!q.ticketOf.containsKey(sid)) {
+                q.byTicket.put(ticket, studentId);
+                q.ticketOf.put(sid, ticket);
+                byStudent.computeIfAbsent(sid, k -> ConcurrentHashMap.newKeySet()).add(key(internshipId));
+            }
+            return q.byTicket.headMap(q.ticketOf.get(sid)).size() + 1;
+        }
+    }
+
+    /**
+     * Remove a student from an internship's waitlist.
+     *
+     * @return {@code true} if the student was waiting
+     */
+    public static boolean leave(String internshipId, String studentId) {
+        Queue q = wait.get(key(internshipId));
+        if (q == null) return false;
+        String sid = key(studentId);
+        synchronized (q) {
+            Long t = q.ticketOf.remove(sid);
+            if (t == null) return false;
+            q.byTicket.remove(t);
+            unindex(sid, internshipId);
+        }
+        return true;
+    }
+
+    /**
+     * @return the student's 1-based position, or -1 if not waiting
+     */
+    public static int position(String internshipId, String studentId) {
+        Queue q = wait.get(key(internshipId));
+        if (q == null) return -1;
+        synchronized (q) {
+            Long t = q.ticketOf.get(key(studentId));
+            return t == null ? -1 : q.byTicket.headMap(t).size() + 1;
+        }
+    }
+
+    /**
+     * Remove and return the student at the head of the queue.
+     *
+     * @return the student id, or {@code null} if nobody is waiting
+     */
+    public static String pollNext(String internshipId) {
+        Queue q = wait.get(key(internshipId));
+        if (q == null) return null;
+        String sid;
+        synchronized (q) {
+            var head = q.byTicket.pollFirstEntry();
+            if (head == null) return null;
+            sid = head.getValue();
+            q.ticketOf.remove(key(sid));
+            unindex(key(sid), internshipId);
+        }
+        return sid;
+    }
+
+    /** @return number of students waiting for an internship */
+    public static int size(String internshipId) {
+        Queue q = wait.get(key(internshipId));
+        if (q == null) return 0;
+        synchronized (q) { return q.byTicket.size(); }
+    }
+
+    /** @return ids of internships the student is waiting for */
+    public static Set<String> waitlistsOf(String studentId) {
+        Set<String> mine = byStudent.get(key(studentId));
+        return mine == null ? Collections.emptySet() : Collections.unmodifiableSet(new TreeSet<>(mine));
+    }
+
+    /** View current waitlisted student IDs for an internship in queue order (snapshot). */
     public static Set<String> getWaitlisted(String internshipId) {
-        Set<String> set = wait.get(internshipId);
-        return (set == null) ? Collections.emptySet() : Collections.unmodifiableSet(set);
+        Queue q = wait.get(key(internshipId));
+        if (q == null) return Collections.emptySet();
+        synchronized (q) { return Collections.unmodifiableSet(new LinkedHashSet<>(q.byTicket.values())); }
     }
 
     /** Remove and return current waitlist (if you prefer one-time notifications). */
     public static Set<String> popAll(String internshipId) {
-        Set<String> set = wait.remove(internshipId);
-        return (set == null) ? Collections.emptySet() : set;
+        Queue q = wait.remove(key(internshipId));
+        if (q == null) return Collections.emptySet();
+        Set<String> out;
+        synchronized (q) {
+            out = new LinkedHashSet<>(q.byTicket.values());
+            for (String sid : out) unindex(key(sid), internshipId);
+        }
+        return out;
+    }
+
+    private static void unindex(String sid, String internshipId) {
+        Set<String> mine = byStudent.get(sid);
+        if (mine != null) mine.remove(key(internshipId));
+    }
+
+    /* -------- Persistence -------- */
+
+    /**
+     * Replace all waitlists with the contents of a CSV file
+     * ({@code internshipId,studentId,ticket}). Missing file means empty waitlists.
+     */
+    public static void load(String filename) {
+        wait.clear(); byStudent.clear(); tickets.set(0);
+        Path p = Path.of(filename);
+        if (!Files.exists(p)) return;
+        try (BufferedReader br = Files.newBufferedReader(p)) {
+            String line = br.readLine(); // header
+            while ((line = br.readLine()) != null) {
+                String[] f = line.split(",");
+                if (f.length < 3) continue;
+                try {
+                    long t = Long.parseLong(f[2].trim());
+                    join(f[0].trim(), f[1].trim(), t);
+                    if (t > tickets.get()) tickets.set(t);
+                } catch (NumberFormatException e) {
+                    // skip malformed row
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading waitlist: " + e.getMessage());
+        }
+    }
+
+    /** Save all waitlists in queue order. */
+    public static void save(String filename) {
+        try (PrintWriter pw = new PrintWriter(new BufferedWriter(new FileWriter(filename)))) {
+            pw.println("internshipId,studentId,ticket");
+            for (var e : new TreeMap<>(wait).entrySet()) {
+                Queue q = e.getValue();
+                synchronized (q) {
+                    for (var t : q.byTicket.entrySet()) pw.println(e.getKey() + "," + t.getValue() + "," + t.getKey());
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving waitlist: " + e.getMessage());
+        }
     }
 }
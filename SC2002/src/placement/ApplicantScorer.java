@@ -0,0 +1,114 @@
+package placement;
+
+import java.util.*;
+
+import internship.ApplicationStatus;
+import internship.Internship;
+import internship.InternshipApp;
+
+/**
+ * Ranks the applicants of a posting from the company's side.
+ * <p>
+ * An applicant scores {@link #W_MAJOR_FIT} if their major is the one the
+ * posting asks for (or the posting is open to every major), plus
+ * {@link #W_YEAR} per year of study. Equal scores go to the earlier
+ * application, i.e. the one earlier in the list being ranked; repository
+ * lists are in submission order. Score and position are packed into one
+ * {@code long} so ranking is a primitive sort, and a top-N selection keeps
+ * only a heap of N keys.
+ * </p>
+ */
+public class ApplicantScorer {
+    public static final int W_MAJOR_FIT = 100;
+    public static final int W_YEAR = 10;
+
+    private static final ApplicantScorer INSTANCE = new ApplicantScorer();
+
+    /** @return the shared scorer */
+    public static ApplicantScorer get() { return INSTANCE; }
+
+    private ApplicantScorer() {}
+
+    /** @return the applicant's score for the posting applied to; higher is better */
+    public int score(InternshipApp a) {
+        Internship i = a.getInternship();
+        String want = i == null ? null : i.getPreferredMajor();
+        String has = a.getStudent() == null ? null : a.getStudent().getMajor();
+        boolean fit = want == null || want.isBlank() || (has != null && want.trim().equalsIgnoreCase(has.trim()));
+        int year = a.getStudent() == null ? 0 : a.getStudent().getYear();
+        return (fit ? W_MAJOR_FIT : 0) + year * W_YEAR;
+    }
+
+    /** Ascending key order is best first: higher score, then earlier position. */
+    private static long key(int score, int index) {
+        return ((long) (Integer.MAX_VALUE - score) << 32) | (index & 0xffffffffL);
+    }
+
+    /** @return the applications best first */
+    public List<InternshipApp> rank(List<InternshipApp> apps) {
+        return top(apps, apps.size());
+    }
+
+    /**
+     * @param n how many to keep
+     * @return the best {@code n} applications, best first
+     */
+    public List<InternshipApp> top(List<InternshipApp> apps, int n) {
+        int m = apps.size();
+        int k = Math.max(0, Math.min(n, m));
+        long[] keys;
+        if (k < m / 8) {
+            // few wanted: a max-heap of the k best keys seen so far
+            keys = new long[k];
+            int size = 0;
+            for (int j = 0; j < m; j++) {
+                long v = key(score(apps.get(j)), j);
+                if (size < k) { keys[size] = v; siftUp(keys, size++); }
+                else if (k > 0 && v < keys[0]) { keys[0] = v; siftDown(keys, k); }
+            }
+            Arrays.sort(keys);
+        } else {
+            keys = new long[m];
+            for (int j = 0; j < m; j++) keys[j] = key(score(apps.get(j)), j);
+            Arrays.sort(keys);
+            keys = Arrays.copyOf(keys, k);
+        }
+        List<InternshipApp> out = new ArrayList<>(k);
+        for (long v : keys) out.add(apps.get((int) v));
+        return out;
+    }
+
+    /**
+     * Decide a posting in one go: the best {@code n} PENDING applications
+     * become SUCCESSFUL and every other PENDING one UNSUCCESSFUL.
+     *
+     * @param apps applications to the posting, in submission order
+     * @param n    how many to approve
+     * @return the target status of each pending application, approvals first
+     */
+    public Map<InternshipApp, ApplicationStatus> approveTop(List<InternshipApp> apps, int n) {
+        List<InternshipApp> pending = new ArrayList<>();
+        for (InternshipApp a : apps) if (a.getStatus() == ApplicationStatus.PENDING) pending.add(a);
+        Map<InternshipApp, ApplicationStatus> out = new LinkedHashMap<>(pending.size() * 2);
+        for (InternshipApp a : top(pending, n)) out.put(a, ApplicationStatus.SUCCESSFUL);
+        for (InternshipApp a : pending) out.putIfAbsent(a, ApplicationStatus.UNSUCCESSFUL);
+        return out;
+    }
+
+    private static void siftUp(long[] h, int j) {
+        long v = h[j];
+        while (j > 0 && h[(j - 1) >>> 1] < v) { h[j] = h[(j - 1) >>> 1]; j = (j - 1) >>> 1; }
+        h[j] = v;
+    }
+
+    private static void siftDown(long[] h, int size) {
+        int j = 0;
+        long v = h[0];
+        for (int c; (c = 2 * j + 1) < size; j = c) {
+            if (c + 1 < size && h[c + 1] > h[c]) c++;
+            if (h[c] <= v) break;
+            h[j] = h[c];
+        }
+        h[j] = v;
+    }
+}
@@ -0,0 +1,97 @@
+package placement;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import internship.Internship;
+import internship.InternshipApp;
+import user.Student;
+import util.TablePrinter;
+
+/**
+ * Stand-alone benchmark of {@link PlacementMatcher#match} on a synthetic term:
+ * every student applies to a few postings, skewed towards popular ones, and
+ * places run short so that many proposals are bumped.
+ * <p>
+ * Usage: {@code java -cp <classes> placement.PlacementBenchmark [students] [postings] [perStudent]}
+ * (defaults: 50000 students, 5000 postings, 3 applications each). A tenth of
+ * that size is run first for comparison. Each run's allocation is checked:
+ * no student is matched twice and no posting takes more than its free places.
+ * Nothing is written back; the repository and {@code data/} are not touched.
+ * </p>
+ */
+public class PlacementBenchmark {
+    private static final int WARMUP = 3, RUNS = 9;
+
+    public static void main(String[] args) {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int postings = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int perStudent = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        var tp = TablePrinter.builder()
+                .unicodeBorders(true)
+                .addColumn("Students", TablePrinter.Align.RIGHT, 8, 10)
+                .addColumn("Postings", TablePrinter.Align.RIGHT, 8, 10)
+                .addColumn("Applications", TablePrinter.Align.RIGHT, 12, 12)
+                .addColumn("Matched", TablePrinter.Align.RIGHT, 7, 10)
+                .addColumn("Proposals", TablePrinter.Align.RIGHT, 9, 12)
+                .addColumn("Median ms", TablePrinter.Align.RIGHT, 9, 10)
+                .addColumn("Best ms", TablePrinter.Align.RIGHT, 7, 10)
+                .build();
+
+        PlacementMatcher matcher = new PlacementMatcher();
+        for (int scale : new int[]{10, 1}) {
+            int s = Math.max(1, students / scale), p = Math.max(1, postings / scale);
+            List<InternshipApp> apps = term(s, p, Math.min(perStudent, p));
+            PlacementMatcher.Result res = null;
+            double[] ms = new double[RUNS];
+            for (int r = 0; r < WARMUP + RUNS; r++) {
+                long t0 = System.nanoTime();
+                res = matcher.match(apps);
+                long t = System.nanoTime() - t0;
+                if (r >= WARMUP) ms[r - WARMUP] = t / 1e6;
+            }
+            verify(res);
+            Arrays.sort(ms);
+            tp.addRow(String.format("%,d", s), String.format("%,d", p), String.format("%,d", apps.size()),
+                    String.format("%,d", res.getMatched().size()), String.format("%,d", res.getProposals()),
+                    String.format("%.1f", ms[RUNS / 2]), String.format("%.1f", ms[0]));
+        }
+        System.out.println(tp.render());
+    }
+
+    /** Students apply to distinct postings, most often to the first ones; 1-10 places each. */
+    private static List<InternshipApp> term(int students, int postings, int perStudent) {
+        Random rnd = new Random(42);
+        LocalDate today = LocalDate.now();
+        String[] majors = {"CS", "DSAI", "EEE", "IS", ""};
+        String[] levels = {"BASIC", "INTERMEDIATE", "ADVANCED"};
+        Internship[] catalog = new Internship[postings];
+        for (int i = 0; i < postings; i++) {
+            catalog[i] = new Internship("P" + i, "Synthetic Intern " + i, "Synthetic posting", levels[rnd.nextInt(3)],
+                    majors[rnd.nextInt(majors.length)], "Company " + rnd.nextInt(500), null, 1 + rnd.nextInt(10), true,
+                    today.minusDays(10).toString(), today.plusDays(30).toString(), "APPROVED");
+        }
+        List<InternshipApp> apps = new ArrayList<>(students * perStudent);
+        Set<Integer> chosen = new HashSet<>();
+        for (int s = 0; s < students; s++) {
+            Student st = new Student("S" + s, "Student " + s, "x", 1 + rnd.nextInt(4), majors[rnd.nextInt(4)]);
+            chosen.clear();
+            while (chosen.size() < perStudent) {
+                int i = (int) Math.min(postings - 1, Math.abs(rnd.nextGaussian()) * postings / 3);
+                if (chosen.add(i)) apps.add(new InternshipApp("A" + apps.size(), st, catalog[i]));
+            }
+        }
+        return apps;
+    }
+
+    private static void verify(PlacementMatcher.Result res) {
+        Set<Student> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Internship, Integer> taken = new IdentityHashMap<>();
+        for (InternshipApp a : res.getMatched()) {
+            if (!placed.add(a.getStudent())) throw new IllegalStateException(a.getStudent().getUserId() + " matched twice");
+            int n = taken.merge(a.getInternship(), 1, Integer::sum);
+            if (n > a.getInternship().getSlotsRemaining()) throw new IllegalStateException(a.getInternship().getId() + " over capacity");
+        }
+    }
+}
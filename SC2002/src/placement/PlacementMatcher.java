@@ -0,0 +1,204 @@
+package placement;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+import internship.ApplicationStatus;
+import internship.Internship;
+import internship.Internship.InternshipStatus;
+import internship.InternshipApp;
+import user.Student;
+
+/**
+ * Term-wide allocation of pending applications by deferred acceptance
+ * (Gale–Shapley, student-proposing).
+ * <p>
+ * A student's preference order is the order they submitted their applications
+ * in; a posting ranks its applicants by a score, {@link ApplicantScorer} by
+ * default (higher is better, earlier application on ties). Each posting can
+ * hold as many applicants as it has free places:
+ * {@link Internship#getSlotsRemaining()} minus offers already outstanding as
+ * SUCCESSFUL. Free students propose down their list; a full posting keeps
+ * its best applicants and bumps the worst, who proposes again.
+ * The result is stable — no student and posting both prefer each other to
+ * what they got — and student-optimal among stable allocations.
+ * </p>
+ * <p>
+ * Everything runs on int arrays: applications are numbered in input order,
+ * each student's proposals are a slice of one array, and each posting keeps
+ * its tentative holds as a worst-first heap inside one shared array. Students
+ * who already hold a CONFIRMED placement do not take part, and postings that
+ * are not APPROVED take no one. {@link PlacementBenchmark} times a full term.
+ * </p>
+ */
+public class PlacementMatcher {
+
+    /** Outcome of one matching run; nothing has been written back yet. */
+    public static final class Result {
+        private final List<InternshipApp> matched, unmatched;
+        private final int students, postings, capacity;
+        private final long proposals, elapsedNanos;
+
+        Result(List<InternshipApp> matched, List<InternshipApp> unmatched, int students, int postings,
+               int capacity, long proposals, long elapsedNanos) {
+            this.matched = matched; this.unmatched = unmatched; this.students = students;
+            this.postings = postings; this.capacity = capacity; this.proposals = proposals;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** @return pending applications that should become SUCCESSFUL */
+        public List<InternshipApp> getMatched() { return matched; }
+        /** @return pending applications that should become UNSUCCESSFUL */
+        public List<InternshipApp> getUnmatched() { return unmatched; }
+        /** @return students with at least one pending application */
+        public int getStudents() { return students; }
+        /** @return postings with at least one pending application */
+        public int getPostings() { return postings; }
+        /** @return free places across those postings */
+        public int getCapacity() { return capacity; }
+        /** @return proposals made, a measure of how much work the run took */
+        public long getProposals() { return proposals; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /**
+         * @return the target status of every pending application, matched first
+         */
+        public Map<InternshipApp, ApplicationStatus> decisions() {
+            Map<InternshipApp, ApplicationStatus> out = new LinkedHashMap<>((matched.size() + unmatched.size()) * 2);
+            for (InternshipApp a : matched) out.put(a, ApplicationStatus.SUCCESSFUL);
+            for (InternshipApp a : unmatched) out.put(a, ApplicationStatus.UNSUCCESSFUL);
+            return out;
+        }
+    }
+
+    private final ToIntFunction<InternshipApp> applicantScore;
+
+    /** Matcher ranking applicants with {@link ApplicantScorer}. */
+    public PlacementMatcher() { this(ApplicantScorer.get()::score); }
+
+    /**
+     * @param applicantScore how a posting ranks an applicant; higher is better
+     */
+    public PlacementMatcher(ToIntFunction<InternshipApp> applicantScore) {
+        this.applicantScore = Objects.requireNonNull(applicantScore);
+    }
+
+    /**
+     * Match every PENDING application in {@code apps}.
+     *
+     * @param apps all applications, in submission order; other statuses are
+     *             used for confirmed placements and outstanding offers
+     * @return the allocation
+     */
+    public Result match(List<InternshipApp> apps) {
+        long t0 = System.nanoTime();
+
+        // Number students and postings, and count what is already taken.
+        Map<Student, Integer> studentIdx = new IdentityHashMap<>();
+        Map<Internship, Integer> postingIdx = new IdentityHashMap<>();
+        List<Internship> postingList = new ArrayList<>();
+        Set<Student> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Internship, Integer> offered = new IdentityHashMap<>();
+        List<InternshipApp> pending = new ArrayList<>();
+        for (InternshipApp a : apps) {
+            if (a.getStudent() == null || a.getInternship() == null) continue;
+            switch (a.getStatus()) {
+                case PENDING -> pending.add(a);
+                case CONFIRMED -> placed.add(a.getStudent());
+                case SUCCESSFUL -> offered.merge(a.getInternship(), 1, Integer::sum);
+                default -> { }
+            }
+        }
+
+        int n = pending.size();
+        int[] appStudent = new int[n], appPosting = new int[n], score = new int[n];
+        boolean[] active = new boolean[n];
+        for (int a = 0; a < n; a++) {
+            InternshipApp app = pending.get(a);
+            Internship i = app.getInternship();
+            appStudent[a] = studentIdx.computeIfAbsent(app.getStudent(), x -> studentIdx.size());
+            Integer p = postingIdx.get(i);
+            if (p == null) { p = postingList.size(); postingIdx.put(i, p); postingList.add(i); }
+            appPosting[a] = p;
+            active[a] = !placed.contains(app.getStudent());
+            if (active[a]) score[a] = applicantScore.applyAsInt(app);
+        }
+        int students = studentIdx.size(), postings = postingList.size();
+
+        // Each student's proposals, in submission order, as a slice of prefs.
+        int[] start = new int[students + 1];
+        for (int a = 0; a < n; a++) if (active[a]) start[appStudent[a] + 1]++;
+        for (int s = 0; s < students; s++) start[s + 1] += start[s];
+        int[] prefs = new int[start[students]], fill = Arrays.copyOf(start, students);
+        for (int a = 0; a < n; a++) if (active[a]) prefs[fill[appStudent[a]]++] = a;
+
+        // Each posting's holds live in heap[heapStart[p] .. heapStart[p] + cap[p]).
+        int[] cap = new int[postings], heapStart = new int[postings + 1], held = new int[postings];
+        for (int p = 0; p < postings; p++) {
+            Internship i = postingList.get(p);
+            cap[p] = i.getStatus() != InternshipStatus.APPROVED ? 0
+                    : Math.max(0, i.getSlotsRemaining() - offered.getOrDefault(i, 0));
+            heapStart[p + 1] = heapStart[p] + cap[p];
+        }
+        int[] heap = new int[heapStart[postings]];
+
+        int[] next = Arrays.copyOf(start, students);
+        int[] free = new int[students];
+        int top = 0;
+        for (int s = students - 1; s >= 0; s--) free[top++] = s;
+        long proposals = 0;
+        while (top > 0) {
+            int s = free[--top];
+            if (next[s] == start[s + 1]) continue;          // list exhausted: stays unmatched
+            int a = prefs[next[s]++];
+            int p = appPosting[a];
+            proposals++;
+            if (held[p] < cap[p]) {
+                siftUp(heap, heapStart[p], held[p]++, a, score);
+            } else if (cap[p] > 0 && worse(heap[heapStart[p]], a, score)) {
+                int bumped = heap[heapStart[p]];
+                siftDown(heap, heapStart[p], cap[p], a, score);
+                free[top++] = appStudent[bumped];
+            } else {
+                free[top++] = s;
+            }
+        }
+
+        boolean[] won = new boolean[n];
+        for (int p = 0; p < postings; p++) {
+            for (int k = heapStart[p]; k < heapStart[p] + held[p]; k++) won[heap[k]] = true;
+        }
+        List<InternshipApp> matched = new ArrayList<>(), unmatched = new ArrayList<>();
+        int capacity = 0;
+        for (int c : cap) capacity += c;
+        for (int a = 0; a < n; a++) (won[a] ? matched : unmatched).add(pending.get(a));
+        return new Result(matched, unmatched, students, postings, capacity, proposals, System.nanoTime() - t0);
+    }
+
+    /** Whether application {@code x} ranks below {@code y}: lower score, or later on a tie. */
+    private static boolean worse(int x, int y, int[] score) {
+        return score[x] < score[y] || (score[x] == score[y] && x > y);
+    }
+
+    /** Insert {@code a} at {@code base + j} of a worst-first heap and restore order. */
+    private static void siftUp(int[] h, int base, int j, int a, int[] score) {
+        while (j > 0) {
+            int parent = (j - 1) >>> 1;
+            if (!worse(a, h[base + parent], score)) break;
+            h[base + j] = h[base + parent];
+            j = parent;
+        }
+        h[base + j] = a;
+    }
+
+    /** Replace the root of a full worst-first heap with {@code a} and restore order. */
+    private static void siftDown(int[] h, int base, int size, int a, int[] score) {
+        int j = 0;
+        for (int c; (c = 2 * j + 1) < size; j = c) {
+            if (c + 1 < size && worse(h[base + c + 1], h[base + c], score)) c++;
+            if (!worse(h[base + c], a, score)) break;
+            h[base + j] = h[base + c];
+        }
+        h[base + j] = a;
+    }
+}
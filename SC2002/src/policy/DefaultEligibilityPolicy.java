@@ -1,12 +1,19 @@
 package policy;
 
-import internship.Internship;
-import user.Student;
-
-public class DefaultEligibilityPolicy implements EligibilityPolicy {
-    @Override public boolean isEligible(Student s, Internship i) {
-        String m = i.getPreferredMajor();
-        if (m != null && !m.isBlank() && !m.equalsIgnoreCase(s.getMajor())) return false;
-        return true;
+import java.util.List;
+
+/**
+ * The standard eligibility rules: the posting is open, its level suits the
+ * student's year, and its preferred major (if any) matches. Shared by listing,
+ * applying and reporting.
+ */
+public class DefaultEligibilityPolicy extends RuleBasedEligibilityPolicy {
+    private static final DefaultEligibilityPolicy INSTANCE = new DefaultEligibilityPolicy();
+
+    /** @return the shared standard policy */
+    public static DefaultEligibilityPolicy get() { return INSTANCE; }
+
+    public DefaultEligibilityPolicy() {
+        super(List.of(EligibilityRules.OPEN_NOW, EligibilityRules.LEVEL_FOR_YEAR, EligibilityRules.MAJOR_MATCH));
     }
 }
@@ -0,0 +1,158 @@
+package policy;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import internship.Internship;
+import mvcc.VersionClock;
+import repository.Repository;
+import user.Student;
+
+/**
+ * Precomputed sets of open internships each kind of student may apply to.
+ * <p>
+ * Students are grouped by year band (Y1-2, Y3+) and major. On rebuild every
+ * internship gets a position; the first time a group is looked up, the
+ * policy's group-level rules are evaluated in bulk over all positions and the
+ * resulting {@link BitSet} is memoised until the next rebuild. A lookup then
+ * only applies the policy's per-student rules, if it has any, to that set.
+ * </p>
+ * <p>
+ * Everything is rebuilt lazily when {@link Repository#internshipVersion()}
+ * changes, which covers new postings as well as status, visibility and
+ * deadline changes. Sets are always computed from the latest state, even on a
+ * thread holding a repository read view.
+ * </p>
+ */
+public class EligibilityCache {
+    private static final EligibilityCache INSTANCE = new EligibilityCache();
+
+    /** @return the shared cache */
+    public static EligibilityCache get() { return INSTANCE; }
+
+    /** Index over one version of the internship list. */
+    private static final class Snapshot {
+        final long version;
+        final EligibilityPolicy policy;
+        final Internship[] items;
+        final Map<Internship, Integer> pos;
+        final Map<String, BitSet> groups = new ConcurrentHashMap<>();
+
+        Snapshot(long version, EligibilityPolicy policy, List<Internship> all) {
+            this.version = version;
+            this.policy = policy;
+            this.items = all.toArray(new Internship[0]);
+            this.pos = new IdentityHashMap<>(items.length * 2);
+            for (int k = 0; k < items.length; k++) pos.put(items[k], k);
+        }
+
+        /** Group-level candidate set; the first student seen represents the group. */
+        BitSet group(Student s) {
+            return groups.computeIfAbsent(groupKey(s), key -> VersionClock.latest(() -> {
+                BitSet b = new BitSet(items.length);
+                b.set(0, items.length);
+                policy.retainGroupEligible(s, items, b);
+                return b;
+            }));
+        }
+
+        /** Candidate set for one student; never modify the result. */
+        BitSet forStudent(Student s) {
+            BitSet b = group(s);
+            if (!policy.hasStudentRules()) return b;
+            BitSet own = (BitSet) b.clone();
+            VersionClock.latest(() -> { policy.retainStudentEligible(s, items, own); return own; });
+            return own;
+        }
+    }
+
+    private volatile EligibilityPolicy policy = DefaultEligibilityPolicy.get();
+    private volatile Snapshot snap;
+
+    private EligibilityCache() {}
+
+    /** @return 0 for years 1-2 (BASIC only), 1 for year 3 and above */
+    public static int yearBand(int year) { return year <= 2 ? 0 : 1; }
+
+    private static String groupKey(Student s) {
+        return yearBand(s.getYear()) + ":" + (s.getMajor() == null ? "" : s.getMajor().trim().toUpperCase());
+    }
+
+    /** @return the policy every eligibility check goes through */
+    public EligibilityPolicy getPolicy() { return policy; }
+
+    /** Replace the policy; cached sets are dropped. */
+    public void setPolicy(EligibilityPolicy p) {
+        this.policy = Objects.requireNonNull(p);
+        invalidate();
+    }
+
+    private Snapshot current() {
+        long v = Repository.internshipVersion();
+        Snapshot s = snap;
+        if (s == null || s.version != v || s.policy != policy) {
+            synchronized (this) {
+                s = snap;
+                if (s == null || s.version != v || s.policy != policy) {
+                    snap = s = new Snapshot(v, policy, Repository.findAllInternships());
+                }
+            }
+        }
+        return s;
+    }
+
+    /**
+     * @return open internships the student may apply to, in repository order
+     */
+    public List<Internship> eligibleFor(Student student) {
+        Snapshot s = current();
+        BitSet b = s.forStudent(student);
+        List<Internship> out = new ArrayList<>(b.cardinality());
+        for (int k = b.nextSetBit(0); k >= 0; k = b.nextSetBit(k + 1)) out.add(s.items[k]);
+        return out;
+    }
+
+    /**
+     * @return whether the student may apply to the internship
+     */
+    public boolean isEligible(Student student, Internship internship) {
+        Snapshot s = current();
+        Integer k = s.pos.get(internship);
+        if (k == null) return s.policy.isEligible(student, internship);   // not indexed yet
+        return s.group(student).get(k)
+                && (!s.policy.hasStudentRules() || s.policy.isEligible(student, internship));
+    }
+
+    /**
+     * Count, for each internship, how many of the given students may apply.
+     * Students sharing a group are counted together from one candidate set.
+     *
+     * @return counts aligned with {@code internships}
+     */
+    public int[] eligibleCounts(List<Internship> internships, Collection<Student> students) {
+        Snapshot s = current();
+        int[] perPos = new int[s.items.length];
+        Map<String, List<Student>> byGroup = new HashMap<>();
+        for (Student st : students) byGroup.computeIfAbsent(groupKey(st), k -> new ArrayList<>()).add(st);
+        for (List<Student> g : byGroup.values()) {
+            if (!s.policy.hasStudentRules()) {
+                BitSet b = s.group(g.get(0));
+                for (int k = b.nextSetBit(0); k >= 0; k = b.nextSetBit(k + 1)) perPos[k] += g.size();
+            } else {
+                for (Student st : g) {
+                    BitSet b = s.forStudent(st);
+                    for (int k = b.nextSetBit(0); k >= 0; k = b.nextSetBit(k + 1)) perPos[k]++;
+                }
+            }
+        }
+        int[] out = new int[internships.size()];
+        for (int n = 0; n < out.length; n++) {
+            Integer k = s.pos.get(internships.get(n));
+            out[n] = k == null ? 0 : perPos[k];
+        }
+        return out;
+    }
+
+    /** Drop the cached sets; the next lookup rebuilds them. */
+    public void invalidate() { snap = null; }
+}
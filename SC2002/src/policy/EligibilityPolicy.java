@@ -1,8 +1,49 @@
 package policy;
 
+import java.util.BitSet;
+
 import internship.Internship;
 import user.Student;
 
+/**
+ * Decides whether a student may apply to an internship.
+ * <p>
+ * Besides the single check, a policy can filter a candidate set in bulk:
+ * {@code items} is an indexed array of internships and {@code bits} marks the
+ * candidates, from which ineligible ones are cleared. Group-level rules (those
+ * depending only on year band and major) are applied separately from
+ * per-student ones so {@link EligibilityCache} can reuse the former.
+ * </p>
+ */
 public interface EligibilityPolicy {
     boolean isEligible(Student s, Internship i);
+
+    /** @return why the student is not eligible, or {@code null} if they are */
+    default String explain(Student s, Internship i) {
+        return isEligible(s, i) ? null : "not eligible";
+    }
+
+    /** Clear the bits of candidates that fail any rule. */
+    default void retainEligible(Student s, Internship[] items, BitSet bits) {
+        for (int k = bits.nextSetBit(0); k >= 0; k = bits.nextSetBit(k + 1)) {
+            if (!isEligible(s, items[k])) bits.clear(k);
+        }
+    }
+
+    /**
+     * Clear candidates failing the rules shared by every student in the same
+     * year band and major. The default knows of no such rules.
+     */
+    default void retainGroupEligible(Student representative, Internship[] items, BitSet bits) {}
+
+    /**
+     * Clear candidates failing the rules not covered by
+     * {@link #retainGroupEligible}. The default applies every rule.
+     */
+    default void retainStudentEligible(Student s, Internship[] items, BitSet bits) {
+        retainEligible(s, items, bits);
+    }
+
+    /** @return whether {@link #retainStudentEligible} can clear anything */
+    default boolean hasStudentRules() { return true; }
 }
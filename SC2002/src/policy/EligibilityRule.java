@@ -0,0 +1,21 @@
+package policy;
+
+import internship.Internship;
+import user.Student;
+
+/**
+ * A single condition a student must meet to apply to an internship.
+ * Rules are combined by {@link RuleBasedEligibilityPolicy}.
+ */
+public interface EligibilityRule {
+    boolean test(Student s, Internship i);
+
+    /** @return short name shown when the rule rejects an application */
+    default String name() { return getClass().getSimpleName(); }
+
+    /**
+     * @return {@code true} if the outcome depends only on the student's year band
+     *         and major, so it can be evaluated once per group of students
+     */
+    default boolean groupInvariant() { return true; }
+}
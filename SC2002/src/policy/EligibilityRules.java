@@ -0,0 +1,41 @@
+package policy;
+
+import java.util.function.BiPredicate;
+
+import internship.Internship;
+import user.Student;
+
+/**
+ * The built-in eligibility rules.
+ */
+public final class EligibilityRules {
+    private EligibilityRules() {}
+
+    /** The internship is approved, visible and within its application window. */
+    public static final EligibilityRule OPEN_NOW = of("posting is not open", true, (s, i) -> i.isOpenNow());
+
+    /** Year 1-2 students may only take BASIC internships; Y3+ may take any level. */
+    public static final EligibilityRule LEVEL_FOR_YEAR = of("level requires year 3 or above", true,
+            (s, i) -> s.getYear() > 2 || i.getLevel() == Internship.InternshipLevel.BASIC);
+
+    /** The internship has no preferred major, or it matches the student's. */
+    public static final EligibilityRule MAJOR_MATCH = of("major does not match", true, (s, i) -> {
+        String m = i.getPreferredMajor();
+        return m == null || m.isBlank() || m.trim().equalsIgnoreCase(s.getMajor());
+    });
+
+    /**
+     * Wrap a predicate as a named rule.
+     *
+     * @param name           reason shown when the rule fails
+     * @param groupInvariant whether the outcome only depends on year band and major
+     * @param test           the condition
+     */
+    public static EligibilityRule of(String name, boolean groupInvariant, BiPredicate<Student, Internship> test) {
+        return new EligibilityRule() {
+            @Override public boolean test(Student s, Internship i) { return test.test(s, i); }
+            @Override public String name() { return name; }
+            @Override public boolean groupInvariant() { return groupInvariant; }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package policy;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+import internship.Internship;
+import user.Student;
+
+/**
+ * An {@link EligibilityPolicy} composed of {@link EligibilityRule}s that must all pass.
+ * <p>
+ * Rules are evaluated most selective first so that most rejections cost a
+ * single test. Selectivity is learned: bulk evaluation counts how many
+ * candidates each rule lets through, and after each pass the rules are
+ * re-sorted by pass ratio and recompiled into one chained predicate used by
+ * {@link #isEligible}. Bulk evaluation works rule by rule over a
+ * {@link BitSet}, so a candidate rejected by an early rule is never tested again.
+ * </p>
+ */
+public class RuleBasedEligibilityPolicy implements EligibilityPolicy {
+
+    /** A rule with its bulk-evaluation statistics. */
+    private static final class Tracked {
+        final EligibilityRule rule;
+        final LongAdder tested = new LongAdder();
+        final LongAdder passed = new LongAdder();
+        Tracked(EligibilityRule rule) { this.rule = rule; }
+        /** Smoothed pass ratio; lower means more selective. */
+        double passRatio() { return (passed.sum() + 1.0) / (tested.sum() + 2.0); }
+    }
+
+    private final Tracked[] tracked;
+    private volatile Tracked[] order;
+    private volatile BiPredicate<Student, Internship> compiled;
+    private final boolean hasStudentRules;
+
+    /**
+     * @param rules rules that must all pass, in initial evaluation order
+     */
+    public RuleBasedEligibilityPolicy(List<EligibilityRule> rules) {
+        this.tracked = new Tracked[rules.size()];
+        boolean perStudent = false;
+        for (int k = 0; k < tracked.length; k++) {
+            tracked[k] = new Tracked(Objects.requireNonNull(rules.get(k)));
+            perStudent |= !rules.get(k).groupInvariant();
+        }
+        this.hasStudentRules = perStudent;
+        compile(tracked.clone());
+    }
+
+    private void compile(Tracked[] sorted) {
+        BiPredicate<Student, Internship> p = (s, i) -> true;
+        for (int k = sorted.length - 1; k >= 0; k--) {
+            EligibilityRule r = sorted[k].rule;
+            BiPredicate<Student, Internship> rest = p;
+            p = k == sorted.length - 1 ? r::test : (s, i) -> r.test(s, i) && rest.test(s, i);
+        }
+        order = sorted;
+        compiled = p;
+    }
+
+    /** Re-sort by observed pass ratio and recompile if the order changed. */
+    private void reorder() {
+        Tracked[] cur = order;
+        Tracked[] sorted = cur.clone();
+        Arrays.sort(sorted, Comparator.comparingDouble(Tracked::passRatio));
+        if (!Arrays.equals(cur, sorted)) {
+            synchronized (this) { compile(sorted); }
+        }
+    }
+
+    @Override public boolean isEligible(Student s, Internship i) {
+        return compiled.test(s, i);
+    }
+
+    @Override public String explain(Student s, Internship i) {
+        for (Tracked t : order) if (!t.rule.test(s, i)) return t.rule.name();
+        return null;
+    }
+
+    @Override public void retainEligible(Student s, Internship[] items, BitSet bits) { retain(s, items, bits, null); }
+
+    @Override public void retainGroupEligible(Student s, Internship[] items, BitSet bits) { retain(s, items, bits, true); }
+
+    @Override public void retainStudentEligible(Student s, Internship[] items, BitSet bits) {
+        if (hasStudentRules) retain(s, items, bits, false);
+    }
+
+    @Override public boolean hasStudentRules() { return hasStudentRules; }
+
+    /**
+     * Apply the selected rules rule-by-rule over the candidate bits.
+     *
+     * @param group {@code true} for group-invariant rules only, {@code false}
+     *              for per-student rules only, {@code null} for all
+     */
+    private void retain(Student s, Internship[] items, BitSet bits, Boolean group) {
+        for (Tracked t : order) {
+            if (group != null && t.rule.groupInvariant() != group) continue;
+            int before = bits.cardinality();
+            if (before == 0) break;
+            for (int k = bits.nextSetBit(0); k >= 0; k = bits.nextSetBit(k + 1)) {
+                if (!t.rule.test(s, items[k])) bits.clear(k);
+            }
+            t.tested.add(before);
+            t.passed.add(bits.cardinality());
+        }
+        reorder();
+    }
+
+    /** @return rule names in current evaluation order */
+    public List<String> ruleOrder() {
+        List<String> out = new ArrayList<>();
+        for (Tracked t : order) out.add(t.rule.name());
+        return out;
+    }
+}
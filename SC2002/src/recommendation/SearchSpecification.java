@@ -1,20 +1,16 @@
 package recommendation;
 
-import java.util.Locale;
+import java.util.EnumSet;
 
+import filter.FuzzyKeywordIndex;
 import internship.Internship;
 
 public class SearchSpecification {
-    private final String keyword;
+    private final FuzzyKeywordIndex.Query query;
     public SearchSpecification(String keyword) {
-        this.keyword = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        this.query = FuzzyKeywordIndex.get().query(keyword, EnumSet.allOf(FuzzyKeywordIndex.Field.class));
     }
     public boolean matches(Internship i) {
-        if (keyword.isBlank()) return true;
-        String t = (i.getTitle()==null?"":i.getTitle()).toLowerCase();
-        String d = (i.getDescription()==null?"":i.getDescription()).toLowerCase();
-        String c = (i.getCompanyName()==null?"":i.getCompanyName()).toLowerCase();
-        String m = (i.getPreferredMajor()==null?"":i.getPreferredMajor()).toLowerCase();
-        return t.contains(keyword) || d.contains(keyword) || c.contains(keyword) || m.contains(keyword);
+        return query.test(i);
     }
 }
@@ -1,9 +1,12 @@
 package reporting;
 
+import analytics.ApplicationColumnStore;
+import internship.ApplicationStatus;
 import internship.Internship;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import repository.ReadView;
 
 /**
  * A builder class for generating advanced analytical reports on internship data.
@@ -25,6 +28,16 @@ public class AdvancedReportBuilder {
      */
     public AdvancedReportBuilder(List<Internship> data){ this.data=data; }
 
+    /**
+     * Constructs a builder over a consistent point-in-time view of the repository.
+     * Sections and CSV rows must be built while the view is still open, on the
+     * thread that opened it, so statuses, visibility and slots all come from the
+     * view's version.
+     *
+     * @param view The open {@link ReadView} to report on.
+     */
+    public AdvancedReportBuilder(ReadView view){ this(view.internships()); }
+
     /**
      * Appends a formatted section header to the report.
      *
@@ -68,6 +81,30 @@ public class AdvancedReportBuilder {
         return this;
     }
 
+    /**
+     * Appends cross-term transition counts from the columnar history store.
+     * <p>
+     * Counts are computed by scanning the store's primitive columns, so this
+     * stays cheap even when the history holds millions of rows.
+     * </p>
+     *
+     * @param history The {@link ApplicationColumnStore} to scan.
+     * @return The current instance of {@code AdvancedReportBuilder} for chaining.
+     */
+    public AdvancedReportBuilder history(ApplicationColumnStore history){
+        int[] byStatus = history.countByStatus();
+        for (ApplicationStatus s : ApplicationStatus.values()) {
+            sb.append(String.format("History: %s -> %d\n", s, byStatus[s.ordinal()]));
+        }
+        int[] submissions = history.countByCompany(ApplicationStatus.PENDING);
+        for (int code = 0; code < submissions.length; code++) {
+            if (submissions[code] > 0) {
+                sb.append(String.format("Submissions: %s -> %d\n", history.companyName(code), submissions[code]));
+            }
+        }
+        return this;
+    }
+
     /**
      * Finalizes the construction of the text-based report.
      *
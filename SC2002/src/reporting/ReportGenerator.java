@@ -1,12 +1,21 @@
 package reporting;
 
+import analytics.ApplicationColumnStore;
+import analytics.LifecycleEventLog;
+import filter.RankingCache;
 import internship.Internship;
 import internship.InternshipApp;
 import internship.ApplicationStatus;
+import policy.EligibilityCache;
+import repository.ReadView;
 import repository.Repository;
+import user.Student;
+import user.User;
 import util.ConsoleHelper;
+import util.Screen;
 import util.TablePrinter;
 
+import java.io.PrintStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -15,17 +24,31 @@ import java.util.stream.Collectors;
 /**
  * Comprehensive report generator for internship management system.
  * Provides detailed statistics, summaries, and filtered internship listings.
+ * <p>
+ * A report reads through one {@link ReadView}, so every section reflects the
+ * same committed version even if decisions are made while it is printed.
+ * </p>
  */
 public class ReportGenerator {
-    private final List<Internship> allInternships;
-    private final List<InternshipApp> allApplications;
+    /** Leading rows used to size the internship table's columns before it starts printing. */
+    private static final int SAMPLE_ROWS = 200;
+
+    private ReadView view;
+    private List<Internship> allInternships;
+    private List<InternshipApp> allApplications;
     private final ReportFilter filter;
+    private final Screen screen;
+    private final PrintStream out;
     private final LocalDateTime reportGeneratedTime;
 
-    public ReportGenerator(ReportFilter filter) {
-        this.allInternships = Repository.findAllInternships();
-        this.allApplications = Repository.findAllApplications();
+    /**
+     * @param filter criteria for the internship listing
+     * @param screen the session {@link Screen} the report is printed to
+     */
+    public ReportGenerator(ReportFilter filter, Screen screen) {
         this.filter = filter;
+        this.screen = screen;
+        this.out = screen.out();
         this.reportGeneratedTime = LocalDateTime.now();
     }
 
@@ -33,9 +56,16 @@ public class ReportGenerator {
      * Generate the complete report with header, summary, and filtered internships.
      */
     public void generateFullReport() {
-        printReportHeader();
-        printSummaryOverview();
-        printFilteredInternships();
+        try (ReadView v = Repository.openReadView()) {
+            this.view = v;
+            this.allInternships = v.internships();
+            this.allApplications = v.applications();
+            printReportHeader();
+            printSummaryOverview();
+            printHistoricalActivity();
+            printLifecycleLatency();
+            printFilteredInternships();
+        }
     }
 
     /**
@@ -45,59 +75,59 @@ public class ReportGenerator {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
         String generatedAt = reportGeneratedTime.format(formatter);
 
-        System.out.println("\n" + "=".repeat(67) + " INTERNSHIP REPORT " + "=".repeat(68));
-        System.out.println("Generated on: " + generatedAt);
+        out.println("\n" + "=".repeat(67) + " INTERNSHIP REPORT " + "=".repeat(68));
+        out.println("Generated on: " + generatedAt + " (data version " + view.version() + ")");
         
-        System.out.println("Filters Applied:");
+        out.println("Filters Applied:");
         if (filter == null || !filter.hasFilters()) {
-            System.out.println("   Status: ALL");
-            System.out.println("   Preferred Major: ALL");
-            System.out.println("   Level: ALL");
+            out.println("   Status: ALL");
+            out.println("   Preferred Major: ALL");
+            out.println("   Level: ALL");
         } else {
-            System.out.println("   Status: " + (filter.getStatus() != null ? filter.getStatus().name() : "ALL"));
-            System.out.println("   Preferred Major: " + (filter.getPreferredMajor() != null ? filter.getPreferredMajor() : "ALL"));
-            System.out.println("   Level: " + (filter.getLevel() != null ? filter.getLevel().name() : "ALL"));
+            out.println("   Status: " + (filter.getStatus() != null ? filter.getStatus().name() : "ALL"));
+            out.println("   Preferred Major: " + (filter.getPreferredMajor() != null ? filter.getPreferredMajor() : "ALL"));
+            out.println("   Level: " + (filter.getLevel() != null ? filter.getLevel().name() : "ALL"));
         }
-        System.out.println("=".repeat(153));
+        out.println("=".repeat(153));
     }
 
     /**
      * Print the summary overview section with counts and breakdowns.
      */
     private void printSummaryOverview() {
-        System.out.println("\n" + "-".repeat(49) + " SUMMARY OVERVIEW " + "-".repeat(49));
+        out.println("\n" + "-".repeat(49) + " SUMMARY OVERVIEW " + "-".repeat(49));
 
         // Total internship counts
         long totalInternships = allInternships.size();
         long visibleInternships = allInternships.stream().filter(Internship::isVisible).count();
         long hiddenInternships = totalInternships - visibleInternships;
 
-        System.out.println("Total Internships: " + totalInternships);
-        System.out.println("Internships (Visible to Students): " + visibleInternships);
-        System.out.println("Internships (Hidden / Visibility OFF): " + hiddenInternships);
+        out.println("Total Internships: " + totalInternships);
+        out.println("Internships (Visible to Students): " + visibleInternships);
+        out.println("Internships (Hidden / Visibility OFF): " + hiddenInternships);
 
         // Internship status breakdown
-        System.out.println("\nInternship Status Breakdown:");
+        out.println("\nInternship Status Breakdown:");
         Map<Internship.InternshipStatus, Long> statusCounts = allInternships.stream()
                 .collect(Collectors.groupingBy(Internship::getStatus, Collectors.counting()));
         
         for (Internship.InternshipStatus status : Internship.InternshipStatus.values()) {
             long count = statusCounts.getOrDefault(status, 0L);
-            System.out.println(String.format("   • %-20s: %3d", status.name(), count));
+            out.println(String.format("   • %-20s: %3d", status.name(), count));
         }
 
         // Application status breakdown
-        System.out.println("\nApplication Status Breakdown:");
+        out.println("\nApplication Status Breakdown:");
         Map<ApplicationStatus, Long> appStatusCounts = allApplications.stream()
                 .collect(Collectors.groupingBy(InternshipApp::getStatus, Collectors.counting()));
         
         for (ApplicationStatus status : ApplicationStatus.values()) {
             long count = appStatusCounts.getOrDefault(status, 0L);
-            System.out.println(String.format("   • %-20s: %3d", status.name(), count));
+            out.println(String.format("   • %-20s: %3d", status.name(), count));
         }
 
         // Application volume statistics
-        System.out.println("\nApplication Volume:");
+        out.println("\nApplication Volume:");
         long totalApplications = allApplications.size();
         long uniqueStudents = allApplications.stream()
                 .map(app -> app.getStudent().getUserId())
@@ -106,12 +136,12 @@ public class ReportGenerator {
         double avgAppsPerInternship = totalInternships == 0 ? 0 : 
                 (double) totalApplications / totalInternships;
 
-        System.out.println("   • Total Applications Submitted: " + totalApplications);
-        System.out.println("   • Unique Students Applied: " + uniqueStudents);
-        System.out.println(String.format("   • Average Applications per Internship: %.1f", avgAppsPerInternship));
+        out.println("   • Total Applications Submitted: " + totalApplications);
+        out.println("   • Unique Students Applied: " + uniqueStudents);
+        out.println(String.format("   • Average Applications per Internship: %.1f", avgAppsPerInternship));
 
         // Company/Internship statistics
-        System.out.println("\nCompany/Internship Statistics:");
+        out.println("\nCompany/Internship Statistics:");
         long uniqueCompanies = allInternships.stream()
                 .map(Internship::getCompanyName)
                 .distinct()
@@ -145,11 +175,84 @@ public class ReportGenerator {
                         .map(e -> e.getKey() + " (" + e.getValue() + " apps)")
                         .orElse("N/A");
 
-        System.out.println("   • Number of Companies Posting: " + uniqueCompanies);
-        System.out.println("   • Company With Most Applications: " + companyMostApps);
-        System.out.println("   • Internship With Highest Demand: " + internshipHighestDemand);
+        out.println("   • Number of Companies Posting: " + uniqueCompanies);
+        out.println("   • Company With Most Applications: " + companyMostApps);
+        out.println("   • Internship With Highest Demand: " + internshipHighestDemand);
+
+        // Recommendation ranking cache effectiveness
+        out.println("\nRecommendation Cache:");
+        out.println("   • " + RankingCache.get().stats());
+
+        out.println("-".repeat(115));
+    }
+
+    /**
+     * Print cross-term activity from the columnar history store. Unlike the
+     * summary above, this covers every recorded status transition rather than
+     * only the applications currently in memory.
+     */
+    private void printHistoricalActivity() {
+        ApplicationColumnStore history = ApplicationColumnStore.get();
+        if (history.size() == 0) return;
+
+        out.println("\n" + "-".repeat(47) + " HISTORICAL ACTIVITY " + "-".repeat(47));
+        int untimed = history.untimedCount();
+        out.println("Recorded Status Transitions: " + history.size()
+                + (untimed > 0 ? " (" + untimed + " back-filled from existing applications, time unknown)" : ""));
+
+        int[] byStatus = history.countByStatus();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            out.println(String.format("   • %-20s: %3d", status.name(), byStatus[status.ordinal()]));
+        }
+
+        int[] submissions = history.countByCompany(ApplicationStatus.PENDING);
+        int top = ApplicationColumnStore.argMax(submissions);
+        out.println("\n   • Students Ever Applied: " + history.distinctStudents(ApplicationStatus.PENDING));
+        out.println("   • Company With Most Submissions (all time): "
+                + (top < 0 ? "N/A" : history.companyName(top) + " (" + submissions[top] + " apps)"));
+
+        int[] placements = history.countByCompany(ApplicationStatus.CONFIRMED);
+        int topPlaced = ApplicationColumnStore.argMax(placements);
+        out.println("   • Company With Most Placements (all time): "
+                + (topPlaced < 0 ? "N/A" : history.companyName(topPlaced) + " (" + placements[topPlaced] + ")"));
+        out.println("-".repeat(115));
+    }
+
+    /**
+     * Print p50/p95/p99 latency of each status transition per company, e.g.
+     * PENDING -> SUCCESSFUL (time-to-decision) or SUCCESSFUL -> CONFIRMED
+     * (time-to-accept), from the lifecycle event log.
+     */
+    private void printLifecycleLatency() {
+        List<LifecycleEventLog.LatencyStats> stats = LifecycleEventLog.get().latencyByCompany();
+        if (stats.isEmpty()) return;
+
+        out.println("\n" + "-".repeat(44) + " APPLICATION LIFECYCLE LATENCY " + "-".repeat(40));
+
+        var tp = TablePrinter.builder()
+                .unicodeBorders(true)
+                .maxTableWidth(160)
+                .addColumn("Company",    TablePrinter.Align.LEFT,   8, 16)
+                .addColumn("Transition", TablePrinter.Align.LEFT,  20, 26)
+                .addColumn("N",          TablePrinter.Align.RIGHT,  3,  6)
+                .addColumn("p50",        TablePrinter.Align.RIGHT,  6, 10)
+                .addColumn("p95",        TablePrinter.Align.RIGHT,  6, 10)
+                .addColumn("p99",        TablePrinter.Align.RIGHT,  6, 10)
+                .build();
 
-        System.out.println("-".repeat(115));
+        for (LifecycleEventLog.LatencyStats s : stats) {
+            tp.addRow(
+                    ConsoleHelper.safe(s.company),
+                    s.transition(),
+                    s.samples,
+                    LifecycleEventLog.formatDuration(s.p50),
+                    LifecycleEventLog.formatDuration(s.p95),
+                    LifecycleEventLog.formatDuration(s.p99)
+            );
+        }
+
+        out.println(tp.render());
+        out.println("-".repeat(115));
     }
 
     /**
@@ -159,11 +262,11 @@ public class ReportGenerator {
         List<Internship> filtered = getFilteredInternships();
 
         if (filtered.isEmpty()) {
-            System.out.println("\nNo internships match the selected filters.");
+            out.println("\nNo internships match the selected filters.");
             return;
         }
 
-        System.out.println("\n" + "-".repeat(48) + " FILTERED INTERNSHIPS " + "-".repeat(47));
+        out.println("\n" + "-".repeat(48) + " FILTERED INTERNSHIPS " + "-".repeat(47));
 
         var tp = TablePrinter.builder()
                 .unicodeBorders(true)
@@ -175,24 +278,33 @@ public class ReportGenerator {
                 .addColumn("PrefMajor",TablePrinter.Align.CENTER, 9, 11)
                 .addColumn("Status",   TablePrinter.Align.CENTER, 10, 12)
                 .addColumn("Slots",    TablePrinter.Align.RIGHT,  7,  9)
+                .addColumn("Eligible", TablePrinter.Align.RIGHT,  8, 10)
                 .build();
 
-        for (Internship i : filtered) {
-            String slotInfo = i.getConfirmedCount() + "/" + i.getSlots();
-            tp.addRow(
-                    i.getId(),
-                    ConsoleHelper.safe(i.getTitle()),
-                    ConsoleHelper.safe(i.getCompanyName()),
-                    i.getLevel().name(),
-                    ConsoleHelper.safe(i.getPreferredMajor()),
-                    i.getStatus().name(),
-                    slotInfo
-            );
-        }
+        // Students who may apply now, from the same policy as listing and applying (a live figure)
+        List<Student> students = new ArrayList<>();
+        for (User u : view.users()) if (u instanceof Student st) students.add(st);
+        int[] eligible = EligibilityCache.get().eligibleCounts(filtered, students);
 
-        System.out.println(tp.render());
-        System.out.println("Showing " + filtered.size() + " of " + allInternships.size() + " internships");
-        System.out.println("-".repeat(115));
+        // Streamed: a large catalog prints as it goes instead of being built up as one string
+        try (var rows = tp.stream(screen.writer(), SAMPLE_ROWS)) {
+            for (int n = 0; n < filtered.size(); n++) {
+                Internship i = filtered.get(n);
+                String slotInfo = i.getConfirmedCount() + "/" + i.getSlots();
+                rows.row(
+                        i.getId(),
+                        ConsoleHelper.safe(i.getTitle()),
+                        ConsoleHelper.safe(i.getCompanyName()),
+                        i.getLevel().name(),
+                        ConsoleHelper.safe(i.getPreferredMajor()),
+                        i.getStatus().name(),
+                        slotInfo,
+                        eligible[n]
+                );
+            }
+        }
+        out.println("Showing " + filtered.size() + " of " + allInternships.size() + " internships");
+        out.println("-".repeat(115));
     }
 
     /**
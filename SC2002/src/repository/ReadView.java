@@ -0,0 +1,49 @@
+package repository;
+
+import internship.Internship;
+import internship.InternshipApp;
+import java.util.List;
+import mvcc.VersionClock;
+import user.User;
+
+/**
+ * A consistent point-in-time view of the repository for long-running reads
+ * such as reports and exports.
+ * <p>
+ * Opening a view pins the latest committed version. Until it is closed,
+ * every status, visibility and slot read on the opening thread returns the
+ * value as of that version, so a bulk decision committed meanwhile is not
+ * seen half-applied. Writers are never blocked by a view. Use it in a
+ * try-with-resources block on the thread doing the reads; closing it lets
+ * versions it kept alive be reclaimed.
+ * </p>
+ */
+public final class ReadView implements AutoCloseable {
+    private final long previous;
+    private final long version;
+    private final List<User> users;
+    private final List<Internship> internships;
+    private final List<InternshipApp> applications;
+    private boolean closed;
+
+    ReadView(List<User> users, List<Internship> internships, List<InternshipApp> applications) {
+        this.previous = VersionClock.beginRead();
+        this.version = VersionClock.viewVersion();
+        this.users = users;
+        this.internships = internships;
+        this.applications = applications;
+    }
+
+    /** @return the committed version this view reads at */
+    public long version() { return version; }
+
+    public List<User> users() { return users; }
+    public List<Internship> internships() { return internships; }
+    public List<InternshipApp> applications() { return applications; }
+
+    @Override public void close() {
+        if (closed) return;
+        closed = true;
+        VersionClock.endRead(previous);
+    }
+}
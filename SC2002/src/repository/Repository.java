@@ -3,22 +3,37 @@ package repository;
 import internship.*;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import scheduler.DeadlineScheduler;
 import storage.DataManager;
 import user.CareerCentreStaff;
 import user.CompanyRep;
 import user.Student;
 import user.User;
+import util.ComparatorFactory;
+import util.KeysetPage;
+import util.SortKey;
+import withdrawal.WithdrawalQueue;
 
 /**
  * In-memory repository used by the application to store users, internships
  * and applications. Methods are static for convenience in this simple design.
  */
 public class Repository {
-    private static final List<User> users = new ArrayList<>();
-    private static final List<Internship> internships = new ArrayList<>();
-    private static final List<InternshipApp> apps = new ArrayList<>();
+    // Read through snapshots: findAll* hands out immutable views that share storage
+    private static final SnapshotList<User> users = new SnapshotList<>();
+    private static final SnapshotList<Internship> internships = new SnapshotList<>();
+    private static final SnapshotList<InternshipApp> apps = new SnapshotList<>();
     private static final AtomicInteger appSeq = new AtomicInteger(0);
+    private static final AtomicLong internshipVersion = new AtomicLong(0);
+    private static final AtomicLong catalogTextVersion = new AtomicLong(0);
+
+    // Lookup indexes (keys lower-cased), rebuilt on bootstrap
+    private static final Map<String, User> usersById = new HashMap<>();
+    private static final Map<String, List<InternshipApp>> appsByStudent = new HashMap<>();
+    private static final Map<String, List<InternshipApp>> appsByInternship = new HashMap<>();
+    private static final SortedInternshipIndex sortedInternships = new SortedInternshipIndex();
+    private static final SuggestionIndex suggestions = new SuggestionIndex();
 
     /* -------- Bootstrap -------- */
     /**
@@ -27,8 +42,14 @@ public class Repository {
      */
     public static void bootstrap(List<User> u, List<Internship> i, List<InternshipApp> a) {
         users.clear(); if (u != null) users.addAll(u);
+        catalogTextVersion.incrementAndGet();   // before the list changes, see catalogTextVersion()
         internships.clear(); if (i != null) internships.addAll(i);
+        sortedInternships.clear();
+        suggestions.clear();
+        internshipVersion.incrementAndGet();
+        DeadlineScheduler.get().reset(internships.snapshot());
         apps.clear(); if (a != null) apps.addAll(a);
+        rebuildIndexes();
         
         // Update appSeq to the highest ID found in applications
         int maxId = 0;
@@ -59,34 +80,53 @@ public class Repository {
         appSeq.set(maxId);
     }
 
+    private static void rebuildIndexes() {
+        usersById.clear();
+        for (User u : users) {
+            // CompanyRep external ids are registered first so a real userId always wins
+            if (u instanceof CompanyRep cr && cr.getExternalId() != null) usersById.putIfAbsent(cr.getExternalId().toLowerCase(), cr);
+        }
+        for (User u : users) {
+            if (u.getUserId() != null) usersById.put(u.getUserId().toLowerCase(), u);
+        }
+        appsByStudent.clear();
+        appsByInternship.clear();
+        for (InternshipApp app : apps) indexApplication(app);
+    }
+
+    private static void indexApplication(InternshipApp a) {
+        if (a.getInternship() != null && a.getInternship().getId() != null) {
+            appsByInternship.computeIfAbsent(a.getInternship().getId().toLowerCase(), k -> new ArrayList<>()).add(a);
+        }
+        if (a.getStudent() == null || a.getStudent().getUserId() == null) return;
+        appsByStudent.computeIfAbsent(a.getStudent().getUserId().toLowerCase(), k -> new ArrayList<>()).add(a);
+    }
+
     /* -------- Users -------- */
-    /** Minimal add: needed by StaffMenu to list all users (e.g., pending reps). */
+    /**
+     * @return an immutable snapshot of all users; cheap to obtain and safe to
+     *         iterate while users are added
+     */
     public static List<User> findAllUsers() {
-        return new ArrayList<>(users);
+        return users.snapshot();
+    }
+
+    /**
+     * Open a point-in-time view of users, internships and applications. The
+     * view must be closed, on the thread that opened it, when the read is done.
+     *
+     * @return a view pinned to the latest committed version
+     */
+    public static ReadView openReadView() {
+        return new ReadView(users.snapshot(), internships.snapshot(), apps.snapshot());
     }
 
     /** Keep signature but return concrete type for convenience. */
     public static User findUserById(String id) {
         if (id == null) return null;
-
-        for (var u : users) {
-    
-            // 1) normal student/staff login by userId
-            if (u.getUserId() != null && u.getUserId().equalsIgnoreCase(id)) {
-                return u;
-            }
-
-            // 2) allow CompanyRep login using external repID
-            if (u instanceof CompanyRep cr) {
-                String ext = cr.getExternalId();
-                if (ext != null && ext.equalsIgnoreCase(id)) {
-                    return cr;
-                }
-            }
-        }
-    
-        return null;
-    }    
+        // 1) normal student/staff login by userId, 2) CompanyRep login using external repID
+        return usersById.get(id.toLowerCase());
+    }
 
     /** Minimal add: used by StaffMenu after mutating a user (in-memory no-op). */
     public static void updateUser(User u){
@@ -95,7 +135,11 @@ public class Repository {
     }
 
     /* -------- Internships -------- */
-    public static List<Internship> findAllInternships(){ return new ArrayList<>(internships); }
+    /**
+     * @return an immutable snapshot of all internships; cheap to obtain and
+     *         safe to iterate while internships are added
+     */
+    public static List<Internship> findAllInternships(){ return internships.snapshot(); }
 
     public static Internship findInternshipById(String id){
         if (id == null) return null;
@@ -120,6 +164,33 @@ public class Repository {
         return result;
     }            
     
+    /**
+     * Walk the catalog in {@code order}, lazily, starting after {@code after}.
+     *
+     * @param after cursor from a previous page, or {@code null} to start at the beginning
+     * @return weakly consistent iterator in index order
+     */
+    public static Iterator<Internship> scanInternships(ComparatorFactory.Order order, Internship after) {
+        NavigableMap<SortKey, Internship> index = sortedInternships.get(order, internships::snapshot);
+        if (after == null) return index.values().iterator();
+        return index.tailMap(sortedInternships.keyOf(after, order), false).values().iterator();
+    }
+
+    /**
+     * One page of the catalog in {@code order}, from a sorted index: a seek to
+     * the cursor plus {@code size} steps, however deep the page is.
+     *
+     * @param after cursor ({@link KeysetPage#cursor()} of the previous page), or {@code null} for the first page
+     * @param size  page size
+     * @return the page
+     */
+    public static KeysetPage<Internship> pageInternships(ComparatorFactory.Order order, Internship after, int size) {
+        Iterator<Internship> it = scanInternships(order, after);
+        List<Internship> page = new ArrayList<>(Math.max(1, size));
+        while (page.size() < size && it.hasNext()) page.add(it.next());
+        return new KeysetPage<>(page, it.hasNext());
+    }
+
     public static List<Internship> findInternshipsByRepUserId(String email) {
         if (email == null) return List.of();
         return findAllInternships().stream()
@@ -133,43 +204,121 @@ public class Repository {
     public static String newInternshipId(){ return InternshipIds.next(); }
 
     public static void saveInternship(Internship i, String repId){ 
-        if (i != null) internships.add(i); 
+        if (i != null) {
+            internships.add(i);
+            sortedInternships.insert(i);
+            suggestions.insert(i);
+            internshipVersion.incrementAndGet();
+            DeadlineScheduler.get().schedule(i);
+        }
     }
 
     public static void updateInternship(Internship i){ 
-        // In-memory: no-op. If you move to detached objects, replace by ID here.
+        // In-memory objects are already updated; only re-key sorted indexes if needed
+        if (i != null) {
+            sortedInternships.reindex(i);
+            suggestions.reindex(i);
+        }
+        internshipVersion.incrementAndGet();
+    }
+
+    /**
+     * Record a batch of internship changes: one version bump and one save,
+     * regardless of how many internships changed.
+     */
+    public static void updateInternships(Collection<Internship> batch){
+        if (batch == null || batch.isEmpty()) return;
+        for (Internship i : batch) {
+            sortedInternships.reindex(i);
+            suggestions.reindex(i);
+        }
+        internshipVersion.incrementAndGet();
+        saveAllInternships();
     }
 
+    /**
+     * @return a counter that changes whenever internships are added or updated,
+     *         including status, visibility and window changes made on the objects directly
+     */
+    public static long internshipVersion(){ return internshipVersion.get() + Internship.stateVersion(); }
+
+    /**
+     * Version of the text of the catalog, for indexes over titles, companies,
+     * descriptions, majors, levels and dates. Those fields are fixed when an
+     * internship is created, so only {@link #bootstrap} changes it: status,
+     * visibility and window changes do not, and postings saved in between are
+     * appended to {@link #findAllInternships()}, so an index can extend itself
+     * by the list's size instead of rebuilding. It is bumped before the list
+     * is replaced; a list read between two equal readings of it belongs to
+     * that version.
+     *
+     * @return a counter that changes whenever the catalog is reloaded
+     */
+    public static long catalogTextVersion(){ return catalogTextVersion.get(); }
+
     /* -------- Applications -------- */
+    /**
+     * Typeahead completions from the catalog, most popular first (postings
+     * carrying the value plus the applications they have received).
+     *
+     * @param prefix what has been typed so far; case is ignored
+     * @param k      at most this many suggestions
+     */
+    public static List<String> suggest(SuggestionIndex.Field field, String prefix, int k) {
+        return suggestions.suggest(field, prefix, k, internships::snapshot, Repository::applicationCount);
+    }
+
+    /** @return whether some posting has exactly {@code value} (ignoring case) as its {@code field} */
+    public static boolean hasValue(SuggestionIndex.Field field, String value) {
+        return suggestions.contains(field, value, internships::snapshot, Repository::applicationCount);
+    }
+
+    private static int applicationCount(Internship i) {
+        if (i.getId() == null) return 0;
+        List<InternshipApp> list = appsByInternship.get(i.getId().toLowerCase());
+        return list == null ? 0 : list.size();
+    }
+
     public static List<InternshipApp> findApplicationsByStudentId(String sid){
         if (sid == null) return List.of();
-        return apps.stream()
-                .filter(a -> a.getStudent()!=null
-                          && a.getStudent().getUserId()!=null
-                          && a.getStudent().getUserId().equalsIgnoreCase(sid))
-                .collect(Collectors.toList());
+        return new ArrayList<>(appsByStudent.getOrDefault(sid.toLowerCase(), List.of()));
     }
 
-    /** Minimal add: used by StudentMenu for accept/withdraw actions. */
+    /**
+     * Applications to the rep's internships, grouped by internship (in
+     * posting order) and in submission order within each.
+     */
     public static List<InternshipApp> findApplicationsByRepId(String repId) {
         if (repId == null) return List.of();
-    
-        return apps.stream()
-                .filter(a -> {
-                    if (a.getInternship() == null) return false;
-                    var rep = a.getInternship().getPostedBy();
-                    return rep != null
-                            && rep.getUserId() != null
-                            && rep.getUserId().equalsIgnoreCase(repId);
-                })
-                .collect(Collectors.toList());
+        List<InternshipApp> result = new ArrayList<>();
+        for (Internship i : findInternshipsByRep(repId)) {
+            if (i.getId() != null) result.addAll(appsByInternship.getOrDefault(i.getId().toLowerCase(), List.of()));
+        }
+        return result;
     }
-    
 
-    public static void saveApplication(InternshipApp a){ if (a != null) apps.add(a); }
+    public static void saveApplication(InternshipApp a){
+        if (a != null) {
+            apps.add(a);
+            indexApplication(a);
+            suggestions.applied(a.getInternship());
+        }
+    }
 
+    public static InternshipApp findApplicationById(String id){
+        if (id == null) return null;
+        for (var a : apps) {
+            if (a.getId() != null && a.getId().equalsIgnoreCase(id)) return a;
+        }
+        return null;
+    }
+
+    /**
+     * @return an immutable snapshot of all applications, in submission order;
+     *         cheap to obtain and safe to iterate while applications are added
+     */
     public static List<InternshipApp> findAllApplications() {
-        return new ArrayList<>(apps);
+        return apps.snapshot();
     }
 
     public static void updateApplication(InternshipApp a){ 
@@ -188,22 +337,17 @@ public class Repository {
         return result;
     }
 
+    /** @return open applications with a pending withdrawal request, in submission order */
     public static List<InternshipApp> findPendingWithdrawals() {
-        return apps.stream()
-                .filter(a -> a != null
-                          && a.isWithdrawalRequested()
-                          && a.getStatus() != ApplicationStatus.WITHDRAWN
-                          && a.getStatus() != ApplicationStatus.UNSUCCESSFUL)
-                .collect(Collectors.toList());
+        List<InternshipApp> result = new ArrayList<>();
+        for (WithdrawalQueue.Request r : WithdrawalQueue.get().peekAll()) result.add(r.app);
+        return result;
     }
 
+    /** @return applications to the internship, in submission order */
     public static List<InternshipApp> findApplicationsByInternshipId(String internshipId) {
         if (internshipId == null) return List.of();
-        return apps.stream()
-                .filter(a -> a.getInternship() != null
-                          && a.getInternship().getId() != null
-                          && a.getInternship().getId().equalsIgnoreCase(internshipId))
-                .collect(Collectors.toList());
+        return new ArrayList<>(appsByInternship.getOrDefault(internshipId.toLowerCase(), List.of()));
     }
 
     /* -------- Persistence -------- */
@@ -258,7 +402,7 @@ public class Repository {
      */
     public static void saveAllInternships() {
         DataManager dm = new DataManager();
-        dm.saveInternships("data/internships.csv", new ArrayList<>(internships));
+        dm.saveInternships("data/internships.csv", internships.snapshot());
     }
 
     /**
@@ -266,6 +410,6 @@ public class Repository {
      * Used after application status changes (confirm, withdraw, etc.).
      */
     public static void saveAllApplications() {
-        storage.ApplicationCsvIO.save("data/applications.csv", new ArrayList<>(apps));
+        storage.ApplicationCsvIO.save("data/applications.csv", apps.snapshot());
     }
 }
@@ -0,0 +1,92 @@
+package repository;
+
+import java.util.*;
+
+/**
+ * Append-only list that hands out immutable snapshots sharing its storage.
+ * <p>
+ * Elements live in one array that is only ever written past the current
+ * size. A snapshot is the array reference plus the size at the time it was
+ * taken, so taking one copies nothing, and later appends cannot change what
+ * it shows: they either write beyond its size or, when the array is full,
+ * into a new larger array the snapshot does not see. {@link #clear()} also
+ * starts a new array. The latest snapshot is cached until the next write, so
+ * repeated reads of an unchanged list return the same object.
+ * </p>
+ * <p>
+ * Writes are synchronised; snapshots are safe to iterate from any thread
+ * while the list keeps growing.
+ * </p>
+ *
+ * @param <E> element type
+ */
+final class SnapshotList<E> implements Iterable<E> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int size;
+    private long version;
+    private volatile Snapshot<E> published;
+
+    /** Immutable view of the first {@code size} elements of a shared array. */
+    static final class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+        private final long version;
+
+        private Snapshot(Object[] elements, int size, long version) {
+            this.elements = elements; this.size = size; this.version = version;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[index];
+        }
+
+        @Override public int size() { return size; }
+
+        /** @return the list version this snapshot was taken at */
+        long version() { return version; }
+    }
+
+    /** Append one element. */
+    synchronized void add(E e) {
+        if (size == elements.length) elements = Arrays.copyOf(elements, size * 2);
+        elements[size++] = e;
+        version++;
+        published = null;
+    }
+
+    /** Append every element of {@code c}. */
+    synchronized void addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) return;
+        if (size + c.size() > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(elements.length * 2, size + c.size()));
+        }
+        for (E e : c) elements[size++] = e;
+        version++;
+        published = null;
+    }
+
+    /** Empty the list; existing snapshots keep their contents. */
+    synchronized void clear() {
+        elements = new Object[INITIAL_CAPACITY];
+        size = 0;
+        version++;
+        published = null;
+    }
+
+    /** @return an immutable snapshot of the current contents, in O(1) */
+    Snapshot<E> snapshot() {
+        Snapshot<E> s = published;
+        if (s != null) return s;
+        synchronized (this) {
+            if (published == null) published = new Snapshot<>(elements, size, version);
+            return published;
+        }
+    }
+
+    /** Iterates over a snapshot taken when iteration starts. */
+    @Override public Iterator<E> iterator() { return snapshot().iterator(); }
+}
@@ -0,0 +1,79 @@
+package repository;
+
+import internship.Internship;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import util.ComparatorFactory.Order;
+import util.SortKey;
+
+/**
+ * Sorted indexes of the internship catalog, one per {@link Order}.
+ * <p>
+ * Each index is a skip list from {@link SortKey} to internship. Keys are
+ * computed once per internship and order, so comparisons during inserts and
+ * seeks are plain string and number compares rather than case-insensitive
+ * ones. An index is built the first time its order is asked for and is then
+ * maintained incrementally: new postings are inserted, and an edited posting
+ * is moved only if its key changed. Paging is a seek to the cursor's key
+ * followed by an in-order walk; iteration is weakly consistent, so a listing
+ * can be read while postings are being added.
+ * </p>
+ */
+final class SortedInternshipIndex {
+    private static final Order[] ORDERS = Order.values();
+
+    private final Map<Order, NavigableMap<SortKey, Internship>> indexes = new EnumMap<>(Order.class);
+    /** Current key of each indexed internship, by order ordinal. */
+    private final Map<Internship, SortKey[]> keys = new IdentityHashMap<>();
+
+    private SortKey key(Internship i, Order o) {
+        SortKey[] k = keys.computeIfAbsent(i, x -> new SortKey[ORDERS.length]);
+        if (k[o.ordinal()] == null) k[o.ordinal()] = o.keyOf(i);
+        return k[o.ordinal()];
+    }
+
+    /** @return the index for {@code order}, building it from {@code all} if needed */
+    synchronized NavigableMap<SortKey, Internship> get(Order order, Supplier<List<Internship>> all) {
+        NavigableMap<SortKey, Internship> index = indexes.get(order);
+        if (index == null) {
+            // Sort precomputed keys in a TreeMap (a duplicate id keeps the last posting),
+            // then build the skip list from it in linear time
+            TreeMap<SortKey, Internship> sorted = new TreeMap<>();
+            for (Internship i : all.get()) sorted.put(key(i, order), i);
+            index = new ConcurrentSkipListMap<>(sorted);
+            indexes.put(order, index);
+        }
+        return index;
+    }
+
+    /** @return the internship's key under {@code order}, as indexed */
+    synchronized SortKey keyOf(Internship i, Order order) { return key(i, order); }
+
+    /** Add a new internship to every index built so far. */
+    synchronized void insert(Internship i) {
+        for (Map.Entry<Order, NavigableMap<SortKey, Internship>> e : indexes.entrySet()) {
+            e.getValue().put(key(i, e.getKey()), i);
+        }
+    }
+
+    /** Re-key an edited internship in every built index whose key for it changed. */
+    synchronized void reindex(Internship i) {
+        SortKey[] k = keys.get(i);
+        if (k == null) return;
+        for (Map.Entry<Order, NavigableMap<SortKey, Internship>> e : indexes.entrySet()) {
+            int o = e.getKey().ordinal();
+            SortKey fresh = e.getKey().keyOf(i);
+            if (fresh.equals(k[o])) continue;
+            if (k[o] != null) e.getValue().remove(k[o]);
+            e.getValue().put(fresh, i);
+            k[o] = fresh;
+        }
+    }
+
+    /** Drop all indexes; they are rebuilt on next use. */
+    synchronized void clear() {
+        indexes.clear();
+        keys.clear();
+    }
+}
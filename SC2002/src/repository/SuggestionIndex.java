@@ -0,0 +1,141 @@
+package repository;
+
+import internship.Internship;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import util.CompletionTrie;
+
+/**
+ * Typeahead suggestions for company names, internship titles and majors,
+ * weighted by popularity.
+ * <p>
+ * One {@link CompletionTrie} per {@link Field}. A value's weight is the
+ * number of postings carrying it plus the applications those postings have
+ * received, so busy companies and common titles come first. Titles are also
+ * indexed from each later word, so typing "eng" offers "Software Engineering
+ * Intern". The index is built from the catalog the first time it is asked
+ * for and then kept current: new postings and applications add weight, and
+ * an edited posting moves its weight from its old values to its new ones.
+ * </p>
+ */
+public final class SuggestionIndex {
+    /** What a suggestion completes. */
+    public enum Field { COMPANY, TITLE, MAJOR }
+
+    private static final Field[] FIELDS = Field.values();
+    /** Separates a title key's word suffix from the full title, keeping keys of different titles apart. */
+    private static final char TITLE_SEP = '\u0000';
+
+    private final Map<Field, CompletionTrie> tries = new EnumMap<>(Field.class);
+    /** Values and weight each indexed internship contributes, by field ordinal. */
+    private final Map<Internship, Indexed> indexed = new IdentityHashMap<>();
+    private boolean built;
+
+    private static final class Indexed {
+        final String[] values = new String[FIELDS.length];
+        int weight;
+    }
+
+    SuggestionIndex() {
+        for (Field f : FIELDS) tries.put(f, new CompletionTrie());
+    }
+
+    /**
+     * @param all          catalog to build from on first use
+     * @param applications number of applications a posting has received
+     * @return up to {@code k} values of {@code field} starting with {@code prefix}, most popular first
+     */
+    synchronized List<String> suggest(Field field, String prefix, int k,
+                                      Supplier<List<Internship>> all, ToIntFunction<Internship> applications) {
+        build(all, applications);
+        return tries.get(field).complete(prefix, k);
+    }
+
+    /** @return whether some posting has exactly {@code value} (ignoring case) in {@code field} */
+    synchronized boolean contains(Field field, String value,
+                                  Supplier<List<Internship>> all, ToIntFunction<Internship> applications) {
+        build(all, applications);
+        if (value == null || value.isBlank()) return false;
+        String v = value.trim();
+        return tries.get(field).contains(field == Field.TITLE ? titleKey(v, v) : v);
+    }
+
+    private void build(Supplier<List<Internship>> all, ToIntFunction<Internship> applications) {
+        if (built) return;
+        built = true;
+        for (Internship i : all.get()) add(i, 1 + applications.applyAsInt(i));
+    }
+
+    /** Index a new posting, if the index has been built. */
+    synchronized void insert(Internship i) {
+        if (built && !indexed.containsKey(i)) add(i, 1);
+    }
+
+    /** Move an edited posting's weight to its current values. */
+    synchronized void reindex(Internship i) {
+        Indexed x = built ? indexed.get(i) : null;
+        if (x == null) return;
+        String[] now = valuesOf(i);
+        for (Field f : FIELDS) {
+            int o = f.ordinal();
+            if (Objects.equals(now[o], x.values[o])) continue;
+            put(f, x.values[o], -x.weight);
+            put(f, now[o], x.weight);
+            x.values[o] = now[o];
+        }
+    }
+
+    /** Count an application towards its posting's values. */
+    synchronized void applied(Internship i) {
+        Indexed x = built && i != null ? indexed.get(i) : null;
+        if (x == null) return;
+        x.weight++;
+        for (Field f : FIELDS) put(f, x.values[f.ordinal()], 1);
+    }
+
+    /** Drop everything; rebuilt on next use. */
+    synchronized void clear() {
+        for (CompletionTrie t : tries.values()) t.clear();
+        indexed.clear();
+        built = false;
+    }
+
+    private void add(Internship i, int weight) {
+        Indexed x = new Indexed();
+        System.arraycopy(valuesOf(i), 0, x.values, 0, FIELDS.length);
+        x.weight = weight;
+        indexed.put(i, x);
+        for (Field f : FIELDS) put(f, x.values[f.ordinal()], weight);
+    }
+
+    private void put(Field f, String value, int delta) {
+        if (value == null) return;
+        CompletionTrie t = tries.get(f);
+        if (f != Field.TITLE) {
+            t.adjust(value, value, delta);
+            return;
+        }
+        // the whole title, then from the start of each later word
+        for (int w = 0; w < value.length(); w++) {
+            boolean wordStart = w == 0 || (!Character.isLetterOrDigit(value.charAt(w - 1)) && Character.isLetterOrDigit(value.charAt(w)));
+            if (wordStart) t.adjust(titleKey(value.substring(w), value), value, delta);
+        }
+    }
+
+    private static String titleKey(String suffix, String title) {
+        return suffix + TITLE_SEP + title;
+    }
+
+    private static String[] valuesOf(Internship i) {
+        String[] v = new String[FIELDS.length];
+        v[Field.COMPANY.ordinal()] = clean(i.getCompanyName());
+        v[Field.TITLE.ordinal()] = clean(i.getTitle());
+        v[Field.MAJOR.ordinal()] = clean(i.getPreferredMajor());
+        return v;
+    }
+
+    private static String clean(String s) {
+        return s == null || s.isBlank() ? null : s.trim();
+    }
+}
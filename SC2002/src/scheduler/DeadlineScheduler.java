@@ -0,0 +1,196 @@
+package scheduler;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+import internship.ApplicationStatus;
+import internship.Internship;
+import internship.InternshipApp;
+import mvcc.VersionClock;
+import notification.NotificationService;
+import notification.WaitlistService;
+import repository.Repository;
+import withdrawal.WithdrawalQueue;
+
+/**
+ * Acts on internship dates as they pass, so listings never compare dates.
+ * <p>
+ * Every internship contributes three events to a priority queue ordered by
+ * day: its window opens ({@code openDate}), it starts closing soon
+ * ({@code closeDate - CLOSING_SOON_DAYS}, but not before it opens) and it
+ * closes ({@code closeDate + 1}).
+ * {@link #advanceTo(LocalDate)} pops due events and
+ * </p>
+ * <ul>
+ * <li>flips the internship's window and closing-soon flags
+ * (see {@link Internship#isOpenNow()});</li>
+ * <li>on closing, hides the posting, expires PENDING applications to
+ * UNSUCCESSFUL (dropping their withdrawal requests) and clears its waitlist;</li>
+ * <li>sends closing-soon and expiry notices.</li>
+ * </ul>
+ * <p>
+ * State changes are idempotent and are re-applied when the queue is rebuilt.
+ * Notices are only sent for events dated after the last processed day, which is
+ * saved to {@link #DEFAULT_FILE}, so each one goes out exactly once across
+ * restarts. Checking for due events is a single comparison, cheap enough to do
+ * on every menu iteration.
+ * </p>
+ */
+public class DeadlineScheduler {
+    public static final String DEFAULT_FILE = "data/deadlines.csv";
+
+    private enum Kind { OPEN, CLOSING_SOON, CLOSE }
+
+    private static final class Event {
+        final long day; final Kind kind; final Internship internship;
+        Event(long day, Kind kind, Internship internship) { this.day = day; this.kind = kind; this.internship = internship; }
+    }
+
+    private static final DeadlineScheduler INSTANCE = new DeadlineScheduler();
+
+    /** @return the shared scheduler */
+    public static DeadlineScheduler get() { return INSTANCE; }
+
+    private final PriorityQueue<Event> events = new PriorityQueue<>(
+            Comparator.<Event>comparingLong(e -> e.day).thenComparing(e -> e.kind));
+    /** Last day whose events have been processed; notices are only sent for later days. */
+    private long watermark = LocalDate.now().toEpochDay() - 1;
+    private long nextDue = Long.MAX_VALUE;
+
+    private DeadlineScheduler() {}
+
+    /**
+     * Replace all scheduled events with those of the given internships.
+     * Events already due are applied on the next {@link #advanceTo} call.
+     */
+    public synchronized void reset(Collection<Internship> internships) {
+        events.clear();
+        for (Internship i : internships) enqueue(i);
+        nextDue = events.isEmpty() ? Long.MAX_VALUE : events.peek().day;
+    }
+
+    /** Schedule the date events of a newly added internship. */
+    public synchronized void schedule(Internship i) {
+        enqueue(i);
+        nextDue = events.peek().day;
+    }
+
+    private void enqueue(Internship i) {
+        if (i == null || i.getOpenDate() == null || i.getCloseDate() == null) return;
+        long open = i.getOpenDate().toEpochDay(), close = i.getCloseDate().toEpochDay();
+        events.add(new Event(open, Kind.OPEN, i));
+        // a window shorter than the reminder period starts out closing soon, never before it opens
+        events.add(new Event(Math.max(open, close - Internship.CLOSING_SOON_DAYS), Kind.CLOSING_SOON, i));
+        events.add(new Event(close + 1, Kind.CLOSE, i));
+    }
+
+    /** Process events due today. */
+    public void advance() { advanceTo(LocalDate.now()); }
+
+    /**
+     * Process every event due on or before {@code today}. All changes made
+     * by one call are a single {@link VersionClock} write, so read views never
+     * see a posting closed with only some of its applications expired.
+     *
+     * @return number of events processed
+     */
+    public int advanceTo(LocalDate today) {
+        return VersionClock.write(() -> processDue(today));
+    }
+
+    private synchronized int processDue(LocalDate today) {
+        long day = today.toEpochDay();
+        if (day < nextDue) {
+            watermark = Math.max(watermark, day);
+            return 0;
+        }
+        int n = 0;
+        Set<Internship> hidden = new LinkedHashSet<>();
+        boolean expired = false;
+        Event e;
+        while ((e = events.peek()) != null && e.day <= day) {
+            events.poll();
+            n++;
+            Internship i = e.internship;
+            boolean fresh = e.day > watermark;
+            switch (e.kind) {
+                case OPEN -> i.setInWindow(true);
+                case CLOSING_SOON -> {
+                    i.setClosingSoon(true);
+                    if (fresh) remindClosing(i);
+                }
+                case CLOSE -> {
+                    i.setInWindow(false);
+                    i.setClosingSoon(false);
+                    if (i.isVisible()) { i.setVisible(false); hidden.add(i); }
+                    expired |= expire(i, fresh);
+                }
+            }
+        }
+        watermark = Math.max(watermark, day);
+        nextDue = e == null ? Long.MAX_VALUE : e.day;
+        if (!hidden.isEmpty()) Repository.updateInternships(hidden);
+        if (expired) Repository.saveAllApplications();
+        return n;
+    }
+
+    private static void remindClosing(Internship i) {
+        NotificationService notices = NotificationService.get();
+        String msg = i.getTitle() + " @ " + i.getCompanyName() + " closes on " + i.getCloseDate() + ".";
+        notices.notify(i.getPostedBy(), "Your posting " + msg);
+        for (InternshipApp a : Repository.findApplicationsByInternshipId(i.getId())) {
+            if (a.getStatus() == ApplicationStatus.SUCCESSFUL && a.getStudent() != null) {
+                notices.notify(a.getStudent().getUserId(), "Offer pending your acceptance: " + msg, "closing:" + i.getId());
+            }
+        }
+    }
+
+    /** Expire PENDING applications and the waitlist of a closed internship. */
+    private static boolean expire(Internship i, boolean notify) {
+        boolean changed = false;
+        String msg = i.getTitle() + " @ " + i.getCompanyName() + " has closed";
+        for (InternshipApp a : Repository.findApplicationsByInternshipId(i.getId())) {
+            if (a.getStatus() != ApplicationStatus.PENDING) continue;
+            a.setStatus(ApplicationStatus.UNSUCCESSFUL);
+            if (WithdrawalQueue.get().resolve(a) != null) a.setWithdrawalRequested(false);
+            changed = true;
+            if (notify && a.getStudent() != null) {
+                NotificationService.get().notify(a.getStudent().getUserId(), msg + "; application " + a.getId() + " expired.", null);
+            }
+        }
+        for (String sid : WaitlistService.popAll(i.getId())) {
+            if (notify) NotificationService.get().notify(sid, msg + "; you have been removed from its waitlist.", null);
+        }
+        return changed;
+    }
+
+    /* -------- Persistence -------- */
+
+    /** Restore the last processed day. Missing file means only today's events notify. */
+    public synchronized void load(String filename) {
+        Path p = Path.of(filename);
+        if (!Files.exists(p)) return;
+        try (BufferedReader br = Files.newBufferedReader(p, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] f = line.split(",", 2);
+                if (f.length == 2 && f[0].equals("lastProcessed")) watermark = LocalDate.parse(f[1].trim()).toEpochDay();
+            }
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error loading deadline state: " + e.getMessage());
+        }
+    }
+
+    /** Save the last processed day. */
+    public synchronized void save(String filename) {
+        try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(new FileOutputStream(filename), StandardCharsets.UTF_8))) {
+            pw.println("lastProcessed," + LocalDate.ofEpochDay(watermark));
+        } catch (IOException e) {
+            System.out.println("Error saving deadline state: " + e.getMessage());
+        }
+    }
+}
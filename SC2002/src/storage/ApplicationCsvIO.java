@@ -17,6 +17,8 @@ import user.User;
 public class ApplicationCsvIO {
     public static List<InternshipApp> load(String filename, List<User> users, List<Internship> internships) {
         List<InternshipApp> out = new ArrayList<>();
+        // Replaying stored state must not be reported as new status transitions
+        ApplicationEvents.setMuted(true);
         try (BufferedReader br = openIfExists(filename)) {
             if (br == null) return out; String line; boolean header=true;
             while ((line = br.readLine()) != null) {
@@ -34,6 +36,7 @@ public class ApplicationCsvIO {
                 out.add(app);
             }
         } catch (Exception e){ System.out.println("Error loading applications: "+e.getMessage()); }
+        finally { ApplicationEvents.setMuted(false); }
         return out;
     }
 
@@ -4,10 +4,11 @@ import internship.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import policy.DefaultEligibilityPolicy;
-import policy.EligibilityPolicy;
+import notification.WaitlistService;
+import policy.EligibilityCache;
 import repository.Repository;
 import util.ValidationExceptions.DuplicateApplicationException;
+import withdrawal.WithdrawalQueue;
 
 public class Student extends User {
     /**
@@ -18,7 +19,6 @@ public class Student extends User {
     private int year;
     private String major;
     private final List<InternshipApp> applications = new ArrayList<>();
-    private final EligibilityPolicy policy = new DefaultEligibilityPolicy();
 
     public Student(String userId, String name, String password, int year, String major) {
         super(userId, name, password);
@@ -43,9 +43,11 @@ public class Student extends User {
             return;
         }
 
-        boolean isEligible = policy.isEligible(this, internship);
-        if (!isEligible) {
-            System.out.println("Not eligible based on policy.");
+        // Same policy and cached candidate sets as the internship listing
+        EligibilityCache eligibility = EligibilityCache.get();
+        if (!eligibility.isEligible(this, internship)) {
+            System.out.println("Not eligible: " + eligibility.getPolicy().explain(this, internship) + ".");
+            return;
         }
 
         var existingApplications = Repository.findApplicationsByStudentId(getUserId());
@@ -69,7 +71,10 @@ public class Student extends User {
         }
 
         if (internship.getSlotsRemaining() <= 0) {
-            System.out.println("No slots remaining. Consider joining the waitlist.");
+            // Full: queue for the next freed slot instead of turning the student away
+            int pos = new WaitlistService().joinWaitlist(this, internship);
+            System.out.println("No slots remaining. You are #" + pos + " on the waitlist and will be "
+                    + "applied automatically when a slot frees up.");
             return;
         }
 
@@ -125,8 +130,8 @@ public class Student extends User {
 
     public void withdrawApplication(InternshipApp application) {
         /**
-         * Request withdrawal for an application. This flags the application
-         * and persists the change via {@link SC2002.repository.Repository}.
+         * Request withdrawal for an application. The request is queued in the
+         * {@link WithdrawalQueue}, which also flags the application.
          *
          * @param application the application to withdraw
          */
@@ -142,8 +147,7 @@ public class Student extends User {
             return;
         }
 
-        application.setWithdrawalRequested(true);
-        Repository.updateApplication(application);
+        WithdrawalQueue.get().submit(application, "");
 
         System.out.println("Withdrawal request submitted for AppID " + application.getId()
                 + " (" + (application.getInternship() != null ? application.getInternship().getTitle() : "-") + ").");
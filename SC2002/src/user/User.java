@@ -22,6 +22,9 @@ public abstract class User {
     private String name;
     private String password;
 
+    /** Maximum notices kept per user; the oldest are dropped first. */
+    public static final int INBOX_CAP = 50;
+
     protected FilterSettings savedFilters = new FilterSettings();
     protected final List<String> inbox = new ArrayList<>();
 
@@ -39,9 +42,19 @@ public abstract class User {
     public FilterSettings getSavedFilters() { return savedFilters; }
     public void setSavedFilters(FilterSettings f) { if (f != null) this.savedFilters = f; }
 
-    public List<String> getInbox() { return inbox; }
-    public void pushNotice(String msg) { if (msg != null && !msg.isBlank()) inbox.add(msg); }
-    public void clearInbox() { inbox.clear(); }
+    /** @return a snapshot of the inbox, oldest first (notices may arrive from the delivery thread) */
+    public synchronized List<String> getInbox() { return List.copyOf(inbox); }
+
+    /**
+     * Append a notice, dropping the oldest once {@link #INBOX_CAP} is exceeded.
+     * Prefer {@code NotificationService.get().notify(...)}, which delivers asynchronously.
+     */
+    public synchronized void pushNotice(String msg) {
+        if (msg == null || msg.isBlank()) return;
+        inbox.add(msg);
+        if (inbox.size() > INBOX_CAP) inbox.subList(0, inbox.size() - INBOX_CAP).clear();
+    }
+    public synchronized void clearInbox() { inbox.clear(); }
 
     /**
      * Validates user login credentials.
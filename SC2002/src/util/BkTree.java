@@ -0,0 +1,132 @@
+package util;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Dictionary of words that finds every word within a few typos of a query.
+ * <p>
+ * A Burkhard-Keller tree over Levenshtein distance: each child hangs off its
+ * parent by its distance to the parent's word. By the triangle inequality a
+ * word within {@code k} edits of the query can only sit under edges in
+ * {@code [d - k, d + k]}, where {@code d} is the query's distance to the
+ * node, so a search with a small {@code k} visits a small part of the tree
+ * instead of measuring against every word.
+ * </p>
+ * <p>
+ * Not thread-safe for writes; build it, then share it read-only.
+ * </p>
+ */
+public final class BkTree {
+    private static final Node[] NO_NODES = new Node[0];
+
+    private static final class Node {
+        final String word;
+        int[] dist = new int[0];     // edge distance of each child
+        Node[] kids = NO_NODES;
+
+        Node(String word) { this.word = word; }
+
+        Node child(int d) {
+            for (int j = 0; j < dist.length; j++) if (dist[j] == d) return kids[j];
+            return null;
+        }
+
+        void addKid(int d, Node k) {
+            dist = Arrays.copyOf(dist, dist.length + 1);
+            kids = Arrays.copyOf(kids, kids.length + 1);
+            dist[dist.length - 1] = d;
+            kids[kids.length - 1] = k;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    /**
+     * Add a word; adding one already present does nothing.
+     *
+     * @param word word to add, compared exactly
+     */
+    public void add(String word) {
+        if (word == null || word.isEmpty()) return;
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node n = root;
+        int[][] rows = rows(word.length());
+        while (true) {
+            int d = distance(word, n.word, Integer.MAX_VALUE, rows);
+            if (d == 0) return;
+            Node next = n.child(d);
+            if (next == null) {
+                n.addKid(d, new Node(word));
+                size++;
+                return;
+            }
+            n = next;
+        }
+    }
+
+    /** @return number of distinct words */
+    public int size() { return size; }
+
+    /**
+     * Every word within {@code maxEdits} insertions, deletions or
+     * substitutions of {@code query}.
+     *
+     * @param query    word to look up, compared exactly
+     * @param maxEdits largest distance to accept
+     * @param found    receives each matching word once
+     */
+    public void search(String query, int maxEdits, Consumer<String> found) {
+        if (root == null || query == null || maxEdits < 0) return;
+        int[][] rows = rows(query.length());
+        Deque<Node> todo = new ArrayDeque<>();
+        todo.push(root);
+        while (!todo.isEmpty()) {
+            Node n = todo.pop();
+            int d = distance(query, n.word, Integer.MAX_VALUE, rows);
+            if (d <= maxEdits) found.accept(n.word);
+            for (int j = 0; j < n.dist.length; j++) {
+                if (Math.abs(n.dist[j] - d) <= maxEdits) todo.push(n.kids[j]);
+            }
+        }
+    }
+
+    /**
+     * Levenshtein distance between two words, or {@code bound + 1} once it is
+     * certain to exceed {@code bound}.
+     *
+     * @param bound largest distance the caller cares about
+     * @return the distance, capped at {@code bound + 1}
+     */
+    public static int distance(String a, String b, int bound) {
+        return distance(a, b, bound, rows(a.length()));
+    }
+
+    private static int[][] rows(int len) { return new int[][] { new int[len + 1], new int[len + 1] }; }
+
+    private static int distance(String a, String b, int bound, int[][] rows) {
+        int cap = bound == Integer.MAX_VALUE ? bound : bound + 1;
+        if (Math.abs(a.length() - b.length()) >= cap) return cap;
+        int[] prev = rows[0], cur = rows[1];
+        for (int i = 0; i <= a.length(); i++) prev[i] = i;
+        for (int j = 1; j <= b.length(); j++) {
+            cur[0] = j;
+            int rowMin = j;
+            char c = b.charAt(j - 1);
+            for (int i = 1; i <= a.length(); i++) {
+                int sub = prev[i - 1] + (a.charAt(i - 1) == c ? 0 : 1);
+                int v = Math.min(sub, Math.min(prev[i] + 1, cur[i - 1] + 1));
+                cur[i] = v;
+                if (v < rowMin) rowMin = v;
+            }
+            if (rowMin >= cap) return cap;
+            int[] t = prev; prev = cur; cur = t;
+        }
+        return Math.min(prev[a.length()], cap);
+    }
+}
@@ -20,4 +20,44 @@ public final class ComparatorFactory {
         return Comparator.comparing((Internship i) -> i.getLevel().ordinal())
                 .thenComparing(Internship::getTitle, String.CASE_INSENSITIVE_ORDER);
     }
+
+    /**
+     * Listing orders the repository keeps a sorted index for, so they can be
+     * paged by cursor without sorting (see {@code Repository.pageInternships}).
+     */
+    public enum Order {
+        TITLE("Title"), CLOSING_DATE("Closing date"), COMPANY("Company"), LEVEL_THEN_TITLE("Level, then title");
+
+        private final String label;
+        Order(String label) { this.label = label; }
+
+        public String label() { return label; }
+
+        /** @return the order's comparator */
+        public Comparator<Internship> comparator() {
+            return switch (this) {
+                case TITLE -> byTitle();
+                case CLOSING_DATE -> byClosingDate();
+                case COMPANY -> byCompany();
+                case LEVEL_THEN_TITLE -> byLevelThenTitle();
+            };
+        }
+
+        /** @return the comparator with internship id as final tie-break, a total order */
+        public Comparator<Internship> total() {
+            return comparator().thenComparing(Internship::getId);
+        }
+
+        /**
+         * @return the internship's collation key; keys sort exactly as {@link #total()}
+         */
+        public SortKey keyOf(Internship i) {
+            return switch (this) {
+                case TITLE -> new SortKey(0, SortKey.fold(i.getTitle()), i.getId());
+                case CLOSING_DATE -> new SortKey(i.getCloseDate().toEpochDay(), "", i.getId());
+                case COMPANY -> new SortKey(0, SortKey.fold(i.getCompanyName()), i.getId());
+                case LEVEL_THEN_TITLE -> new SortKey(i.getLevel().ordinal(), SortKey.fold(i.getTitle()), i.getId());
+            };
+        }
+    }
 }
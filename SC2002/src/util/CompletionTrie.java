@@ -0,0 +1,286 @@
+package util;
+
+import java.util.*;
+
+/**
+ * Weighted prefix-completion index: the heaviest terms starting with a
+ * typed prefix, best first.
+ * <p>
+ * Terms are stored in a path-compressed trie (edges carry whole runs of
+ * characters, so a long unique tail is one node). Every node caches its
+ * subtree's {@value #MAX_K} heaviest terms, so a lookup is a walk down the
+ * prefix plus a copy of that list, independent of how many terms match.
+ * Raising a term's weight repairs the cached lists bottom-up and stops at
+ * the first node where the term does not make the cut; lowering one
+ * recomputes the lists on its path. Keys are compared case-insensitively.
+ * </p>
+ * <p>
+ * Not thread-safe; callers synchronise.
+ * </p>
+ */
+public final class CompletionTrie {
+    /** Completions cached per node; the most a lookup can return. */
+    public static final int MAX_K = 10;
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    /** Heavier first, then alphabetical, so results are stable. */
+    private static final Comparator<Node> BEST = (a, b) -> a.weight != b.weight
+            ? Integer.compare(b.weight, a.weight)
+            : String.CASE_INSENSITIVE_ORDER.compare(a.display, b.display);
+
+    private static final class Node {
+        String edge;                 // characters on the edge from the parent
+        char[] firsts = NO_CHARS;    // first edge character of each child, sorted
+        Node[] kids = NO_NODES;
+        String display;              // term as first written; null unless a term ends here
+        int weight;
+        Node[] top = NO_NODES;       // heaviest terms in this subtree
+        int topSize;
+        boolean detached;
+
+        Node(String edge) { this.edge = edge; }
+
+        int find(char c) { return Arrays.binarySearch(firsts, c); }
+
+        void addKid(Node k) {
+            int at = -find(k.edge.charAt(0)) - 1;
+            firsts = insert(firsts, at, k.edge.charAt(0));
+            kids = insert(kids, at, k);
+        }
+
+        void removeKid(int at) {
+            char[] f = new char[firsts.length - 1];
+            Node[] n = new Node[kids.length - 1];
+            System.arraycopy(firsts, 0, f, 0, at); System.arraycopy(firsts, at + 1, f, at, f.length - at);
+            System.arraycopy(kids, 0, n, 0, at);   System.arraycopy(kids, at + 1, n, at, n.length - at);
+            firsts = f; kids = n;
+        }
+    }
+
+    private final Node root = new Node("");
+    private int terms;
+
+    /** @return the case-folded form keys are stored and looked up under */
+    public static String fold(String s) { return SortKey.fold(s); }
+
+    /**
+     * Change the weight of {@code key}, adding it if new and removing it
+     * when its weight drops to zero or below.
+     *
+     * @param key     lookup key
+     * @param display text returned for the key; the first one seen is kept
+     * @param delta   weight change
+     */
+    public void adjust(String key, String display, int delta) {
+        if (key == null || delta == 0) return;
+        String k = fold(key);
+        if (k.isEmpty()) return;
+        if (delta > 0) raise(k, display, delta);
+        else lower(k, -delta);
+    }
+
+    /** @return number of terms with a positive weight */
+    public int size() { return terms; }
+
+    /** @return whether {@code key} is a term with a positive weight */
+    public boolean contains(String key) {
+        Node n = exact(fold(key));
+        return n != null && n.weight > 0;
+    }
+
+    /**
+     * The heaviest terms whose key starts with {@code prefix}.
+     *
+     * @param k at most this many, capped at {@link #MAX_K}
+     * @return display texts, best first, without repeats
+     */
+    public List<String> complete(String prefix, int k) {
+        Node n = subtree(fold(prefix == null ? "" : prefix));
+        if (n == null || k <= 0) return List.of();
+        List<String> out = new ArrayList<>(Math.min(k, n.topSize));
+        for (int t = 0; t < n.topSize && out.size() < k; t++) {
+            String d = n.top[t].display;
+            if (!out.contains(d)) out.add(d);
+        }
+        return out;
+    }
+
+    /** Remove every term. */
+    public void clear() {
+        root.firsts = NO_CHARS; root.kids = NO_NODES;
+        root.top = NO_NODES; root.topSize = 0;
+        root.display = null; root.weight = 0;
+        terms = 0;
+    }
+
+    private void raise(String key, String display, int delta) {
+        List<Node> path = new ArrayList<>();
+        Node n = root;
+        path.add(n);
+        int i = 0;
+        while (i < key.length()) {
+            int at = n.find(key.charAt(i));
+            if (at < 0) {
+                Node leaf = new Node(key.substring(i));
+                n.addKid(leaf);
+                n = leaf;
+                path.add(n);
+                break;
+            }
+            Node kid = n.kids[at];
+            int m = common(kid.edge, key, i);
+            if (m < kid.edge.length()) {
+                // split the edge: the new middle node has the same subtree, so the same top list
+                Node mid = new Node(kid.edge.substring(0, m));
+                kid.edge = kid.edge.substring(m);
+                mid.addKid(kid);
+                mid.top = Arrays.copyOf(kid.top, kid.top.length);
+                mid.topSize = kid.topSize;
+                n.kids[at] = mid;
+                kid = mid;
+            }
+            n = kid;
+            path.add(n);
+            i += m;
+        }
+        if (n.weight <= 0) {
+            n.display = display != null ? display : key;
+            terms++;
+        }
+        n.weight += delta;
+        for (int p = path.size() - 1; p >= 0; p--) {
+            if (!offer(path.get(p), n)) break;   // not in this subtree's best, so in no enclosing one
+        }
+    }
+
+    private void lower(String key, int delta) {
+        List<Node> path = new ArrayList<>();
+        Node n = root;
+        path.add(n);
+        int i = 0;
+        while (i < key.length()) {
+            int at = n.find(key.charAt(i));
+            if (at < 0) return;
+            Node kid = n.kids[at];
+            if (!key.startsWith(kid.edge, i)) return;
+            n = kid;
+            path.add(n);
+            i += kid.edge.length();
+        }
+        if (n.weight <= 0) return;
+        n.weight -= delta;
+        if (n.weight <= 0) {
+            n.weight = 0;
+            n.display = null;
+            terms--;
+            prune(path);
+        }
+        for (int p = path.size() - 1; p >= 0; p--) {
+            if (!path.get(p).detached) recompute(path.get(p));
+        }
+    }
+
+    /** Drop a dead leaf and fold a parent left with one child into it. */
+    private static void prune(List<Node> path) {
+        int p = path.size() - 1;
+        Node n = path.get(p);
+        if (p == 0 || n.kids.length > 0) return;
+        Node parent = path.get(p - 1);
+        parent.removeKid(parent.find(n.edge.charAt(0)));
+        n.detached = true;
+        if (p - 1 == 0 || parent.weight > 0 || parent.kids.length != 1) return;
+        Node grand = path.get(p - 2);
+        Node only = parent.kids[0];
+        only.edge = parent.edge + only.edge;
+        grand.kids[grand.find(parent.edge.charAt(0))] = only;
+        parent.detached = true;
+    }
+
+    /** Admit or move up {@code t} in {@code n}'s list after its weight rose; false if it is not among the best. */
+    private static boolean offer(Node n, Node t) {
+        int at = -1;
+        for (int j = 0; j < n.topSize; j++) if (n.top[j] == t) { at = j; break; }
+        if (at < 0) {
+            if (n.topSize < MAX_K) {
+                if (n.topSize == n.top.length) n.top = Arrays.copyOf(n.top, Math.min(MAX_K, Math.max(2, n.top.length * 2)));
+                at = n.topSize++;
+            } else if (BEST.compare(t, n.top[MAX_K - 1]) < 0) {
+                at = MAX_K - 1;
+            } else {
+                return false;
+            }
+            n.top[at] = t;
+        }
+        while (at > 0 && BEST.compare(t, n.top[at - 1]) < 0) {
+            n.top[at] = n.top[at - 1];
+            n.top[--at] = t;
+        }
+        return true;
+    }
+
+    /** Rebuild {@code n}'s list from its own term and its children's lists. */
+    private static void recompute(Node n) {
+        List<Node> cand = new ArrayList<>();
+        if (n.weight > 0) cand.add(n);
+        for (Node kid : n.kids) for (int j = 0; j < kid.topSize; j++) cand.add(kid.top[j]);
+        cand.sort(BEST);
+        n.topSize = Math.min(MAX_K, cand.size());
+        n.top = cand.subList(0, n.topSize).toArray(NO_NODES);
+    }
+
+    /** Node whose subtree holds exactly the keys starting with {@code prefix}. */
+    private Node subtree(String prefix) {
+        Node n = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int at = n.find(prefix.charAt(i));
+            if (at < 0) return null;
+            Node kid = n.kids[at];
+            int rest = prefix.length() - i;
+            if (rest <= kid.edge.length()) return kid.edge.startsWith(prefix.substring(i)) ? kid : null;
+            if (!prefix.startsWith(kid.edge, i)) return null;
+            n = kid;
+            i += kid.edge.length();
+        }
+        return n;
+    }
+
+    /** Node where {@code key} ends, or null if no stored key path ends exactly there. */
+    private Node exact(String key) {
+        Node n = root;
+        int i = 0;
+        while (i < key.length()) {
+            int at = n.find(key.charAt(i));
+            if (at < 0) return null;
+            Node kid = n.kids[at];
+            if (!key.startsWith(kid.edge, i)) return null;
+            n = kid;
+            i += kid.edge.length();
+        }
+        return n;
+    }
+
+    private static int common(String edge, String key, int from) {
+        int m = 0, max = Math.min(edge.length(), key.length() - from);
+        while (m < max && edge.charAt(m) == key.charAt(from + m)) m++;
+        return m;
+    }
+
+    private static char[] insert(char[] a, int at, char c) {
+        char[] r = new char[a.length + 1];
+        System.arraycopy(a, 0, r, 0, at);
+        r[at] = c;
+        System.arraycopy(a, at, r, at + 1, a.length - at);
+        return r;
+    }
+
+    private static Node[] insert(Node[] a, int at, Node n) {
+        Node[] r = new Node[a.length + 1];
+        System.arraycopy(a, 0, r, 0, at);
+        r[at] = n;
+        System.arraycopy(a, at, r, at + 1, a.length - at);
+        return r;
+    }
+}
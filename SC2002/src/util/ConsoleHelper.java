@@ -1,7 +1,10 @@
 
 package util;
 
+import java.io.PrintStream;
+import java.util.List;
 import java.util.Scanner;
+import java.util.function.Function;
 
 /**
  * Utility class for common console/UI operations.
@@ -12,25 +15,27 @@ public class ConsoleHelper {
     /**
      * Pauses execution until user presses Enter.
      * @param sc Scanner instance for user input
+     * @param out Stream to print prompts and messages to
      */
-    public static void pause(Scanner sc) {
-        System.out.println("\nPress Enter to continue...");
+    public static void pause(Scanner sc, PrintStream out) {
+        out.println("\nPress Enter to continue...");
         sc.nextLine();
     }
     
     /**
      * Prompts user for yes/no input with validation.
      * @param sc Scanner instance for user input
+     * @param out Stream to print prompts and messages to
      * @param prompt The prompt message to display
      * @return true if user answers yes, false if no
      */
-    public static boolean askYesNo(Scanner sc, String prompt) {
+    public static boolean askYesNo(Scanner sc, PrintStream out, String prompt) {
         while (true) {
-            System.out.print(prompt);
+            out.print(prompt);
             String s = sc.nextLine().trim().toLowerCase();
             if (s.equals("y") || s.equals("yes")) return true;
             if (s.equals("n") || s.equals("no")) return false;
-            System.out.println("Please enter y/n.");
+            out.println("Please enter y/n.");
         }
     }
     
@@ -45,36 +50,38 @@ public class ConsoleHelper {
     
     /**
      * Prints a section header with decorative borders.
+     * @param out Stream to print to
      * @param title The title to display
      */
-    public static void printSectionHeader(String title) {
+    public static void printSectionHeader(PrintStream out, String title) {
         int width = Math.max(48, title.length() + 8);
         String border = "═".repeat(width - 4);
-        System.out.println("\n╔" + border + "╗");
-        System.out.printf("║  %-" + (width - 6) + "s  ║%n", title);
-        System.out.println("╚" + border + "╝");
+        out.println("\n╔" + border + "╗");
+        out.printf("║  %-" + (width - 6) + "s  ║%n", title);
+        out.println("╚" + border + "╝");
     }
     
     /**
      * Prompts user for integer input with validation.
      * @param sc Scanner instance for user input
+     * @param out Stream to print prompts and messages to
      * @param prompt The prompt message to display
      * @param min Minimum acceptable value (inclusive)
      * @param max Maximum acceptable value (inclusive)
      * @return Valid integer within range
      */
-    public static int readInt(Scanner sc, String prompt, int min, int max) {
+    public static int readInt(Scanner sc, PrintStream out, String prompt, int min, int max) {
         while (true) {
             try {
-                System.out.print(prompt);
+                out.print(prompt);
                 String input = sc.nextLine().trim();
                 int value = Integer.parseInt(input);
                 if (value >= min && value <= max) {
                     return value;
                 }
-                System.out.printf("Please enter a number between %d and %d.%n", min, max);
+                out.printf("Please enter a number between %d and %d.%n", min, max);
             } catch (NumberFormatException e) {
-                System.out.println("Invalid number. Please try again.");
+                out.println("Invalid number. Please try again.");
             }
         }
     }
@@ -82,17 +89,48 @@ public class ConsoleHelper {
     /**
      * Prompts user for string input that cannot be blank.
      * @param sc Scanner instance for user input
+     * @param out Stream to print prompts and messages to
      * @param prompt The prompt message to display
      * @return Non-blank string
      */
-    public static String readNonBlankString(Scanner sc, String prompt) {
+    public static String readNonBlankString(Scanner sc, PrintStream out, String prompt) {
         while (true) {
-            System.out.print(prompt);
+            out.print(prompt);
             String input = sc.nextLine().trim();
             if (!input.isBlank()) {
                 return input;
             }
-            System.out.println("Input cannot be blank. Please try again.");
+            out.println("Input cannot be blank. Please try again.");
+        }
+    }
+
+    /**
+     * Prompts for free text with typeahead help: entering a prefix followed
+     * by {@code ?} lists numbered suggestions and prompts again; entering one
+     * of those numbers picks that suggestion.
+     * @param sc Scanner instance for user input
+     * @param out Stream to print prompts and suggestions to
+     * @param prompt The prompt message to display
+     * @param suggest Suggestions for a typed prefix, best first
+     * @return The chosen suggestion or the text as typed (trimmed, may be empty)
+     */
+    public static String readWithSuggestions(Scanner sc, PrintStream out, String prompt,
+                                             Function<String, List<String>> suggest) {
+        List<String> shown = List.of();
+        while (true) {
+            out.print(prompt);
+            String input = sc.nextLine().trim();
+            if (input.endsWith("?")) {
+                shown = suggest.apply(input.substring(0, input.length() - 1).trim());
+                if (shown.isEmpty()) out.println("  No suggestions.");
+                for (int n = 0; n < shown.size(); n++) out.printf("  %d) %s%n", n + 1, shown.get(n));
+                continue;
+            }
+            if (!shown.isEmpty() && input.matches("\\d{1,2}")) {
+                int n = Integer.parseInt(input);
+                if (n >= 1 && n <= shown.size()) return shown.get(n - 1);
+            }
+            return input;
         }
     }
 }
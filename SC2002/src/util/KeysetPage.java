@@ -0,0 +1,31 @@
+package util;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * <p>
+ * Instead of an offset, the next page is requested with the last item of
+ * this one as cursor, so fetching any page costs a seek plus the page size
+ * no matter how deep into the listing it is.
+ * </p>
+ *
+ * @param <T> item type
+ */
+public final class KeysetPage<T> {
+    private final List<T> items;
+    private final boolean hasMore;
+
+    public KeysetPage(List<T> items, boolean hasMore) {
+        this.items = List.copyOf(items);
+        this.hasMore = hasMore;
+    }
+
+    public List<T> items() { return items; }
+
+    /** @return whether more items follow this page */
+    public boolean hasMore() { return hasMore; }
+
+    /** @return the cursor for the next page (the last item), or {@code null} if empty */
+    public T cursor() { return items.isEmpty() ? null : items.get(items.size() - 1); }
+}
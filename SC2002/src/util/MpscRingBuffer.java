@@ -0,0 +1,99 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring buffer.
+ * <p>
+ * Producers claim a slot with a CAS on the tail counter and publish it through
+ * a per-slot sequence number, so {@link #offer(Object)} never blocks: when the
+ * buffer is full it simply returns {@code false}. Exactly one thread at a time
+ * may call {@link #drain(Consumer, int)}. A slot is released only after the
+ * consumer's sink has accepted its element, so an element whose sink throws
+ * stays at the head and is handed out again by the next drain.
+ * </p>
+ *
+ * @param <T> element type
+ */
+public class MpscRingBuffer<T> {
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequence;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long head = 0; // written by the consumer only; read by size()
+
+    /**
+     * @param capacity requested capacity, rounded up to a power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        int cap = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = cap - 1;
+        this.slots = new AtomicReferenceArray<>(cap);
+        this.sequence = new AtomicLongArray(cap);
+        for (int i = 0; i < cap; i++) sequence.set(i, i);
+    }
+
+    /**
+     * Try to enqueue an element without blocking.
+     *
+     * @param item element to add (must not be null)
+     * @return {@code true} if enqueued, {@code false} if the buffer was full
+     */
+    public boolean offer(T item) {
+        if (item == null) throw new NullPointerException();
+        while (true) {
+            long t = tail.get();
+            int idx = (int) (t & mask);
+            long seq = sequence.get(idx);
+            if (seq == t) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    slots.lazySet(idx, item);
+                    sequence.set(idx, t + 1);
+                    return true;
+                }
+            } else if (seq < t) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            // another producer won the slot; retry
+        }
+    }
+
+    /**
+     * Remove up to {@code max} published elements in FIFO order.
+     * Must only be called by a single consumer at a time. If {@code sink}
+     * throws, the element it was given is not removed and the exception
+     * propagates; elements accepted before it stay removed.
+     *
+     * @param sink receives each element
+     * @param max  maximum number of elements to drain
+     * @return number of elements drained
+     */
+    public int drain(Consumer<? super T> sink, int max) {
+        int n = 0;
+        long h = head;
+        while (n < max) {
+            int idx = (int) (h & mask);
+            if (sequence.get(idx) != h + 1) break; // not yet published
+            sink.accept(slots.get(idx));
+            slots.lazySet(idx, null);
+            sequence.set(idx, h + mask + 1);
+            head = ++h;
+            n++;
+        }
+        return n;
+    }
+
+    /** @return approximate number of queued elements */
+    public int size() { return (int) Math.max(0, tail.get() - head); }
+
+    /** @return capacity (a power of two) */
+    public int capacity() { return mask + 1; }
+
+    /** @return number of offers rejected because the buffer was full */
+    public long dropped() { return dropped.get(); }
+}
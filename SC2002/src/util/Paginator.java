@@ -2,6 +2,11 @@ package util;
 
 import java.util.List;
 
+/**
+ * Offset pagination over an already materialised list. Repository listings
+ * should page by cursor instead ({@link KeysetPage}), which needs neither the
+ * full list nor a sort.
+ */
 public class Paginator<T> {
     private final List<T> list; private final int size;
     public Paginator(List<T> list, int size) { this.list=list; this.size=Math.max(1,size); }
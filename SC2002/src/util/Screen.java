@@ -0,0 +1,175 @@
+package util;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Scanner;
+
+/**
+ * Buffered terminal for one interactive session: where menus, actions and
+ * reports print, and where they read input from.
+ * <p>
+ * Everything printed to {@link #out()} is collected in one reusable buffer
+ * and written to the underlying stream in a single write when the screen is
+ * complete, instead of one synchronised, flushed write per line as with
+ * {@code System.out}. A screen is complete when the session is about to wait
+ * for input: reading from {@link #in()} (and so from {@link #scanner()})
+ * flushes first, so prompts always appear before the program blocks. Very
+ * long output is also written out each time the buffer passes
+ * {@value #FLUSH_AT} bytes, so a streamed table never holds more than that.
+ * </p>
+ * <p>
+ * {@link #console()} is the process's own terminal. Other sessions, such as
+ * a remote client, get their own screen over their connection's streams.
+ * </p>
+ */
+public final class Screen {
+    /** Buffered bytes at which output is written out without waiting for input. */
+    public static final int FLUSH_AT = 64 * 1024;
+
+    private static Screen console;
+
+    private final ScreenBuffer buffer;
+    private final Charset charset;
+    private final PrintStream out;
+    private final InputStream in;
+    private Scanner scanner;
+    private Writer writer;
+
+    /**
+     * Create a screen over a session's streams, writing UTF-8.
+     *
+     * @param sink where completed screens are written
+     * @param source where the session's input is read from
+     */
+    public Screen(OutputStream sink, InputStream source) {
+        this(sink, source, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Create a screen over a session's streams.
+     *
+     * @param sink where completed screens are written
+     * @param source where the session's input is read from
+     * @param charset encoding of printed text
+     */
+    public Screen(OutputStream sink, InputStream source, Charset charset) {
+        this.buffer = new ScreenBuffer(sink);
+        this.charset = charset;
+        this.out = new PrintStream(buffer, false, charset);
+        this.in = new FlushingInput(source);
+    }
+
+    /**
+     * The process's terminal: standard output and input, in the same
+     * encoding {@code System.out} uses. Writes go straight to the standard
+     * output descriptor, so this screen can itself be installed as
+     * {@code System.out}; it is flushed when the JVM exits.
+     *
+     * @return the console screen
+     */
+    public static synchronized Screen console() {
+        if (console == null) {
+            String enc = System.getProperty("sun.stdout.encoding");
+            Charset cs = enc != null ? Charset.forName(enc) : Charset.defaultCharset();
+            console = new Screen(new FileOutputStream(FileDescriptor.out), System.in, cs);
+            Runtime.getRuntime().addShutdownHook(new Thread(console::flush));
+        }
+        return console;
+    }
+
+    /** @return the stream to print this screen's output to */
+    public PrintStream out() { return out; }
+
+    /**
+     * Character view of {@link #out()} for writers such as a streamed
+     * {@link TablePrinter}. Text lands in the same buffer; flushing the
+     * writer only hands its text to the screen, which still writes out when
+     * the session next waits for input.
+     *
+     * @return the screen's writer
+     */
+    public synchronized Writer writer() {
+        if (writer == null) {
+            writer = new OutputStreamWriter(new OutputStream() {
+                @Override public void write(int b) throws IOException { buffer.write(b); }
+                @Override public void write(byte[] b, int off, int len) throws IOException { buffer.write(b, off, len); }
+            }, charset);
+        }
+        return writer;
+    }
+
+    /** @return the session's input; reading from it flushes pending output first */
+    public InputStream in() { return in; }
+
+    /** @return the session's scanner over {@link #in()}, shared by everything reading input */
+    public synchronized Scanner scanner() {
+        if (scanner == null) scanner = new Scanner(in);
+        return scanner;
+    }
+
+    /** Write out everything printed so far. */
+    public void flush() { out.flush(); }
+
+    /** @return number of writes made to the underlying stream so far */
+    public long writes() { return buffer.writes; }
+
+    /** Growable byte buffer that is reused after every write-out. */
+    private static final class ScreenBuffer extends OutputStream {
+        private final OutputStream sink;
+        private byte[] bytes = new byte[8 * 1024];
+        private int count;
+        private long writes;
+
+        ScreenBuffer(OutputStream sink) { this.sink = sink; }
+
+        @Override public synchronized void write(int b) throws IOException {
+            ensure(1);
+            bytes[count++] = (byte) b;
+            if (count >= FLUSH_AT) drain();
+        }
+
+        @Override public synchronized void write(byte[] b, int off, int len) throws IOException {
+            ensure(len);
+            System.arraycopy(b, off, bytes, count, len);
+            count += len;
+            if (count >= FLUSH_AT) drain();
+        }
+
+        @Override public synchronized void flush() throws IOException {
+            drain();
+            sink.flush();
+        }
+
+        private void ensure(int more) {
+            if (count + more > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, count + more));
+            }
+        }
+
+        private void drain() throws IOException {
+            if (count == 0) return;
+            sink.write(bytes, 0, count);
+            count = 0;
+            writes++;
+            // one oversized print should not pin a large buffer for the rest of the session
+            if (bytes.length > 2 * FLUSH_AT) bytes = new byte[8 * 1024];
+        }
+    }
+
+    /** Session input that completes the screen before every read. */
+    private final class FlushingInput extends FilterInputStream {
+        FlushingInput(InputStream source) { super(source); }
+
+        @Override public int read() throws IOException {
+            flush();
+            return super.read();
+        }
+
+        @Override public int read(byte[] b, int off, int len) throws IOException {
+            flush();
+            return super.read(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package util;
+
+/**
+ * Precomputed collation key for one internship under one listing order.
+ * <p>
+ * A key is a numeric rank (close date as epoch day, level ordinal, or 0), a
+ * case-folded text and the internship id. Folding uses the same per-character
+ * mapping as {@link String#CASE_INSENSITIVE_ORDER}, so comparing keys with
+ * plain {@code String.compareTo} gives the same order as the
+ * {@link ComparatorFactory} comparators, without folding on every compare.
+ * </p>
+ */
+public final class SortKey implements Comparable<SortKey> {
+    private final long rank;
+    private final String text;
+    private final String id;
+
+    public SortKey(long rank, String text, String id) {
+        this.rank = rank;
+        this.text = text == null ? "" : text;
+        this.id = id == null ? "" : id;
+    }
+
+    /** @return {@code s} folded as {@link String#CASE_INSENSITIVE_ORDER} compares it */
+    public static String fold(String s) {
+        if (s == null) return "";
+        char[] c = s.toCharArray();
+        for (int k = 0; k < c.length; k++) c[k] = Character.toLowerCase(Character.toUpperCase(c[k]));
+        return new String(c);
+    }
+
+    @Override public int compareTo(SortKey o) {
+        int c = Long.compare(rank, o.rank);
+        if (c != 0) return c;
+        c = text.compareTo(o.text);
+        return c != 0 ? c : id.compareTo(o.id);
+    }
+
+    @Override public boolean equals(Object o) {
+        return o instanceof SortKey k && rank == k.rank && text.equals(k.text) && id.equals(k.id);
+    }
+
+    @Override public int hashCode() { return (Long.hashCode(rank) * 31 + text.hashCode()) * 31 + id.hashCode(); }
+}
@@ -1,8 +1,23 @@
 package util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * Console table with fitted column widths and plain or box-drawing borders.
+ * <p>
+ * {@link #render()} keeps every row, sizes each column to its widest cell
+ * and returns the whole table as one string, which suits the short listings
+ * of the menus. For listings that can run to many thousands of rows,
+ * {@link #stream(Writer, int)} writes the table row by row instead: column
+ * widths come from a bounded sample of leading rows (or, with a sample of
+ * zero, from the declared maximum widths), and each later row is laid out
+ * in one reusable line buffer and written straight to the writer, so memory
+ * stays constant and output starts as soon as the sample is in.
+ * </p>
+ */
 public final class TablePrinter {
     public enum Align { LEFT, CENTER, RIGHT }
 
@@ -21,7 +36,7 @@ public final class TablePrinter {
 
     public static final class Builder {
         private final List<Column> cols = new ArrayList<>();
-        private final List<List<String>> rows = new ArrayList<>();
+        private final List<String[]> rows = new ArrayList<>();
         private boolean unicodeBorders = false;
         private int maxTableWidth = 120;
 
@@ -36,47 +51,149 @@ public final class TablePrinter {
     public static Builder builder() { return new Builder(); }
 
     private final List<Column> cols;
-    private final List<List<String>> rows;
+    private final List<String[]> rows;
     private final boolean unicode;
     private final int maxWidth;
+    private char[] buf; // one laid-out line, reused for every row
 
-    private TablePrinter(List<Column> cols, List<List<String>> rows, boolean unicode, int maxWidth) {
+    private TablePrinter(List<Column> cols, List<String[]> rows, boolean unicode, int maxWidth) {
         this.cols = cols; this.rows = rows; this.unicode = unicode; this.maxWidth = maxWidth;
     }
 
     public void addRow(Object... cells) {
-        List<String> r = new ArrayList<>(cols.size());
-        for (int i = 0; i < cols.size(); i++) {
-            r.add(i < cells.length && cells[i] != null ? String.valueOf(cells[i]) : "");
-        }
-        rows.add(r);
+        rows.add(cells(cells));
     }
 
     public String render() {
-        computeWidths();
-        final String h = border("top");
-        final String m = border("mid");
-        final String f = border("bot");
+        computeWidths(rows, false);
         StringBuilder sb = new StringBuilder();
-        sb.append(h).append('\n');
-        sb.append(line(cols.stream().map(c -> c.header).collect(Collectors.toList()))).append('\n');
+        sb.append(buf, 0, border("top")).append('\n');
+        sb.append(buf, 0, line(headers())).append('\n');
 
-        sb.append(m).append('\n');
+        sb.append(buf, 0, border("mid")).append('\n');
         for (int i = 0; i < rows.size(); i++) {
-            sb.append(line(rows.get(i))).append('\n');
+            sb.append(buf, 0, line(rows.get(i))).append('\n');
         }
-        sb.append(f);
+        sb.append(buf, 0, border("bot"));
         return sb.toString();
     }
 
-    private void computeWidths() {
-        // initial: header width
-        for (Column c : cols) c.width = Math.max(c.minWidth, Math.min(c.maxWidth, c.header.length()));
+    /**
+     * Start writing this table to {@code out} one row at a time.
+     * <p>
+     * The first {@code sampleRows} rows are held back to size the columns;
+     * the header and those rows are written once the sample is full, and
+     * every later row is written as it is added. Cells wider than their
+     * column (including rows after the sample that outgrow it) are cut with
+     * an ellipsis, as in {@link #render()}. With {@code sampleRows} of zero
+     * the declared maximum widths are used and the header is written at
+     * once. Rows already added with {@link #addRow} are ignored.
+     * </p>
+     * <p>
+     * Closing the stream writes the bottom border and flushes {@code out}
+     * but does not close it. Write failures are rethrown as
+     * {@link UncheckedIOException}.
+     * </p>
+     *
+     * @param out destination; wrap unbuffered writers in a {@link java.io.BufferedWriter}
+     * @param sampleRows number of leading rows used to size the columns
+     * @return the open row stream
+     */
+    public RowStream stream(Writer out, int sampleRows) {
+        return new RowStream(out, Math.max(0, sampleRows));
+    }
+
+    /** Row sink returned by {@link #stream(Writer, int)}; use it in try-with-resources. */
+    public final class RowStream implements AutoCloseable {
+        private final Writer out;
+        private final String[][] sample;
+        private int sampled;
+        private boolean started, closed;
+        private long written;
+
+        private RowStream(Writer out, int sampleRows) {
+            this.out = out;
+            this.sample = new String[sampleRows][];
+            if (sampleRows == 0) start();
+        }
+
+        /** Add one row; cells beyond the column count are ignored, missing ones are blank. */
+        public RowStream row(Object... cells) {
+            if (closed) throw new IllegalStateException("Table stream is closed");
+            if (!started) {
+                sample[sampled++] = cells(cells);
+                if (sampled == sample.length) start();
+            } else {
+                write(line(cells));
+            }
+            written++;
+            return this;
+        }
+
+        /** @return number of rows added so far */
+        public long rows() { return written; }
+
+        /** Write any held-back rows and the bottom border, then flush. */
+        @Override public void close() {
+            if (closed) return;
+            if (!started) start();
+            closed = true;
+            write(border("bot"));
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void start() {
+            started = true;
+            computeWidths(Arrays.asList(sample).subList(0, sampled), sample.length == 0);
+            write(border("top"));
+            write(line(headers()));
+            write(border("mid"));
+            for (int i = 0; i < sampled; i++) {
+                write(line(sample[i]));
+                sample[i] = null;
+            }
+        }
+
+        private void write(int len) {
+            try {
+                buf[len] = '\n';
+                out.write(buf, 0, len + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private String[] cells(Object[] cells) {
+        String[] r = new String[cols.size()];
+        for (int i = 0; i < r.length; i++) {
+            r[i] = i < cells.length && cells[i] != null ? String.valueOf(cells[i]) : "";
+        }
+        return r;
+    }
+
+    private String[] headers() {
+        String[] h = new String[cols.size()];
+        for (int i = 0; i < h.length; i++) h[i] = cols.get(i).header;
+        return h;
+    }
+
+    /**
+     * Size the columns from {@code rows}, or from the declared maximum widths
+     * when {@code declared}, then size the line buffer to match.
+     */
+    private void computeWidths(List<String[]> rows, boolean declared) {
+        // initial: header width, or the declared width when there is nothing to measure
+        for (Column c : cols) c.width = declared ? c.maxWidth : Math.max(c.minWidth, Math.min(c.maxWidth, c.header.length()));
         // grow with cell contents (bounded by maxWidth per column)
-        for (List<String> r : rows) {
+        for (String[] r : rows) {
             for (int i = 0; i < cols.size(); i++) {
                 Column c = cols.get(i);
-                int need = Math.min(c.maxWidth, (r.get(i) != null ? r.get(i).length() : 0));
+                int need = Math.min(c.maxWidth, (r[i] != null ? r[i].length() : 0));
                 c.width = Math.max(c.width, Math.max(c.minWidth, Math.min(need, c.maxWidth)));
             }
         }
@@ -92,6 +209,7 @@ public final class TablePrinter {
             widest.width--;
             table = tableWidth();
         }
+        buf = new char[tableWidth() + 1]; // + line break
     }
 
     private int tableWidth() {
@@ -101,53 +219,62 @@ public final class TablePrinter {
         return sum; // rough, fine for limiting
     }
 
-    private String border(String kind) {
-        String[] a = unicode
-            ? new String[]{"┌","┬","┐","├","┼","┤","└","┴","┘","─","│"}
-            : new String[]{"+","+","+","+","+","+","+","+","+", "-", "|"};
-        String left = kind.equals("top") ? a[0] : kind.equals("mid") ? a[3] : a[6];
-        String cross= kind.equals("top") ? a[1] : kind.equals("mid") ? a[4] : a[7];
-        String right= kind.equals("top") ? a[2] : kind.equals("mid") ? a[5] : a[8];
-        String dash = a[9];
+    /** Lay out a border line in {@link #buf}; returns its length. */
+    private int border(String kind) {
+        char[] a = unicode
+            ? new char[]{'┌','┬','┐','├','┼','┤','└','┴','┘','─','│'}
+            : new char[]{'+','+','+','+','+','+','+','+','+', '-', '|'};
+        char left = kind.equals("top") ? a[0] : kind.equals("mid") ? a[3] : a[6];
+        char cross= kind.equals("top") ? a[1] : kind.equals("mid") ? a[4] : a[7];
+        char right= kind.equals("top") ? a[2] : kind.equals("mid") ? a[5] : a[8];
+        char dash = a[9];
 
-        StringBuilder sb = new StringBuilder(left);
+        int p = 0;
+        buf[p++] = left;
         for (int i = 0; i < cols.size(); i++) {
-            sb.append(repeat(dash, cols.get(i).width + 2));
-            sb.append(i == cols.size()-1 ? right : cross);
+            int w = cols.get(i).width + 2;
+            Arrays.fill(buf, p, p + w, dash);
+            p += w;
+            buf[p++] = i == cols.size()-1 ? right : cross;
         }
-        return sb.toString();
+        return p;
     }
 
-    private String line(List<String> cells) {
-        String sep = unicode ? "│" : "|";
-        StringBuilder sb = new StringBuilder(sep);
+    /** Lay out one row of cells in {@link #buf}; returns its length. */
+    private int line(Object[] cells) {
+        char sep = unicode ? '│' : '|';
+        int p = 0;
+        buf[p++] = sep;
         for (int i = 0; i < cols.size(); i++) {
             Column c = cols.get(i);
-            String cell = i < cells.size() && cells.get(i) != null ? cells.get(i) : "";
-            cell = fit(cell, c.width);
-            sb.append(' ').append(pad(cell, c.width, c.align)).append(' ').append(sep);
+            String cell = i < cells.length && cells[i] != null ? String.valueOf(cells[i]) : "";
+            buf[p++] = ' ';
+            p = cell(cell, c.width, c.align, p);
+            buf[p++] = ' ';
+            buf[p++] = sep;
         }
-        return sb.toString();
+        return p;
     }
 
-    private static String fit(String s, int w) {
-        if (s.length() <= w) return s;
-        if (w <= 1) return s.substring(0, w);
-        return s.substring(0, Math.max(0, w - 1)) + "…";
-    }
-
-    private static String pad(String s, int w, Align a) {
-        int space = w - s.length(); if (space <= 0) return s;
-        switch (a) {
-            case RIGHT: return repeat(" ", space) + s;
-            case CENTER:
-                int left = space / 2, right = space - left;
-                return repeat(" ", left) + s + repeat(" ", right);
-            default: return s + repeat(" ", space);
+    /** Write {@code s} fitted and padded to width {@code w} at {@code p}; returns the end position. */
+    private int cell(String s, int w, Align a, int p) {
+        int len = s.length();
+        if (len > w) {
+            // fit: cut with an ellipsis
+            if (w <= 1) { s.getChars(0, w, buf, p); return p + w; }
+            s.getChars(0, w - 1, buf, p);
+            buf[p + w - 1] = '…';
+            return p + w;
         }
-    }
-
-    private static String repeat(String ch, int n) {
-        return new String(new char[Math.max(0,n)]).replace("\0", ch);
+        int space = w - len;
+        int left = switch (a) {
+            case RIGHT -> space;
+            case CENTER -> space / 2;
+            default -> 0;
+        };
+        Arrays.fill(buf, p, p + left, ' ');
+        s.getChars(0, len, buf, p + left);
+        Arrays.fill(buf, p + left + len, p + w, ' ');
+        return p + w;
     }
 }
@@ -1,19 +1,231 @@
 package withdrawal;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import internship.ApplicationEvents;
+import internship.ApplicationStatus;
+import internship.Internship;
 import internship.InternshipApp;
 
+/**
+ * Persistent queue of pending withdrawal requests; the source of truth for
+ * which applications await a staff decision.
+ * <p>
+ * Every request gets a position when first queued and is kept in a
+ * {@link TreeMap} by that position, so a request restored by an undo goes back
+ * to its original place instead of the tail. Secondary indexes by application
+ * id, student id and company name let each flow fetch its requests, in the
+ * same order, without scanning every application. The application's
+ * {@code withdrawalRequested} flag is kept in step for display and CSV
+ * compatibility. The queue is saved to {@link #DEFAULT_FILE}.
+ * </p>
+ * <p>
+ * Once registered with {@link ApplicationEvents}, {@link #CLOSER} resolves the
+ * request of an application that closes by any other route (accepting
+ * another offer, a rejection, placement matching, expiry), so staff never
+ * decide on a closed application. Such a request is kept aside and returns to
+ * its position if an undo reopens the application.
+ * </p>
+ */
 public class WithdrawalQueue {
+    public static final String DEFAULT_FILE = "data/withdrawals.csv";
+
     public static class Request {
         public final String id;
         public final InternshipApp app;
         public final String reason;
-        public Request(String id, InternshipApp app, String reason) { this.id=id; this.app=app; this.reason=reason; }
+        public final long submittedAt;
+        /** Queue position, fixed the first time the request is queued. */
+        long order = -1;
+        public Request(String id, InternshipApp app, String reason) { this(id, app, reason, System.currentTimeMillis()); }
+        Request(String id, InternshipApp app, String reason, long submittedAt) {
+            this.id=id; this.app=app; this.reason=reason == null ? "" : reason; this.submittedAt=submittedAt;
+        }
+        String studentKey() { return app.getStudent() != null ? key(app.getStudent().getUserId()) : ""; }
+        String companyKey() { Internship i = app.getInternship(); return i != null ? key(i.getCompanyName()) : ""; }
+    }
+
+    private static final WithdrawalQueue INSTANCE = new WithdrawalQueue();
+    public static WithdrawalQueue get() { return INSTANCE; }
+
+    /** Resolves requests of applications that become WITHDRAWN or UNSUCCESSFUL. */
+    public static final ApplicationEvents.Listener CLOSER = (app, from, to, at) -> INSTANCE.closed(app, from, to);
+
+    private static final Comparator<Request> BY_ORDER = Comparator.comparingLong(r -> r.order);
+
+    private final TreeMap<Long, Request> queue = new TreeMap<>();
+    private final Map<String, Request> byApp = new HashMap<>();
+    private final Map<String, Set<Request>> byStudent = new HashMap<>();
+    private final Map<String, Set<Request>> byCompany = new HashMap<>();
+    private final AtomicInteger seq = new AtomicInteger(0);
+    private long nextOrder;
+    /** Requests resolved because their application closed, by application id. */
+    private final Map<String, Request> closedWith = new HashMap<>();
+
+    private WithdrawalQueue() {}
+
+    private static String key(String s) { return s == null ? "" : s.toLowerCase(); }
+
+    /**
+     * Submit a withdrawal request for an application. Submitting twice for the
+     * same application returns the existing request.
+     *
+     * @param app    application to withdraw
+     * @param reason optional reason given by the student
+     * @return the queued request
+     */
+    public synchronized Request submit(InternshipApp app, String reason) {
+        Request existing = byApp.get(key(app.getId()));
+        if (existing != null) return existing;
+        Request r = new Request(String.format("WR-%05d", seq.incrementAndGet()), app, reason);
+        add(r);
+        return r;
+    }
+
+    private void add(Request r) {
+        if (r.order < 0 || queue.containsKey(r.order)) r.order = nextOrder++;
+        queue.put(r.order, r);
+        byApp.put(key(r.app.getId()), r);
+        byStudent.computeIfAbsent(r.studentKey(), k -> new TreeSet<>(BY_ORDER)).add(r);
+        byCompany.computeIfAbsent(r.companyKey(), k -> new TreeSet<>(BY_ORDER)).add(r);
+        r.app.setWithdrawalRequested(true);
+    }
+
+    /**
+     * Remove the request for an application once it has been decided.
+     * The application's request flag is left to the caller.
+     *
+     * @return the removed request, or {@code null} if none was queued
+     */
+    public synchronized Request resolve(InternshipApp app) {
+        Request r = byApp.remove(key(app.getId()));
+        if (r == null) return null;
+        queue.remove(r.order);
+        unindex(byStudent, r.studentKey(), r);
+        unindex(byCompany, r.companyKey(), r);
+        return r;
+    }
+
+    /**
+     * Put a previously resolved request back at its original position (used
+     * when a decision is undone).
+     */
+    public synchronized void restore(Request r) {
+        if (r == null || byApp.containsKey(key(r.app.getId()))) return;
+        add(r);
+    }
+
+    private synchronized void closed(InternshipApp app, ApplicationStatus from, ApplicationStatus to) {
+        if (isClosed(to)) {
+            Request r = resolve(app);
+            if (r == null) return;
+            closedWith.put(key(app.getId()), r);
+            app.setWithdrawalRequested(false);
+        } else if (isClosed(from)) {
+            restore(closedWith.remove(key(app.getId())));
+        }
+    }
+
+    /** @return whether an application in this status can no longer be withdrawn */
+    public static boolean isClosed(ApplicationStatus s) {
+        return s == ApplicationStatus.WITHDRAWN || s == ApplicationStatus.UNSUCCESSFUL;
+    }
+
+    private static void unindex(Map<String, Set<Request>> index, String k, Request r) {
+        Set<Request> set = index.get(k);
+        if (set == null) return;
+        set.remove(r);
+        if (set.isEmpty()) index.remove(k);
+    }
+
+    public synchronized boolean isEmpty(){ return queue.isEmpty(); }
+    public synchronized int size(){ return queue.size(); }
+
+    /** @return pending requests of applications still open, in submission order */
+    public synchronized List<Request> peekAll(){
+        List<Request> out = new ArrayList<>(queue.size());
+        for (Request r : queue.values()) if (!isClosed(r.app.getStatus())) out.add(r);
+        return out;
+    }
+
+    /** Remove and return the oldest request, or {@code null} if empty. */
+    public synchronized Request poll(){
+        Iterator<Request> it = queue.values().iterator();
+        if (!it.hasNext()) return null;
+        Request r = it.next();
+        resolve(r.app);
+        return r;
+    }
+
+    /** @return the pending request for an application, or {@code null} */
+    public synchronized Request findByApplication(String appId){ return byApp.get(key(appId)); }
+
+    /** @return pending requests of a student in submission order */
+    public synchronized List<Request> findByStudent(String studentId){
+        return new ArrayList<>(byStudent.getOrDefault(key(studentId), Set.of()));
+    }
+
+    /** @return pending requests for internships of a company in submission order */
+    public synchronized List<Request> findByCompany(String company){
+        return new ArrayList<>(byCompany.getOrDefault(key(company), Set.of()));
+    }
+
+    /* -------- Persistence -------- */
+
+    /**
+     * Load pending requests, resolving application ids against {@code applications}.
+     * Applications flagged {@code withdrawalRequested} without a stored request
+     * (e.g. data written before the queue existed) are enqueued after the stored
+     * ones; stored requests whose application is gone or already closed are dropped.
+     *
+     * @param filename     queue file ({@code id,appId,submittedAt,reason})
+     * @param applications all known applications
+     */
+    public synchronized void load(String filename, Collection<InternshipApp> applications) {
+        queue.clear(); byApp.clear(); byStudent.clear(); byCompany.clear(); seq.set(0); nextOrder = 0; closedWith.clear();
+        Map<String, InternshipApp> apps = new HashMap<>();
+        for (InternshipApp a : applications) apps.put(key(a.getId()), a);
+
+        Path p = Path.of(filename);
+        if (Files.exists(p)) {
+            try (BufferedReader br = Files.newBufferedReader(p, StandardCharsets.UTF_8)) {
+                String line = br.readLine(); // header
+                while ((line = br.readLine()) != null) {
+                    String[] f = line.split(",", 4);
+                    if (f.length < 3) continue;
+                    InternshipApp a = apps.get(key(f[1]));
+                    if (a == null || !isOpen(a)) continue;
+                    long at;
+                    try { at = Long.parseLong(f[2]); } catch (NumberFormatException e) { at = 0; }
+                    add(new Request(f[0], a, f.length > 3 ? f[3] : "", at));
+                    try { seq.set(Math.max(seq.get(), Integer.parseInt(f[0].substring(3)))); }
+                    catch (RuntimeException e) { /* foreign id format: keep request, leave sequence */ }
+                }
+            } catch (IOException e) {
+                System.out.println("Error loading withdrawal queue: " + e.getMessage());
+            }
+        }
+        for (InternshipApp a : applications) {
+            if (a.isWithdrawalRequested() && isOpen(a) && !byApp.containsKey(key(a.getId()))) submit(a, "");
+        }
+    }
+
+    private static boolean isOpen(InternshipApp a) { return !isClosed(a.getStatus()); }
+
+    /** Save pending requests in submission order. */
+    public synchronized void save(String filename) {
+        try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(new FileOutputStream(filename), StandardCharsets.UTF_8))) {
+            pw.println("id,appId,submittedAt,reason");
+            for (Request r : queue.values()) {
+                pw.println(r.id + "," + r.app.getId() + "," + r.submittedAt + "," + r.reason.replace('\n', ' '));
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving withdrawal queue: " + e.getMessage());
+        }
     }
-    private final Deque<Request> queue = new ArrayDeque<>();
-    public void submit(InternshipApp app, String reason) { queue.addLast(new Request(UUID.randomUUID().toString(), app, reason)); }
-    public boolean isEmpty(){ return queue.isEmpty(); }
-    public List<Request> peekAll(){ return new ArrayList<>(queue); }
-    public Request poll(){ return queue.pollFirst(); }
 }